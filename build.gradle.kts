@@ -191,7 +191,25 @@ tasks.withType<Test>().configureEach {
 }
 
 tasks.getByName<Test>("test") {
-    useJUnitPlatform()
+    useJUnitPlatform {
+        excludeTags("benchmark")
+    }
+}
+
+// Runs the benchmarks, such as the queries with and without their indexes (QueryIndexBenchmark) and the copy
+// of an edition with and without JDBC batching (CopyServiceBenchmark)
+val benchmark by tasks.registering(Test::class) {
+    description = "Runs the benchmarks."
+    group = "verification"
+    testClassesDirs = sourceSets.test.get().output.classesDirs
+    classpath = sourceSets.test.get().runtimeClasspath
+    useJUnitPlatform {
+        includeTags("benchmark")
+    }
+    maxHeapSize = "4g"
+    systemProperties(System.getProperties().filterKeys { (it as String).startsWith("spring.datasource.") }
+        .mapKeys { it.key as String })
+    outputs.upToDateWhen { false }
 }
 
 dependencyManagement {
@@ -218,6 +236,11 @@ dependencies {
     implementation("org.mariadb.jdbc:mariadb-java-client")
     implementation("org.postgresql:postgresql")
 
+    // Second-level cache
+    implementation("org.hibernate.orm:hibernate-jcache")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("com.github.ben-manes.caffeine:jcache")
+
     // Spring Boot
     implementation("org.springframework.boot:spring-boot-starter")
     implementation("org.springframework.boot:spring-boot-starter-data-jpa")
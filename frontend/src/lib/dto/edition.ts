@@ -34,3 +34,20 @@ export interface ManagedEdition {
         name: string;
     };
 }
+
+export interface CopyJob {
+    id: number;
+    originalId: number;
+    copyId: number;
+    status: "QUEUED" | "RUNNING" | "COMPLETED" | "FAILED";
+    phase:
+        | "PREPARING"
+        | "CHECKPOINTS"
+        | "PATHS"
+        | "MODULES"
+        | "EXTERNAL_SKILLS"
+        | "CONNECTIONS"
+        | "SAVING";
+    copied: number;
+    total: number;
+}
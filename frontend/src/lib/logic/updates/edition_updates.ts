@@ -1,3 +1,4 @@
+import type { CopyJob } from "../../dto/edition";
 import { withCsrf } from "../csrf";
 import { getEdition } from "../edition/edition.svelte";
 import { loadPage } from "../routing.svelte";
@@ -40,15 +41,30 @@ export async function resetProgress() {
     }
 }
 
-export async function copyEdition(toEdition: number) {
+export async function copyEdition(toEdition: number, onProgress: (job: CopyJob) => void) {
     const response = await fetch(
         `/api/editions/${getEdition().id}/copy-to/${toEdition}`,
         withCsrf({
             method: "POST",
         }),
     );
+    if (!response.ok) {
+        return;
+    }
 
-    if (response.ok) {
+    // The copy runs in the background, so poll its progress until it is finished
+    let job: CopyJob = await response.json();
+    while (job.status === "QUEUED" || job.status === "RUNNING") {
+        onProgress(job);
+        await new Promise(resolve => setTimeout(resolve, 1000));
+        const progress = await fetch(`/api/editions/${toEdition}/copy-job`);
+        if (!progress.ok) {
+            return;
+        }
+        job = await progress.json();
+    }
+
+    if (job.status === "COMPLETED") {
         loadPage(`/editions/${toEdition}`);
     }
 }
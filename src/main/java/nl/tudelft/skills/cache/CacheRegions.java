@@ -0,0 +1,65 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.cache;
+
+import java.util.List;
+
+/**
+ * The regions of the Hibernate second-level cache. The structure of a circuit only changes when an editor
+ * edits it, so the entities that make up the structure and the collections between them are cached in a
+ * region of their own. The size of each region can be configured separately.
+ */
+public final class CacheRegions {
+
+	public static final String SKILL = "skill";
+	public static final String SKILL_PARENTS = "skill.parents";
+	public static final String SKILL_CHILDREN = "skill.children";
+	public static final String SKILL_TASKS = "skill.tasks";
+
+	public static final String MODULE = "module";
+	public static final String MODULE_SUBMODULES = "module.submodules";
+	public static final String MODULE_EXTERNAL_SKILLS = "module.external-skills";
+
+	public static final String SUBMODULE = "submodule";
+	public static final String SUBMODULE_SKILLS = "submodule.skills";
+
+	public static final String CHECKPOINT = "checkpoint";
+	public static final String CHECKPOINT_SKILLS = "checkpoint.skills";
+
+	public static final String PATH = "path";
+	public static final String PATH_TASKS = "path.tasks";
+
+	public static final String TASK = "task";
+	public static final String TASK_PATHS = "task.paths";
+	public static final String CHOICE_TASK_CHOICES = "choice-task.choices";
+
+	public static final String TASK_INFO = "task-info";
+
+	public static final List<String> ALL = List.of(
+			SKILL, SKILL_PARENTS, SKILL_CHILDREN, SKILL_TASKS,
+			MODULE, MODULE_SUBMODULES, MODULE_EXTERNAL_SKILLS,
+			SUBMODULE, SUBMODULE_SKILLS,
+			CHECKPOINT, CHECKPOINT_SKILLS,
+			PATH, PATH_TASKS,
+			TASK, TASK_PATHS, CHOICE_TASK_CHOICES,
+			TASK_INFO);
+
+	private CacheRegions() {
+	}
+
+}
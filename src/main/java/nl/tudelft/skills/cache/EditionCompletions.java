@@ -0,0 +1,98 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.cache;
+
+import java.util.BitSet;
+import java.util.Collection;
+
+import nl.tudelft.skills.model.TaskInfo;
+
+/**
+ * The task infos of an edition that a person completed, stored as a bitset over the task info indices of the
+ * {@link EditionGraph} of the edition. Task infos that are not part of the graph are never completed.
+ */
+public final class EditionCompletions {
+
+	private final EditionGraph graph;
+	private final BitSet completed;
+
+	private EditionCompletions(EditionGraph graph, BitSet completed) {
+		this.graph = graph;
+		this.completed = completed;
+	}
+
+	/**
+	 * Creates the completions of a person in an edition.
+	 *
+	 * @param  graph                The compiled edition.
+	 * @param  completedTaskInfoIds The ids of the task infos the person completed. Ids of task infos that are
+	 *                              not part of the graph are ignored.
+	 * @return                      The completions of the person in the edition.
+	 */
+	public static EditionCompletions of(EditionGraph graph, Collection<Long> completedTaskInfoIds) {
+		BitSet completed = new BitSet(graph.taskInfoCount());
+		for (Long id : completedTaskInfoIds) {
+			int taskInfo = graph.indexOfTaskInfo(id);
+			if (taskInfo >= 0) {
+				completed.set(taskInfo);
+			}
+		}
+		return new EditionCompletions(graph, completed);
+	}
+
+	public EditionGraph getGraph() {
+		return graph;
+	}
+
+	public boolean isCompleted(int taskInfo) {
+		return completed.get(taskInfo);
+	}
+
+	public boolean isCompleted(Long taskInfoId) {
+		int taskInfo = graph.indexOfTaskInfo(taskInfoId);
+		return taskInfo >= 0 && completed.get(taskInfo);
+	}
+
+	public boolean isCompleted(TaskInfo taskInfo) {
+		return isCompleted(taskInfo.getId());
+	}
+
+	/**
+	 * Creates a copy of these completions in which a task info is completed or uncompleted.
+	 *
+	 * @param  taskInfoId The id of the task info.
+	 * @param  completed  Whether the task info is completed.
+	 * @return            The changed completions.
+	 */
+	public EditionCompletions with(Long taskInfoId, boolean completed) {
+		BitSet changed = (BitSet) this.completed.clone();
+		int taskInfo = graph.indexOfTaskInfo(taskInfoId);
+		if (taskInfo >= 0) {
+			changed.set(taskInfo, completed);
+		}
+		return new EditionCompletions(graph, changed);
+	}
+
+	/**
+	 * @return The number of completed task infos.
+	 */
+	public int count() {
+		return completed.cardinality();
+	}
+
+}
@@ -0,0 +1,935 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.cache;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.hibernate.Hibernate;
+
+import nl.tudelft.skills.model.*;
+import nl.tudelft.skills.model.bookmark.BookmarkList;
+
+/**
+ * An immutable snapshot of the structure of an edition: its skills, their connections, their tasks, the task
+ * infos of those tasks and the paths the tasks are on. Every skill, task, task info and path is given a dense
+ * index, and all relations are stored as arrays of indices. Relations from one element to many are stored in
+ * compressed form: the targets of element {@code i} are {@code targets[offsets[i]]} up to (but excluding)
+ * {@code targets[offsets[i + 1]]}.
+ *
+ * The snapshot holds no references to entities, so it can be shared between requests and threads.
+ */
+public final class EditionGraph {
+
+	private final Long editionId;
+	private final Set<Long> dependencies;
+
+	private final long[] skillIds;
+	private final Map<Long, Integer> skillIndices;
+	private final boolean[] placed;
+	private final boolean[] essential;
+	private final boolean[] hidden;
+	private final int[] parentOffsets;
+	private final int[] parents;
+	private final int[] childOffsets;
+	private final int[] children;
+	private final int[] skillTaskOffsets;
+	private final int[] skillTasks;
+	private final int[] topologicalOrder;
+	private final int[] topologicalRanks;
+	private final int[] closestCheckpoints;
+	private final Map<Long, List<Long>> submoduleParents;
+	private final Map<Long, List<Long>> submoduleChildren;
+	private final Requirements[] requirements;
+	private final Map<Long, int[]> hiddenSkillsByTaskInfo;
+	private final Map<Long, int[]> hiddenSkillsByChoiceTask;
+	private final Map<Long, int[]> hiddenSkillsBySkill;
+
+	private final long[] taskIds;
+	private final Map<Long, Integer> taskIndices;
+	private final int[] minTasks;
+	private final int[] taskSkillOffsets;
+	private final int[] taskSkills;
+	private final int[] taskInfoOffsets;
+	private final int[] taskInfos;
+
+	private final long[] taskInfoIds;
+	private final int[] taskInfoTasks;
+	private final Map<Long, Integer> taskInfoIndices;
+
+	private final long[] pathIds;
+	private final Map<Long, Integer> pathIndices;
+	private final BitSet[] pathTasks;
+
+	private final long[] checkpointIds;
+	private final LocalDateTime[] checkpointDeadlines;
+
+	private EditionGraph(Long editionId, Compiler compiler) {
+		this.editionId = editionId;
+		this.dependencies = compiler.skills.stream().map(EditionGraph::editionIdOf).filter(Objects::nonNull)
+				.collect(Collectors.toUnmodifiableSet());
+
+		int skillCount = compiler.skills.size();
+		this.skillIds = new long[skillCount];
+		this.placed = new boolean[skillCount];
+		this.essential = new boolean[skillCount];
+		this.hidden = new boolean[skillCount];
+		List<int[]> skillParents = new ArrayList<>(skillCount);
+		List<int[]> tasksOfSkills = new ArrayList<>(skillCount);
+		int[] skillCheckpoints = new int[skillCount];
+		long[] skillSubmodules = new long[skillCount];
+		Indices<Checkpoint> checkpointIndices = new Indices<>(Checkpoint::getId);
+		List<Checkpoint> checkpoints = new ArrayList<>();
+		for (int i = 0; i < skillCount; i++) {
+			AbstractSkill skill = compiler.skills.get(i);
+			skillIds[i] = idOf(skill.getId());
+			placed[i] = skill.getColumn() != null;
+			essential[i] = skill.isEssential();
+			hidden[i] = skill instanceof Skill s && s.isHidden();
+			skillParents.add(skill.getParents().stream().mapToInt(compiler::indexOf).toArray());
+			tasksOfSkills.add(tasksOf(skill).stream().mapToInt(compiler::indexOf).toArray());
+			skillSubmodules[i] = skill.getSubmodule() == null ? -1 : idOf(skill.getSubmodule().getId());
+			skillCheckpoints[i] = -1;
+			Checkpoint checkpoint = skill instanceof Skill s ? s.getCheckpoint() : null;
+			if (checkpoint != null && checkpoint.getEdition() != null
+					&& Objects.equals(checkpoint.getEdition().getId(), editionId)) {
+				if (checkpointIndices.add(checkpoint, checkpoints.size())) {
+					checkpoints.add(checkpoint);
+				}
+				skillCheckpoints[i] = checkpointIndices.get(checkpoint);
+			}
+		}
+		this.skillIndices = indices(skillIds);
+		this.parentOffsets = offsets(skillParents);
+		this.parents = flatten(skillParents, parentOffsets);
+		List<int[]> skillChildren = invert(skillParents, skillCount);
+		this.childOffsets = offsets(skillChildren);
+		this.children = flatten(skillChildren, childOffsets);
+		this.skillTaskOffsets = offsets(tasksOfSkills);
+		this.skillTasks = flatten(tasksOfSkills, skillTaskOffsets);
+		this.topologicalOrder = topologicalOrder(skillCount, parentOffsets, parents);
+		this.topologicalRanks = new int[skillCount];
+		for (int rank = 0; rank < skillCount; rank++) {
+			topologicalRanks[topologicalOrder[rank]] = rank;
+		}
+
+		this.checkpointIds = checkpoints.stream().mapToLong(checkpoint -> idOf(checkpoint.getId())).toArray();
+		this.checkpointDeadlines = checkpoints.stream().map(Checkpoint::getDeadline)
+				.toArray(LocalDateTime[]::new);
+		// A skill with a checkpoint in this edition takes it from no other skill, so that a cycle through
+		// external skills is only broken where the search for a checkpoint does not stop
+		List<int[]> checkpointSources = new ArrayList<>(skillCount);
+		for (int i = 0; i < skillCount; i++) {
+			if (skillCheckpoints[i] >= 0) {
+				checkpointSources.add(new int[0]);
+			} else {
+				checkpointSources.add(compiler.skills.get(i) instanceof ExternalSkill externalSkill
+						? new int[] { compiler.indexOf(externalSkill.getSkill()) }
+						: skillChildren.get(i));
+			}
+		}
+		this.closestCheckpoints = closestCheckpoints(skillCheckpoints, checkpointSources,
+				checkpointDeadlines);
+
+		Map<Long, Set<Long>> parentSubmodules = new HashMap<>();
+		Map<Long, Set<Long>> childSubmodules = new HashMap<>();
+		for (int i = 0; i < skillCount; i++) {
+			if (compiler.skills.get(i) instanceof Skill && skillSubmodules[i] >= 0) {
+				addSubmodules(parentSubmodules, skillSubmodules, i, skillParents.get(i));
+				addSubmodules(childSubmodules, skillSubmodules, i, skillChildren.get(i));
+			}
+		}
+		this.submoduleParents = toLists(parentSubmodules);
+		this.submoduleChildren = toLists(childSubmodules);
+
+		this.requirements = new Requirements[skillCount];
+		Map<Long, List<Integer>> byTaskInfo = new HashMap<>();
+		Map<Long, List<Integer>> byChoiceTask = new HashMap<>();
+		Map<Long, List<Integer>> bySkill = new HashMap<>();
+		for (int i = 0; i < skillCount; i++) {
+			if (compiler.skills.get(i) instanceof Skill skill && skill.isHidden()
+					&& skill.getRequirements() != null) {
+				BookmarkList list = skill.getRequirements();
+				requirements[i] = new Requirements(ids(list.getTasks(), TaskInfo::getId),
+						ids(list.getChoiceTasks(), ChoiceTask::getId), ids(list.getSkills(), Skill::getId));
+				addHiddenSkill(byTaskInfo, requirements[i].taskInfoIds(), i);
+				addHiddenSkill(byChoiceTask, requirements[i].choiceTaskIds(), i);
+				addHiddenSkill(bySkill, requirements[i].skillIds(), i);
+			}
+		}
+		this.hiddenSkillsByTaskInfo = toArrays(byTaskInfo);
+		this.hiddenSkillsByChoiceTask = toArrays(byChoiceTask);
+		this.hiddenSkillsBySkill = toArrays(bySkill);
+
+		int taskCount = compiler.tasks.size();
+		this.taskIds = new long[taskCount];
+		this.minTasks = new int[taskCount];
+		List<int[]> infosOfTasks = new ArrayList<>(taskCount);
+		List<int[]> pathsOfTasks = new ArrayList<>(taskCount);
+		for (int i = 0; i < taskCount; i++) {
+			Task task = compiler.tasks.get(i);
+			taskIds[i] = idOf(task.getId());
+			minTasks[i] = task instanceof ChoiceTask choiceTask ? choiceTask.getMinTasks() : 1;
+			infosOfTasks.add(infosOf(task).stream().mapToInt(compiler::indexOf).toArray());
+			pathsOfTasks.add(task.getPaths().stream().mapToInt(compiler::indexOf).toArray());
+		}
+		this.taskIndices = indices(taskIds);
+		this.taskInfoOffsets = offsets(infosOfTasks);
+		this.taskInfos = flatten(infosOfTasks, taskInfoOffsets);
+
+		List<int[]> skillsOfTasks = invert(tasksOfSkills, taskCount);
+		this.taskSkillOffsets = offsets(skillsOfTasks);
+		this.taskSkills = flatten(skillsOfTasks, taskSkillOffsets);
+
+		this.taskInfoIds = compiler.taskInfos.stream().mapToLong(info -> idOf(info.getId())).toArray();
+		this.taskInfoTasks = new int[taskInfoIds.length];
+		for (int task = 0; task < taskCount; task++) {
+			for (int info : infosOfTasks.get(task)) {
+				taskInfoTasks[info] = task;
+			}
+		}
+		this.taskInfoIndices = indices(taskInfoIds);
+
+		this.pathIds = compiler.paths.stream().mapToLong(path -> idOf(path.getId())).toArray();
+		this.pathIndices = indices(pathIds);
+		this.pathTasks = new BitSet[pathIds.length];
+		for (int path = 0; path < pathIds.length; path++) {
+			pathTasks[path] = new BitSet(taskCount);
+		}
+		for (int task = 0; task < taskCount; task++) {
+			for (int path : pathsOfTasks.get(task)) {
+				pathTasks[path].set(task);
+			}
+		}
+	}
+
+	/**
+	 * Compiles the structure of an edition. This includes all skills and external skills in the edition, as
+	 * well as any skills outside of the edition that these depend on.
+	 *
+	 * @param  edition The edition to compile.
+	 * @return         The compiled edition.
+	 */
+	public static EditionGraph compile(SCEdition edition) {
+		Compiler compiler = new Compiler();
+		edition.getModules().forEach(module -> {
+			module.getSubmodules().forEach(submodule -> submodule.getSkills().forEach(compiler::add));
+			module.getExternalSkills().forEach(compiler::add);
+		});
+		return compiler.compile(edition.getId());
+	}
+
+	public Long getEditionId() {
+		return editionId;
+	}
+
+	/**
+	 * Checks whether this graph depends on the structure of an edition. Besides its own edition, a graph
+	 * depends on the editions of the skills that its external skills refer to, and on their ancestors.
+	 *
+	 * @param  editionId The id of the edition.
+	 * @return           True if a change to the edition may change this graph.
+	 */
+	public boolean dependsOn(Long editionId) {
+		return Objects.equals(this.editionId, editionId) || dependencies.contains(editionId);
+	}
+
+	/**
+	 * @return The ids of all editions that the skills in this graph are in.
+	 */
+	public Set<Long> getEditionIds() {
+		Set<Long> editionIds = new HashSet<>(dependencies);
+		if (editionId != null) {
+			editionIds.add(editionId);
+		}
+		return editionIds;
+	}
+
+	public int skillCount() {
+		return skillIds.length;
+	}
+
+	public long skillId(int skill) {
+		return skillIds[skill];
+	}
+
+	/**
+	 * @param  skillId The id of the skill.
+	 * @return         The index of the skill, or -1 if the skill is not part of this graph.
+	 */
+	public int indexOfSkill(Long skillId) {
+		return skillIndices.getOrDefault(skillId, -1);
+	}
+
+	public boolean isPlaced(int skill) {
+		return placed[skill];
+	}
+
+	public boolean isEssential(int skill) {
+		return essential[skill];
+	}
+
+	public boolean isHidden(int skill) {
+		return hidden[skill];
+	}
+
+	public int[] parentsOf(int skill) {
+		return Arrays.copyOfRange(parents, parentOffsets[skill], parentOffsets[skill + 1]);
+	}
+
+	public int[] childrenOf(int skill) {
+		return Arrays.copyOfRange(children, childOffsets[skill], childOffsets[skill + 1]);
+	}
+
+	public int parentStart(int skill) {
+		return parentOffsets[skill];
+	}
+
+	public int parentEnd(int skill) {
+		return parentOffsets[skill + 1];
+	}
+
+	public int parent(int offset) {
+		return parents[offset];
+	}
+
+	public int childStart(int skill) {
+		return childOffsets[skill];
+	}
+
+	public int childEnd(int skill) {
+		return childOffsets[skill + 1];
+	}
+
+	public int child(int offset) {
+		return children[offset];
+	}
+
+	/**
+	 * The tasks of a skill start at this offset. For external skills, these are the tasks of the skill they
+	 * refer to.
+	 */
+	public int taskStart(int skill) {
+		return skillTaskOffsets[skill];
+	}
+
+	public int taskEnd(int skill) {
+		return skillTaskOffsets[skill + 1];
+	}
+
+	public int task(int offset) {
+		return skillTasks[offset];
+	}
+
+	/**
+	 * Skills are ranked such that every skill comes after its parents. Skills on a cycle are ranked as if the
+	 * connection that closes the cycle does not exist.
+	 *
+	 * @param  skill The index of the skill.
+	 * @return       The position of the skill in topological order.
+	 */
+	public int topologicalRank(int skill) {
+		return topologicalRanks[skill];
+	}
+
+	/**
+	 * @param  rank The position in topological order.
+	 * @return      The index of the skill at the position.
+	 */
+	public int skillAtRank(int rank) {
+		return topologicalOrder[rank];
+	}
+
+	/**
+	 * Checks whether a skill is an ancestor of another skill, by searching the parents of the other skill.
+	 * Connecting a skill to one of its ancestors would create a cycle.
+	 *
+	 * @param  ancestor The index of the possible ancestor.
+	 * @param  skill    The index of the skill.
+	 * @return          True if the ancestor can be reached from the skill through its parents.
+	 */
+	public boolean isAncestor(int ancestor, int skill) {
+		BitSet visited = new BitSet(skillCount());
+		int[] stack = new int[skillCount()];
+		int size = 0;
+		stack[size++] = skill;
+		visited.set(skill);
+		while (size > 0) {
+			int next = stack[--size];
+			for (int i = parentOffsets[next]; i < parentOffsets[next + 1]; i++) {
+				int parent = parents[i];
+				if (parent == ancestor) {
+					return true;
+				}
+				if (!visited.get(parent)) {
+					visited.set(parent);
+					stack[size++] = parent;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Finds all cycles in the connections between skills, as the strongly connected components of the graph
+	 * that contain a cycle. This uses an iterative version of Tarjan's algorithm, so it takes linear time and
+	 * does not overflow the stack on long chains of skills.
+	 *
+	 * @return The ids of the skills on each cycle.
+	 */
+	public List<List<Long>> findCycles() {
+		int size = skillCount();
+		int[] index = new int[size];
+		Arrays.fill(index, -1);
+		int[] low = new int[size];
+		boolean[] onStack = new boolean[size];
+		int[] stack = new int[size];
+		int stackSize = 0;
+		int[] path = new int[size];
+		int[] next = new int[size];
+		int counter = 0;
+		List<List<Long>> cycles = new ArrayList<>();
+		for (int root = 0; root < size; root++) {
+			if (index[root] >= 0) {
+				continue;
+			}
+			int depth = 0;
+			path[depth] = root;
+			next[depth] = parentOffsets[root];
+			index[root] = low[root] = counter++;
+			stack[stackSize++] = root;
+			onStack[root] = true;
+			while (depth >= 0) {
+				int skill = path[depth];
+				if (next[depth] < parentOffsets[skill + 1]) {
+					int parent = parents[next[depth]++];
+					if (index[parent] < 0) {
+						index[parent] = low[parent] = counter++;
+						stack[stackSize++] = parent;
+						onStack[parent] = true;
+						depth++;
+						path[depth] = parent;
+						next[depth] = parentOffsets[parent];
+					} else if (onStack[parent]) {
+						low[skill] = Math.min(low[skill], index[parent]);
+					}
+					continue;
+				}
+				if (low[skill] == index[skill]) {
+					int start = stackSize - 1;
+					while (stack[start] != skill) {
+						start--;
+					}
+					List<Long> component = new ArrayList<>();
+					for (int i = start; i < stackSize; i++) {
+						onStack[stack[i]] = false;
+						component.add(skillIds[stack[i]]);
+					}
+					stackSize = start;
+					if (component.size() > 1 || isParentOfItself(skill)) {
+						cycles.add(component);
+					}
+				}
+				depth--;
+				if (depth >= 0) {
+					low[path[depth]] = Math.min(low[path[depth]], low[skill]);
+				}
+			}
+		}
+		return cycles;
+	}
+
+	private boolean isParentOfItself(int skill) {
+		for (int i = parentOffsets[skill]; i < parentOffsets[skill + 1]; i++) {
+			if (parents[i] == skill) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Finds the checkpoint in this edition that a skill leads to. This is the checkpoint of the skill itself
+	 * if it is in this edition, and otherwise the checkpoint with the earliest deadline that any of its
+	 * children lead to. External skills lead to the checkpoint that the skill they refer to leads to.
+	 *
+	 * @param  skill The index of the skill.
+	 * @return       The id of the checkpoint, or null if the skill does not lead to a checkpoint in this
+	 *               edition.
+	 */
+	public Long closestCheckpointId(int skill) {
+		int checkpoint = closestCheckpoints[skill];
+		return checkpoint < 0 || checkpointIds[checkpoint] < 0 ? null : checkpointIds[checkpoint];
+	}
+
+	/**
+	 * The parents of a submodule are the submodules of the parents of all its skills. A submodule is never a
+	 * parent of itself.
+	 *
+	 * @param  submoduleId The id of the submodule.
+	 * @return             The ids of the parents of the submodule.
+	 */
+	public List<Long> submoduleParentIds(Long submoduleId) {
+		return submoduleParents.getOrDefault(submoduleId, Collections.emptyList());
+	}
+
+	/**
+	 * The children of a submodule are the submodules of the children of all its skills. A submodule is never
+	 * a child of itself.
+	 *
+	 * @param  submoduleId The id of the submodule.
+	 * @return             The ids of the children of the submodule.
+	 */
+	public List<Long> submoduleChildIds(Long submoduleId) {
+		return submoduleChildren.getOrDefault(submoduleId, Collections.emptyList());
+	}
+
+	/**
+	 * @param  skill The index of the skill.
+	 * @return       The requirements to reveal the skill, or null if the skill is not hidden.
+	 */
+	public Requirements requirementsOf(int skill) {
+		return requirements[skill];
+	}
+
+	/**
+	 * Finds the hidden skills that may be revealed when a task info is completed. These are the hidden skills
+	 * whose requirements contain the task info, the choice task it is part of or the skill of its task.
+	 *
+	 * @param  taskInfoId   The id of the task info.
+	 * @param  choiceTaskId The id of the choice task of the task info, or null if it is not a subtask.
+	 * @param  skillId      The id of the skill of the task of the task info.
+	 * @return              The indices of the hidden skills.
+	 */
+	public int[] hiddenSkillsRequiring(Long taskInfoId, Long choiceTaskId, Long skillId) {
+		return Stream.of(hiddenSkillsByTaskInfo.get(taskInfoId), hiddenSkillsByChoiceTask.get(choiceTaskId),
+				hiddenSkillsBySkill.get(skillId)).filter(Objects::nonNull).flatMapToInt(IntStream::of)
+				.distinct().toArray();
+	}
+
+	public int taskCount() {
+		return taskIds.length;
+	}
+
+	public long taskId(int task) {
+		return taskIds[task];
+	}
+
+	public int indexOfTask(Long taskId) {
+		return taskIndices.getOrDefault(taskId, -1);
+	}
+
+	/**
+	 * @return The number of task infos of a task that need to be completed for the task to be completed. This
+	 *         is 1 for regular tasks.
+	 */
+	public int minTasks(int task) {
+		return minTasks[task];
+	}
+
+	/**
+	 * The skills that have a task start at this offset. These are the skill of the task and all external
+	 * skills that refer to it.
+	 */
+	public int skillStart(int task) {
+		return taskSkillOffsets[task];
+	}
+
+	public int skillEnd(int task) {
+		return taskSkillOffsets[task + 1];
+	}
+
+	public int skill(int offset) {
+		return taskSkills[offset];
+	}
+
+	public int taskInfoStart(int task) {
+		return taskInfoOffsets[task];
+	}
+
+	public int taskInfoEnd(int task) {
+		return taskInfoOffsets[task + 1];
+	}
+
+	public int taskInfo(int offset) {
+		return taskInfos[offset];
+	}
+
+	public boolean isTaskOnPath(int task, int path) {
+		return pathTasks[path].get(task);
+	}
+
+	public int taskInfoCount() {
+		return taskInfoIds.length;
+	}
+
+	public long taskInfoId(int taskInfo) {
+		return taskInfoIds[taskInfo];
+	}
+
+	/**
+	 * @param  taskInfo The index of the task info.
+	 * @return          The index of the regular or choice task the task info belongs to.
+	 */
+	public int taskOf(int taskInfo) {
+		return taskInfoTasks[taskInfo];
+	}
+
+	public int indexOfTaskInfo(Long taskInfoId) {
+		return taskInfoIndices.getOrDefault(taskInfoId, -1);
+	}
+
+	public int pathCount() {
+		return pathIds.length;
+	}
+
+	public long pathId(int path) {
+		return pathIds[path];
+	}
+
+	public int indexOfPath(Long pathId) {
+		return pathIndices.getOrDefault(pathId, -1);
+	}
+
+	/**
+	 * @param  path The index of the path.
+	 * @return      The indices of the tasks on the path. The bitset is a copy, so it can be modified freely.
+	 */
+	public BitSet tasksOnPath(int path) {
+		return (BitSet) pathTasks[path].clone();
+	}
+
+	/**
+	 * Finds the id of the edition a skill is in.
+	 *
+	 * @param  abstractSkill The skill.
+	 * @return               The id of the edition of the skill, or null if it is not in a module yet.
+	 */
+	public static Long editionIdOf(AbstractSkill abstractSkill) {
+		SCModule module = switch (abstractSkill) {
+			case ExternalSkill externalSkill -> externalSkill.getModule();
+			case Skill skill -> skill.getSubmodule() == null ? null : skill.getSubmodule().getModule();
+			default -> null; // Unreachable
+		};
+		return module == null || module.getEdition() == null ? null : module.getEdition().getId();
+	}
+
+	private static List<Task> tasksOf(AbstractSkill abstractSkill) {
+		return switch (abstractSkill) {
+			case ExternalSkill externalSkill -> externalSkill.getSkill().getTasks();
+			case Skill skill -> skill.getTasks();
+			default -> Collections.emptyList(); // Unreachable
+		};
+	}
+
+	private static List<TaskInfo> infosOf(Task task) {
+		return switch (task) {
+			case RegularTask regularTask -> List.of(regularTask.getTaskInfo());
+			case ChoiceTask choiceTask -> choiceTask.getTasks();
+			default -> Collections.emptyList(); // Unreachable
+		};
+	}
+
+	/**
+	 * Entities that are not saved yet have no id. These are given id -1, as no entity has a negative id.
+	 */
+	private static long idOf(Long id) {
+		return id == null ? -1 : id;
+	}
+
+	private static Map<Long, Integer> indices(long[] ids) {
+		Map<Long, Integer> indices = new HashMap<>();
+		for (int i = 0; i < ids.length; i++) {
+			if (ids[i] >= 0) {
+				indices.put(ids[i], i);
+			}
+		}
+		return indices;
+	}
+
+	private static <T> Set<Long> ids(Collection<T> entities, Function<T, Long> id) {
+		return entities.stream().map(id).filter(Objects::nonNull).collect(Collectors.toUnmodifiableSet());
+	}
+
+	private static void addHiddenSkill(Map<Long, List<Integer>> hiddenSkills, Set<Long> ids, int skill) {
+		ids.forEach(id -> hiddenSkills.computeIfAbsent(id, i -> new ArrayList<>()).add(skill));
+	}
+
+	private static Map<Long, int[]> toArrays(Map<Long, List<Integer>> lists) {
+		Map<Long, int[]> arrays = new HashMap<>();
+		lists.forEach((id, list) -> arrays.put(id, list.stream().mapToInt(Integer::intValue).toArray()));
+		return Collections.unmodifiableMap(arrays);
+	}
+
+	private static void addSubmodules(Map<Long, Set<Long>> submodules, long[] skillSubmodules, int skill,
+			int[] related) {
+		long submodule = skillSubmodules[skill];
+		for (int other : related) {
+			if (skillSubmodules[other] >= 0 && skillSubmodules[other] != submodule) {
+				submodules.computeIfAbsent(submodule, id -> new LinkedHashSet<>())
+						.add(skillSubmodules[other]);
+			}
+		}
+	}
+
+	private static Map<Long, List<Long>> toLists(Map<Long, Set<Long>> sets) {
+		Map<Long, List<Long>> lists = new HashMap<>();
+		sets.forEach((id, set) -> lists.put(id, List.copyOf(set)));
+		return Collections.unmodifiableMap(lists);
+	}
+
+	private static int[] offsets(List<int[]> lists) {
+		int[] offsets = new int[lists.size() + 1];
+		for (int i = 0; i < lists.size(); i++) {
+			offsets[i + 1] = offsets[i] + lists.get(i).length;
+		}
+		return offsets;
+	}
+
+	private static int[] flatten(List<int[]> lists, int[] offsets) {
+		int[] flat = new int[offsets[lists.size()]];
+		for (int i = 0; i < lists.size(); i++) {
+			System.arraycopy(lists.get(i), 0, flat, offsets[i], lists.get(i).length);
+		}
+		return flat;
+	}
+
+	private static List<int[]> invert(List<int[]> lists, int size) {
+		int[] counts = new int[size];
+		lists.forEach(targets -> Arrays.stream(targets).forEach(target -> counts[target]++));
+		List<int[]> inverted = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			inverted.add(new int[counts[i]]);
+		}
+		int[] filled = new int[size];
+		for (int i = 0; i < lists.size(); i++) {
+			for (int target : lists.get(i)) {
+				inverted.get(target)[filled[target]++] = i;
+			}
+		}
+		return inverted;
+	}
+
+	/**
+	 * Finds the closest checkpoint of every skill, see {@link #closestCheckpointId(int)}. The skills are
+	 * visited once, in an order where every skill comes after the skills it takes its checkpoint from. On a
+	 * cycle, the skill that closes the cycle is ignored.
+	 */
+	private static int[] closestCheckpoints(int[] skillCheckpoints, List<int[]> sources,
+			LocalDateTime[] deadlines) {
+		int[] sourceOffsets = offsets(sources);
+		int[] flatSources = flatten(sources, sourceOffsets);
+		int[] closest = new int[skillCheckpoints.length];
+		Arrays.fill(closest, -1);
+		for (int skill : topologicalOrder(skillCheckpoints.length, sourceOffsets, flatSources)) {
+			closest[skill] = skillCheckpoints[skill];
+			if (closest[skill] >= 0) {
+				continue;
+			}
+			for (int i = sourceOffsets[skill]; i < sourceOffsets[skill + 1]; i++) {
+				int candidate = closest[flatSources[i]];
+				if (candidate >= 0 && (closest[skill] < 0
+						|| Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder())
+								.compare(deadlines[candidate], deadlines[closest[skill]]) < 0)) {
+					closest[skill] = candidate;
+				}
+			}
+		}
+		return closest;
+	}
+
+	/**
+	 * Orders all skills such that every skill comes after its parents, using an iterative depth-first search
+	 * over the parents of every skill. A parent that is reached while it is still being searched closes a
+	 * cycle, and is skipped. Any other relation between skills can be passed as parents to order by that
+	 * relation instead.
+	 */
+	private static int[] topologicalOrder(int size, int[] parentOffsets, int[] parents) {
+		int[] order = new int[size];
+		int ordered = 0;
+		boolean[] visited = new boolean[size];
+		int[] stack = new int[size];
+		int[] next = new int[size];
+		for (int root = 0; root < size; root++) {
+			if (visited[root]) {
+				continue;
+			}
+			int depth = 0;
+			visited[root] = true;
+			stack[depth] = root;
+			next[depth] = parentOffsets[root];
+			while (depth >= 0) {
+				int skill = stack[depth];
+				if (next[depth] < parentOffsets[skill + 1]) {
+					int parent = parents[next[depth]++];
+					if (!visited[parent]) {
+						visited[parent] = true;
+						depth++;
+						stack[depth] = parent;
+						next[depth] = parentOffsets[parent];
+					}
+				} else {
+					order[ordered++] = skill;
+					depth--;
+				}
+			}
+		}
+		return order;
+	}
+
+	/**
+	 * The ids of everything that needs to be completed to reveal a hidden skill.
+	 *
+	 * @param taskInfoIds   The ids of the task infos that need to be completed.
+	 * @param choiceTaskIds The ids of the choice tasks that need to be completed.
+	 * @param skillIds      The ids of the skills that need to be completed.
+	 */
+	public record Requirements(Set<Long> taskInfoIds, Set<Long> choiceTaskIds, Set<Long> skillIds) {
+	}
+
+	/**
+	 * The indices of entities while a graph is being compiled. Saved entities are identified by their id, so
+	 * that a Hibernate proxy and the entity it refers to get the same index. Entities that are not saved yet
+	 * are identified by identity, so that they can be compiled as well.
+	 */
+	private static final class Indices<T> {
+
+		private final Function<T, Long> id;
+		private final Map<Long, Integer> saved = new HashMap<>();
+		private final Map<T, Integer> unsaved = new IdentityHashMap<>();
+
+		private Indices(Function<T, Long> id) {
+			this.id = id;
+		}
+
+		/**
+		 * Gives an entity an index, unless it already has one.
+		 *
+		 * @param  entity The entity.
+		 * @param  index  The index to give the entity.
+		 * @return        True if the entity did not have an index yet.
+		 */
+		private boolean add(T entity, int index) {
+			Long key = id.apply(entity);
+			return (key == null ? unsaved.putIfAbsent(entity, index) : saved.putIfAbsent(key, index)) == null;
+		}
+
+		private int get(T entity) {
+			Long key = id.apply(entity);
+			Integer index = key == null ? unsaved.get(entity) : saved.get(key);
+			return index == null ? -1 : index;
+		}
+
+	}
+
+	/**
+	 * Assigns indices to entities while the graph is being compiled, see {@link Indices}. Skills and tasks
+	 * are unproxied when they are added, so their type can be checked. Skills that are added bring along all
+	 * of their ancestors and, for external skills, the skill they refer to.
+	 */
+	public static class Compiler {
+
+		private final Indices<AbstractSkill> skillIndices = new Indices<>(AbstractSkill::getId);
+		private final Indices<Task> taskIndices = new Indices<>(Task::getId);
+		private final Indices<TaskInfo> taskInfoIndices = new Indices<>(TaskInfo::getId);
+		private final Indices<Path> pathIndices = new Indices<>(Path::getId);
+
+		private final List<AbstractSkill> skills = new ArrayList<>();
+		private final List<Task> tasks = new ArrayList<>();
+		private final List<TaskInfo> taskInfos = new ArrayList<>();
+		private final List<Path> paths = new ArrayList<>();
+
+		public Compiler add(AbstractSkill skill) {
+			Deque<AbstractSkill> queue = new ArrayDeque<>();
+			queue.add(skill);
+			while (!queue.isEmpty()) {
+				AbstractSkill next = (AbstractSkill) Hibernate.unproxy(queue.poll());
+				if (!skillIndices.add(next, skills.size())) {
+					continue;
+				}
+				skills.add(next);
+				queue.addAll(next.getParents());
+				if (next instanceof ExternalSkill externalSkill) {
+					queue.add(externalSkill.getSkill());
+				}
+			}
+			return this;
+		}
+
+		public EditionGraph compile(Long editionId) {
+			for (AbstractSkill skill : skills) {
+				if (skill instanceof Skill regularSkill) {
+					regularSkill.getTasks().forEach(this::addTask);
+				}
+			}
+			return new EditionGraph(editionId, this);
+		}
+
+		private void addTask(Task proxy) {
+			Task task = (Task) Hibernate.unproxy(proxy);
+			if (!taskIndices.add(task, tasks.size())) {
+				return;
+			}
+			tasks.add(task);
+			for (TaskInfo info : infosOf(task)) {
+				if (taskInfoIndices.add(info, taskInfos.size())) {
+					taskInfos.add(info);
+				}
+			}
+			for (Path path : task.getPaths()) {
+				if (pathIndices.add(path, paths.size())) {
+					paths.add(path);
+				}
+			}
+		}
+
+		public int indexOf(AbstractSkill skill) {
+			return skillIndices.get(skill);
+		}
+
+		public int indexOf(Task task) {
+			return taskIndices.get(task);
+		}
+
+		public int indexOf(TaskInfo taskInfo) {
+			return taskInfoIndices.get(taskInfo);
+		}
+
+		public int indexOf(Path path) {
+			return pathIndices.get(path);
+		}
+
+		public List<AbstractSkill> getSkills() {
+			return Collections.unmodifiableList(skills);
+		}
+
+		public List<Task> getTasks() {
+			return Collections.unmodifiableList(tasks);
+		}
+
+		public List<TaskInfo> getTaskInfos() {
+			return Collections.unmodifiableList(taskInfos);
+		}
+
+	}
+
+}
@@ -0,0 +1,213 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.cache;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import nl.tudelft.skills.model.*;
+import nl.tudelft.skills.repository.EditionRepository;
+
+/**
+ * Caches the compiled {@link EditionGraph} of recently used editions. Services that change the structure of
+ * an edition invalidate its graph, after which it is compiled again when it is next requested. At most
+ * skill-circuits.cache.edition-graphs.maximum-size graphs are kept, and each graph is dropped
+ * skill-circuits.cache.edition-graphs.expire-after seconds after it was compiled. Invalidations only reach
+ * the cache of this instance, so the expiry also bounds how long another instance keeps a stale graph.
+ *
+ * Graphs are compiled outside of any lock, so a graph can be invalidated while it is being compiled. Every
+ * invalidation is therefore numbered, and a compiled graph is only cached if none of the editions it depends
+ * on was invalidated after its compilation started, or is invalidated by a transaction that has not
+ * completed yet.
+ */
+@Component
+public class EditionGraphCache {
+
+	private static final long DEFAULT_MAXIMUM_SIZE = 100;
+	private static final long DEFAULT_EXPIRE_AFTER = 300;
+
+	private final Cache<Long, EditionGraph> graphs;
+
+	/**
+	 * The number of the last invalidation of every edition that was invalidated.
+	 */
+	private final Map<Long, Long> invalidations = new HashMap<>();
+	/**
+	 * The number of uncompleted transactions that invalidated each edition.
+	 */
+	private final Map<Long, Integer> pending = new HashMap<>();
+	private long invalidationCount = 0;
+
+	private final EditionRepository editionRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	public EditionGraphCache(EditionRepository editionRepository,
+			PlatformTransactionManager transactionManager, Environment env) {
+		this.editionRepository = editionRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+		long maximumSize = env.getProperty("skill-circuits.cache.edition-graphs.maximum-size", Long.class,
+				DEFAULT_MAXIMUM_SIZE);
+		long expireAfter = env.getProperty("skill-circuits.cache.edition-graphs.expire-after", Long.class,
+				DEFAULT_EXPIRE_AFTER);
+		this.graphs = Caffeine.newBuilder().maximumSize(maximumSize)
+				.expireAfterWrite(Duration.ofSeconds(expireAfter)).build();
+	}
+
+	/**
+	 * Gets the compiled graph of an edition, compiling it if it is not cached.
+	 *
+	 * @param  edition The edition.
+	 * @return         The compiled graph of the edition.
+	 */
+	public EditionGraph get(SCEdition edition) {
+		return get(edition.getId());
+	}
+
+	/**
+	 * Gets the compiled graph of an edition, compiling it if it is not cached. The graph is compiled in the
+	 * transaction of the caller, or in a read-only transaction if there is none, so that compiling does not
+	 * take a second connection. A graph that is compiled from changes that are not committed yet is not kept,
+	 * as the changes invalidate the graph again when their transaction completes.
+	 *
+	 * @param  editionId The id of the edition.
+	 * @return           The compiled graph of the edition.
+	 */
+	public EditionGraph get(Long editionId) {
+		EditionGraph graph = graphs.getIfPresent(editionId);
+		if (graph != null) {
+			return graph;
+		}
+		long compileStart = currentInvalidation();
+		return publish(editionId, compile(editionId), compileStart);
+	}
+
+	/**
+	 * Compiles the graph of an edition without caching it, for one-off uses that go over many editions. The
+	 * graph is compiled in the same way as by {@link #get(Long)}.
+	 *
+	 * @param  editionId The id of the edition.
+	 * @return           The compiled graph of the edition.
+	 */
+	public EditionGraph compile(Long editionId) {
+		return requireNonNull(transactionTemplate
+				.execute(status -> EditionGraph.compile(editionRepository.getOrCreate(editionId))));
+	}
+
+	/**
+	 * Invalidates the graph of an edition, and of every edition whose graph depends on it. If this happens in
+	 * a transaction, no graph that depends on the edition is cached until the transaction completes, and the
+	 * graphs are invalidated again when it does, so that a graph that is compiled before the changes are
+	 * committed is not kept.
+	 *
+	 * @param editionId The id of the edition that changed.
+	 */
+	public void invalidate(Long editionId) {
+		if (editionId == null) {
+			return;
+		}
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			evict(editionId, 0);
+			return;
+		}
+		evict(editionId, 1);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				evict(editionId, -1);
+			}
+		});
+	}
+
+	public void invalidate(SCEdition edition) {
+		invalidate(edition.getId());
+	}
+
+	public void invalidate(SCModule module) {
+		invalidate(module.getEdition());
+	}
+
+	public void invalidate(Submodule submodule) {
+		invalidate(submodule.getModule());
+	}
+
+	public void invalidate(AbstractSkill skill) {
+		invalidate(EditionGraph.editionIdOf(skill));
+	}
+
+	public void invalidate(Task task) {
+		invalidate(task.getSkill());
+	}
+
+	public void invalidate(TaskInfo taskInfo) {
+		invalidate(taskInfo.getTask() != null ? taskInfo.getTask() : taskInfo.getChoiceTask());
+	}
+
+	private synchronized long currentInvalidation() {
+		return invalidationCount;
+	}
+
+	/**
+	 * Caches a compiled graph, unless another graph was cached in the meantime or one of the editions the
+	 * graph depends on was invalidated after its compilation started.
+	 *
+	 * @param  editionId    The id of the edition of the graph.
+	 * @param  graph        The compiled graph.
+	 * @param  compileStart The number of the last invalidation when the compilation started.
+	 * @return              The cached graph, or the compiled graph if it could not be cached.
+	 */
+	private synchronized EditionGraph publish(Long editionId, EditionGraph graph, long compileStart) {
+		boolean invalidated = graph.getEditionIds().stream()
+				.anyMatch(id -> invalidations.getOrDefault(id, 0L) > compileStart || pending.containsKey(id));
+		if (invalidated) {
+			return graph;
+		}
+		EditionGraph cached = graphs.asMap().putIfAbsent(editionId, graph);
+		return cached == null ? graph : cached;
+	}
+
+	/**
+	 * Removes the graphs that depend on an edition from the cache.
+	 *
+	 * @param editionId     The id of the edition that changed.
+	 * @param pendingChange 1 when a transaction starts changing the edition, -1 when it completes and 0 for
+	 *                      changes outside of a transaction.
+	 */
+	private synchronized void evict(Long editionId, int pendingChange) {
+		invalidations.put(editionId, ++invalidationCount);
+		if (pendingChange != 0) {
+			pending.merge(editionId, pendingChange,
+					(count, change) -> count + change == 0 ? null : count + change);
+		}
+		graphs.asMap().values().removeIf(graph -> graph.dependsOn(editionId));
+	}
+
+}
@@ -18,9 +18,11 @@
 package nl.tudelft.skills.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -38,4 +40,18 @@ public class AsyncConfig {
 		executor.initialize();
 		return executor;
 	}
+
+	/**
+	 * The pool in which the skill states of many students are evaluated in parallel. It is separate from the
+	 * common pool, so that evaluating a large edition does not take up the threads of other parallel work.
+	 * It uses at most skill-circuits.skill-states.parallelism threads, or one per core when that is not set.
+	 *
+	 * @param  env The environment to read the parallelism from.
+	 * @return     The pool for evaluating skill states.
+	 */
+	@Bean(destroyMethod = "shutdown")
+	public ForkJoinPool skillStatePool(Environment env) {
+		return new ForkJoinPool(env.getProperty("skill-circuits.skill-states.parallelism", Integer.class,
+				Runtime.getRuntime().availableProcessors()));
+	}
 }
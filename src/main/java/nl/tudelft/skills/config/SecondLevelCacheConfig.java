@@ -0,0 +1,82 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.config;
+
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import nl.tudelft.skills.cache.CacheRegions;
+
+/**
+ * Configures the Hibernate second-level cache for the structure of circuits. Every region in
+ * {@link CacheRegions} gets its own Caffeine cache, of which the maximum number of entries can be set with
+ * {@code skill-circuits.cache.regions.<region>}, where dots in the name of the region are replaced by dashes.
+ * Entries are evicted by Hibernate when the entities are changed through the entity manager.
+ *
+ * Hibernate only counts the hits and misses of the regions when {@code skill-circuits.cache.statistics} is
+ * enabled, since collecting statistics has a cost on every session. It is disabled by default.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+	private static final long DEFAULT_REGION_SIZE = 10_000L;
+
+	@Bean(destroyMethod = "close")
+	public CacheManager secondLevelCacheManager(Environment env) {
+		CaffeineCachingProvider provider = new CaffeineCachingProvider();
+		CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(),
+				provider.getDefaultClassLoader());
+		for (String region : CacheRegions.ALL) {
+			CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+			configuration.setStoreByValue(false);
+			configuration.setMaximumSize(OptionalLong.of(env.getProperty(
+					"skill-circuits.cache.regions." + region.replace('.', '-'), Long.class,
+					DEFAULT_REGION_SIZE)));
+			cacheManager.createCache(region, configuration);
+		}
+		return cacheManager;
+	}
+
+	@Bean
+	public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager,
+			Environment env) {
+		boolean statistics = env.getProperty("skill-circuits.cache.statistics", Boolean.class, false);
+		return properties -> {
+			properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+			properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+			properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+			properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+			properties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+			if (statistics) {
+				properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+			}
+		};
+	}
+
+}
@@ -0,0 +1,44 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.controller;
+
+import java.util.List;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.AllArgsConstructor;
+import nl.tudelft.skills.dto.stats.CacheRegionStatsDTO;
+import nl.tudelft.skills.service.CacheStatisticsService;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/cache")
+public class CacheController {
+
+	private final CacheStatisticsService cacheStatisticsService;
+
+	@GetMapping("statistics")
+	@PreAuthorize("@authorisationService.isAdmin()")
+	public List<CacheRegionStatsDTO> getStatistics() {
+		return cacheStatisticsService.getRegionStatistics();
+	}
+
+}
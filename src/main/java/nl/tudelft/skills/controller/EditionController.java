@@ -17,26 +17,28 @@
  */
 package nl.tudelft.skills.controller;
 
-import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
-import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import lombok.AllArgsConstructor;
 import nl.tudelft.labracore.api.dto.EditionDetailsDTO;
 import nl.tudelft.librador.resolver.annotations.PathEntity;
 import nl.tudelft.skills.annotation.AuthenticatedSCPerson;
 import nl.tudelft.skills.dto.patch.EditionPatch;
+import nl.tudelft.skills.dto.stats.SkillCompletionStatsDTO;
 import nl.tudelft.skills.dto.view.*;
 import nl.tudelft.skills.dto.view.circuit.edition.EditionLevelEditionView;
 import nl.tudelft.skills.dto.view.tasklist.TaskListTaskView;
+import nl.tudelft.skills.model.CopyJob;
 import nl.tudelft.skills.model.SCEdition;
 import nl.tudelft.skills.model.SCPerson;
 import nl.tudelft.skills.service.*;
@@ -46,7 +48,7 @@ import nl.tudelft.skills.service.*;
 @RequestMapping("/api/editions")
 public class EditionController {
 
-	private final CopyService copyService;
+	private final CopyJobService copyJobService;
 	private final EditionService editionService;
 	private final EditionStatisticsService editionStatisticsService;
 	private final EditionCircuitService editionCircuitService;
@@ -67,6 +69,12 @@ public class EditionController {
 		return editionService.getManagedEditions(person, false);
 	}
 
+	@GetMapping("cycles")
+	@PreAuthorize("@authorisationService.isAdmin()")
+	public List<EditionCyclesView> getCycles() {
+		return editionService.findCycles();
+	}
+
 	@GetMapping("{editionId}")
 	@PreAuthorize("@authorisationService.canViewEdition(#editionId)")
 	public EditionView getEdition(@PathVariable Long editionId) {
@@ -118,41 +126,73 @@ public class EditionController {
 
 	@PostMapping("{original}/copy-to/{copy}")
 	@PreAuthorize("@authorisationService.canViewEdition(#original.id) and @authorisationService.canEditEditionCircuit(#copy.id)")
-	public void copyEditionTo(@PathEntity SCEdition original, @PathEntity SCEdition copy) {
-		copyService.copyEdition(original, copy);
+	public ResponseEntity<CopyJobView> copyEditionTo(@PathEntity SCEdition original,
+			@PathEntity SCEdition copy) {
+		CopyJob job = copyJobService.createJob(original, copy);
+		copyJobService.runJob(job.getId());
+		return ResponseEntity.accepted().body(copyJobService.toView(job));
+	}
+
+	@GetMapping("{copy}/copy-job")
+	@PreAuthorize("@authorisationService.canEditEditionCircuit(#copy.id)")
+	public ResponseEntity<CopyJobView> getCopyJob(@PathEntity SCEdition copy) {
+		return ResponseEntity.of(copyJobService.getLatestJob(copy));
+	}
+
+	@PreAuthorize("@authorisationService.canExportEditionStatistics(#edition.id)")
+	@GetMapping("{edition}/statistics/skills")
+	public SkillCompletionStatsDTO getEditionSkillStats(@PathEntity SCEdition edition) {
+		return editionStatisticsService.teacherStatsSkillLevel(edition);
 	}
 
 	@PreAuthorize("@authorisationService.canExportEditionStatistics(#edition.id)")
 	@GetMapping(value = "{edition}/statistics/tasks", produces = "text/csv")
-	public ResponseEntity<Resource> showEditionTaskStats(@PathEntity SCEdition edition) throws IOException {
-		EditionDetailsDTO editionDetails = editionService.getEditionById(edition.getId());
-		return ResponseEntity.ok()
-				.header(HttpHeaders.CONTENT_DISPOSITION,
-						"attachment; filename=\""
-								+ LocalDateTime.now()
-										.format(DateTimeFormatter.ofPattern("yyyy_MM_dd_HH_mm_ss"))
-								+ " " + editionDetails.getCourse().getName() + " - "
-								+ editionDetails.getName() + " - Task statistics"
-								+ ".csv\"")
-				.contentType(MediaType.valueOf("text/csv"))
-				.body(editionStatisticsService.getTaskStatisticsCSV(edition));
+	public ResponseEntity<StreamingResponseBody> showEditionTaskStats(@PathEntity SCEdition edition,
+			@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+		return csvResponse(edition, "Task statistics", acceptEncoding,
+				out -> editionStatisticsService.writeTaskStatisticsCSV(edition, out));
 	}
 
 	@PreAuthorize("@authorisationService.canExportEditionStatistics(#edition.id)")
 	@GetMapping(value = "{edition}/statistics/students", produces = "text/csv")
-	public ResponseEntity<Resource> showEditionStudentStats(@PathEntity SCEdition edition)
-			throws IOException {
+	public ResponseEntity<StreamingResponseBody> showEditionStudentStats(@PathEntity SCEdition edition,
+			@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+		return csvResponse(edition, "Student statistics", acceptEncoding,
+				out -> editionStatisticsService.writeStudentStatisticsCSV(edition, out));
+	}
+
+	/**
+	 * Creates a response that streams a CSV file with statistics of an edition to the client. The CSV is
+	 * compressed with gzip if the client accepts it.
+	 *
+	 * @param  edition        The edition the statistics are about
+	 * @param  name           The name of the statistics, used in the name of the file
+	 * @param  acceptEncoding The value of the Accept-Encoding header of the request, if any
+	 * @param  body           The body that writes the CSV to the response
+	 * @return                the response streaming the CSV file
+	 */
+	private ResponseEntity<StreamingResponseBody> csvResponse(SCEdition edition, String name,
+			String acceptEncoding, StreamingResponseBody body) {
 		EditionDetailsDTO editionDetails = editionService.getEditionById(edition.getId());
-		return ResponseEntity.ok()
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok()
 				.header(HttpHeaders.CONTENT_DISPOSITION,
 						"attachment; filename=\""
 								+ LocalDateTime.now()
 										.format(DateTimeFormatter.ofPattern("yyyy_MM_dd_HH_mm_ss"))
 								+ " " + editionDetails.getCourse().getName() + " - "
-								+ editionDetails.getName() + " - Student statistics"
+								+ editionDetails.getName() + " - " + name
 								+ ".csv\"")
-				.contentType(MediaType.valueOf("text/csv"))
-				.body(editionStatisticsService.getStudentStatisticsCSV(edition));
+				.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+				.contentType(MediaType.valueOf("text/csv"));
+
+		if (acceptEncoding == null || !acceptEncoding.toLowerCase().contains("gzip")) {
+			return response.body(body);
+		}
+		return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(out -> {
+			GZIPOutputStream gzip = new GZIPOutputStream(out);
+			body.writeTo(gzip);
+			gzip.finish();
+		});
 	}
 
 }
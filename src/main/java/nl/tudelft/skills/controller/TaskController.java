@@ -17,12 +17,15 @@
  */
 package nl.tudelft.skills.controller;
 
+import java.util.Set;
+
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import lombok.AllArgsConstructor;
 import nl.tudelft.librador.resolver.annotations.PathEntity;
 import nl.tudelft.skills.annotation.AuthenticatedSCPerson;
+import nl.tudelft.skills.dto.AfterTaskCompletionCircuitUpdate;
 import nl.tudelft.skills.dto.create.ChoiceTaskCreate;
 import nl.tudelft.skills.dto.create.RegularTaskCreate;
 import nl.tudelft.skills.dto.patch.ChoiceTaskPatch;
@@ -31,6 +34,7 @@ import nl.tudelft.skills.dto.patch.TaskPatch;
 import nl.tudelft.skills.dto.view.circuit.module.ModuleLevelTaskView;
 import nl.tudelft.skills.model.*;
 import nl.tudelft.skills.service.ModuleCircuitService;
+import nl.tudelft.skills.service.TaskCompletionService;
 import nl.tudelft.skills.service.TaskService;
 
 @RestController
@@ -40,6 +44,7 @@ public class TaskController {
 
 	private final ModuleCircuitService moduleCircuitService;
 	private final TaskService taskService;
+	private final TaskCompletionService taskCompletionService;
 
 	@PostMapping
 	@PreAuthorize("@authorisationService.canEditSkill(#create.skill)")
@@ -88,6 +93,13 @@ public class TaskController {
 				.convertToChoiceView(taskService.moveTaskInsideChoiceTask(choiceTask, subtask), person);
 	}
 
+	@PostMapping("{choiceTask}/complete")
+	@PreAuthorize("@authorisationService.canViewSkill(#choiceTask.skill)")
+	public AfterTaskCompletionCircuitUpdate completeSubtasks(@AuthenticatedSCPerson SCPerson person,
+			@PathEntity ChoiceTask choiceTask, @RequestBody Set<Long> subtaskIds) {
+		return taskCompletionService.completeSubtasks(person, choiceTask, subtaskIds);
+	}
+
 	@DeleteMapping("{task}")
 	@PreAuthorize("@authorisationService.canEditSkill(#task.skill)")
 	public void deleteTask(@PathEntity Task task) {
@@ -17,8 +17,6 @@
  */
 package nl.tudelft.skills.controller;
 
-import java.util.Collections;
-
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
@@ -31,6 +29,7 @@ import nl.tudelft.skills.dto.patch.SubtaskMove;
 import nl.tudelft.skills.dto.patch.TaskDeadlinePatch;
 import nl.tudelft.skills.dto.patch.TaskInfoPatch;
 import nl.tudelft.skills.dto.patch.TaskMove;
+import nl.tudelft.skills.dto.stats.ClickedLinkBufferStatsDTO;
 import nl.tudelft.skills.dto.view.circuit.module.ModuleLevelTaskView;
 import nl.tudelft.skills.model.*;
 import nl.tudelft.skills.service.*;
@@ -51,6 +50,12 @@ public class TaskInfoController {
 		clickedLinkService.reportClickedLink(person, taskInfo);
 	}
 
+	@GetMapping("clicks/statistics")
+	@PreAuthorize("@authorisationService.isAdmin()")
+	public ClickedLinkBufferStatsDTO getClickStatistics() {
+		return clickedLinkService.getBufferStatistics();
+	}
+
 	@PatchMapping("{taskInfo}")
 	@PreAuthorize("@authorisationService.canEditTaskInfo(#taskInfo)")
 	public void patchTaskInfo(@PathEntity TaskInfo taskInfo, @RequestBody TaskInfoPatch patch) {
@@ -94,8 +99,7 @@ public class TaskInfoController {
 		if (completed) {
 			return taskCompletionService.completeTask(person, taskInfo);
 		} else {
-			taskCompletionService.uncompleteTask(person, taskInfo);
-			return new AfterTaskCompletionCircuitUpdate(Collections.emptySet());
+			return taskCompletionService.uncompleteTask(person, taskInfo);
 		}
 	}
 
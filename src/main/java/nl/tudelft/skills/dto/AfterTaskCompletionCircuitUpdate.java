@@ -17,8 +17,17 @@
  */
 package nl.tudelft.skills.dto;
 
+import java.util.List;
 import java.util.Set;
 
 public record AfterTaskCompletionCircuitUpdate(
-		Set<Long> revealedSkills) {
+		Set<Long> revealedSkills,
+		List<SkillState> changedSkills) {
+
+	/**
+	 * The new state of a skill whose state changed because of the (un)completion.
+	 */
+	public record SkillState(Long id, boolean completed, boolean locked) {
+	}
+
 }
@@ -0,0 +1,54 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.dto.stats;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillStatsDTO {
+	@NotNull
+	private Long id;
+
+	@NotNull
+	private String skillName;
+
+	@NotNull
+	private String checkpointName;
+
+	@NotNull
+	private String subModuleName;
+
+	@NotNull
+	private String moduleName;
+
+	@NotNull
+	private boolean essential;
+
+	@NotNull
+	private long numOfStudentsUnlocked;
+
+	@NotNull
+	private long numOfStudentsCompleted;
+}
@@ -20,12 +20,16 @@ package nl.tudelft.skills.model;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.annotation.Nullable;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import nl.tudelft.skills.cache.CacheRegions;
 
 @Data
 @Entity
@@ -33,10 +37,14 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @AllArgsConstructor
 @Inheritance(strategy = InheritanceType.JOINED)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SKILL)
 public abstract class AbstractSkill {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "abstract_skill")
+	@TableGenerator(name = "abstract_skill", table = "id_generator", pkColumnValue = "abstract_skill",
+			allocationSize = 50)
 	private Long id;
 
 	@Min(0)
@@ -49,6 +57,7 @@ public abstract class AbstractSkill {
 	private boolean essential = true;
 
 	@NotNull
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SKILL_PARENTS)
 	@ManyToMany
 	@Builder.Default
 	@ToString.Exclude
@@ -59,6 +68,7 @@ public abstract class AbstractSkill {
 	@Builder.Default
 	@ToString.Exclude
 	@EqualsAndHashCode.Exclude
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SKILL_CHILDREN)
 	@ManyToMany(mappedBy = "parents")
 	private Set<AbstractSkill> children = new HashSet<>();
 
@@ -0,0 +1,51 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.annotation.Nullable;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "task_completion_archive")
+public class ArchivedTaskCompletion {
+	// The id is the id the row had before it was archived
+	@Id
+	private Long id;
+
+	// The edition, person and task are plain ids, so archived rows do not keep them from being deleted
+	@NotNull
+	private Long editionId;
+
+	@NotNull
+	private Long personId;
+
+	@NotNull
+	private Long taskId;
+
+	// The timestamp can be null for completions that were stored without time indication
+	@Nullable
+	private LocalDateTime timestamp;
+}
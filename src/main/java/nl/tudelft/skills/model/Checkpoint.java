@@ -21,20 +21,28 @@ import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import nl.tudelft.skills.cache.CacheRegions;
 
 @Data
 @Entity
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CHECKPOINT)
 public class Checkpoint {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "checkpoint")
+	@TableGenerator(name = "checkpoint", table = "id_generator", pkColumnValue = "checkpoint",
+			allocationSize = 50)
 	private Long id;
 
 	@NotBlank
@@ -53,6 +61,7 @@ public class Checkpoint {
 	@Builder.Default
 	@ToString.Exclude
 	@EqualsAndHashCode.Exclude
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CHECKPOINT_SKILLS)
 	@OneToMany(mappedBy = "checkpoint")
 	private Set<Skill> skills = new HashSet<>();
 
@@ -22,6 +22,9 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.ManyToMany;
@@ -30,6 +33,7 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import nl.tudelft.skills.cache.CacheRegions;
 import nl.tudelft.skills.model.bookmark.BookmarkList;
 
 @Data
@@ -53,6 +57,7 @@ public class ChoiceTask extends Task {
 	@Builder.Default
 	@ToString.Exclude
 	@EqualsAndHashCode.Exclude
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.CHOICE_TASK_CHOICES)
 	@OneToMany(mappedBy = "choiceTask", cascade = CascadeType.ALL)
 	private List<TaskInfo> tasks = new ArrayList<>();
 
@@ -30,7 +30,9 @@ import lombok.*;
 @AllArgsConstructor
 public class ClickedLink {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "clicked_link")
+	@TableGenerator(name = "clicked_link", table = "id_generator", pkColumnValue = "clicked_link",
+			allocationSize = 50)
 	private Long id;
 
 	@NotNull
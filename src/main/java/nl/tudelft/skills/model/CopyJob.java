@@ -0,0 +1,79 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.annotation.Nullable;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import nl.tudelft.skills.enums.CopyJobStatus;
+import nl.tudelft.skills.enums.CopyPhase;
+
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CopyJob {
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@NotNull
+	@ManyToOne
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private SCEdition original;
+
+	@NotNull
+	@ManyToOne
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private SCEdition copy;
+
+	@NotNull
+	@Builder.Default
+	@Enumerated(EnumType.STRING)
+	private CopyJobStatus status = CopyJobStatus.QUEUED;
+
+	@NotNull
+	@Builder.Default
+	@Enumerated(EnumType.STRING)
+	private CopyPhase phase = CopyPhase.PREPARING;
+
+	@NotNull
+	@Builder.Default
+	private Integer copied = 0;
+
+	@NotNull
+	@Builder.Default
+	private Integer total = 0;
+
+	@NotNull
+	@Builder.Default
+	private LocalDateTime created = LocalDateTime.now();
+
+	@Nullable
+	private LocalDateTime finished;
+
+	@NotNull
+	@Builder.Default
+	private LocalDateTime heartbeat = LocalDateTime.now();
+}
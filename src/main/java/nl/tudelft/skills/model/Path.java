@@ -20,21 +20,28 @@ package nl.tudelft.skills.model;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import nl.tudelft.skills.cache.CacheRegions;
 
 @Data
 @Entity
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PATH)
 public class Path {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "path")
+	@TableGenerator(name = "path", table = "id_generator", pkColumnValue = "path", allocationSize = 50)
 	private Long id;
 
 	@NotBlank
@@ -59,6 +66,7 @@ public class Path {
 	@Builder.Default
 	@ToString.Exclude
 	@EqualsAndHashCode.Exclude
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PATH_TASKS)
 	@ManyToMany(mappedBy = "paths")
 	private Set<Task> tasks = new HashSet<>();
 
@@ -20,6 +20,8 @@ package nl.tudelft.skills.model;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.CascadeType;
 
@@ -27,16 +29,21 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import nl.tudelft.skills.cache.CacheRegions;
 
 @Data
 @Entity
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.MODULE)
 public class SCModule {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "scmodule")
+	@TableGenerator(name = "scmodule", table = "id_generator", pkColumnValue = "scmodule",
+			allocationSize = 50)
 	private Long id;
 
 	@NotNull
@@ -53,6 +60,7 @@ public class SCModule {
 	@ToString.Exclude
 	@EqualsAndHashCode.Exclude
 	@Cascade(CascadeType.DELETE)
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.MODULE_SUBMODULES)
 	@OneToMany(mappedBy = "module")
 	private Set<Submodule> submodules = new HashSet<>();
 
@@ -61,6 +69,7 @@ public class SCModule {
 	@ToString.Exclude
 	@EqualsAndHashCode.Exclude
 	@Cascade(CascadeType.DELETE)
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.MODULE_EXTERNAL_SKILLS)
 	@OneToMany(mappedBy = "module")
 	private Set<ExternalSkill> externalSkills = new HashSet<>();
 
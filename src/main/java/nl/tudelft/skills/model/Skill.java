@@ -19,12 +19,16 @@ package nl.tudelft.skills.model;
 
 import java.util.*;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.annotation.Nullable;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import nl.tudelft.skills.cache.CacheRegions;
 import nl.tudelft.skills.model.bookmark.BookmarkList;
 import nl.tudelft.skills.model.bookmark.HiddenSkillBookmarkList;
 
@@ -55,10 +59,11 @@ public class Skill extends AbstractSkill {
 
 	@Setter
 	@NotNull
-	@OrderBy("idx")
+	@OrderBy("idx, id")
 	@Builder.Default
 	@ToString.Exclude
 	@EqualsAndHashCode.Exclude
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SKILL_TASKS)
 	@OneToMany(mappedBy = "skill", cascade = CascadeType.REMOVE)
 	private List<Task> tasks = new ArrayList<>();
 
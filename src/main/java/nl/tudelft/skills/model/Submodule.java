@@ -20,6 +20,8 @@ package nl.tudelft.skills.model;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.Cascade;
 import org.hibernate.annotations.CascadeType;
 
@@ -29,16 +31,21 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import nl.tudelft.skills.cache.CacheRegions;
 
 @Data
 @Entity
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SUBMODULE)
 public class Submodule {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "submodule")
+	@TableGenerator(name = "submodule", table = "id_generator", pkColumnValue = "submodule",
+			allocationSize = 50)
 	private Long id;
 
 	@NotNull
@@ -60,6 +67,7 @@ public class Submodule {
 	@ToString.Exclude
 	@EqualsAndHashCode.Exclude
 	@Cascade(CascadeType.DELETE)
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.SUBMODULE_SKILLS)
 	@OneToMany(mappedBy = "submodule")
 	private Set<Skill> skills = new HashSet<>();
 
@@ -20,10 +20,14 @@ package nl.tudelft.skills.model;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import nl.tudelft.skills.cache.CacheRegions;
 
 @Data
 @Entity
@@ -31,10 +35,13 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @AllArgsConstructor
 @Inheritance(strategy = InheritanceType.JOINED)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TASK)
 public abstract class Task {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "task")
+	@TableGenerator(name = "task", table = "id_generator", pkColumnValue = "task", allocationSize = 50)
 	private Long id;
 
 	@NotNull
@@ -48,6 +55,7 @@ public abstract class Task {
 	private Integer idx = 0;
 
 	@NotNull
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TASK_PATHS)
 	@ManyToMany
 	@Builder.Default
 	@ToString.Exclude
@@ -29,6 +29,8 @@ import lombok.NoArgsConstructor;
 @Data
 @Entity
 @Builder
+@Table(uniqueConstraints = @UniqueConstraint(name = "UK_task_completion_person_task", columnNames = {
+		"person_id", "task_id" }))
 @NoArgsConstructor
 @AllArgsConstructor
 public class TaskCompletion {
@@ -21,12 +21,16 @@ import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.annotation.Nullable;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import nl.tudelft.skills.cache.CacheRegions;
 import nl.tudelft.skills.enums.TaskType;
 import nl.tudelft.skills.model.bookmark.BookmarkList;
 
@@ -35,9 +39,13 @@ import nl.tudelft.skills.model.bookmark.BookmarkList;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TASK_INFO)
 public class TaskInfo {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "task_info")
+	@TableGenerator(name = "task_info", table = "id_generator", pkColumnValue = "task_info",
+			allocationSize = 50)
 	private Long id;
 
 	@NotBlank
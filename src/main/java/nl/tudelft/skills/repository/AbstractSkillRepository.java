@@ -18,8 +18,10 @@
 package nl.tudelft.skills.repository;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 
@@ -34,4 +36,7 @@ public interface AbstractSkillRepository extends JpaRepository<AbstractSkill, Lo
 
 	Set<AbstractSkill> findAllByIdIn(Collection<Long> ids);
 
+	@EntityGraph(attributePaths = { "parents", "children" })
+	List<AbstractSkill> findAllWithConnectionsByIdIn(Collection<Long> ids);
+
 }
@@ -0,0 +1,59 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import nl.tudelft.skills.model.ArchivedTaskCompletion;
+
+public interface ArchivedTaskCompletionRepository extends JpaRepository<ArchivedTaskCompletion, Long> {
+
+	@Modifying
+	@Query("""
+			insert into ArchivedTaskCompletion (id, editionId, personId, taskId, timestamp)
+			select completion.id, :editionId, completion.person.id, completion.task.id, completion.timestamp
+			from TaskCompletion completion
+			where completion.task.id in (
+			    select task.taskInfo.id from RegularTask task where task.skill.submodule.module.edition.id = :editionId
+			    union
+			    select subtask.id from ChoiceTask choiceTask
+			    inner join choiceTask.tasks subtask
+			    where choiceTask.skill.submodule.module.edition.id = :editionId
+			)
+			""")
+	int archiveAllInEdition(@Param("editionId") Long editionId);
+
+	@Modifying
+	@Query("""
+			delete from ArchivedTaskCompletion archived
+			where archived.personId = :personId and archived.taskId = :taskId
+			""")
+	int deleteByPersonIdAndTaskId(@Param("personId") Long personId, @Param("taskId") Long taskId);
+
+	@Modifying
+	@Query("""
+			delete from ArchivedTaskCompletion archived
+			where archived.personId = :personId and archived.editionId = :editionId
+			""")
+	int deleteAllByPersonIdAndEditionId(@Param("personId") Long personId,
+			@Param("editionId") Long editionId);
+
+}
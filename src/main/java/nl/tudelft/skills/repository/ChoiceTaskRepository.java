@@ -18,8 +18,10 @@
 package nl.tudelft.skills.repository;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 
@@ -34,5 +36,8 @@ public interface ChoiceTaskRepository extends JpaRepository<ChoiceTask, Long> {
 
 	Set<ChoiceTask> findAllByIdIn(Collection<Long> id);
 
+	@EntityGraph(attributePaths = { "tasks", "paths" })
+	List<ChoiceTask> findAllWithChoicesBySkillIdIn(Collection<Long> skillIds);
+
 	void deleteAllByIdIn(Collection<Long> id);
 }
@@ -17,13 +17,18 @@
  */
 package nl.tudelft.skills.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 
 import nl.tudelft.skills.model.ClickedLink;
+import nl.tudelft.skills.model.SCEdition;
 import nl.tudelft.skills.model.TaskInfo;
 
 public interface ClickedLinkRepository extends JpaRepository<ClickedLink, Long> {
@@ -37,5 +42,52 @@ public interface ClickedLinkRepository extends JpaRepository<ClickedLink, Long>
 
 	List<ClickedLink> getByTask(TaskInfo task);
 
+	@Query("""
+			select link.taskId as id, count(*) as clicks, count(distinct link.personId) as people
+			from (
+			    select live.task.id as taskId, live.person.id as personId from ClickedLink live
+			    where live.person.id in :studentIds
+			    and live.task.id in (
+			        select task.taskInfo.id from RegularTask task where task.skill.submodule.module.edition.id = :#{#edition.id}
+			        union
+			        select subtask.id from ChoiceTask choiceTask
+			        inner join choiceTask.tasks subtask
+			        where choiceTask.skill.submodule.module.edition.id = :#{#edition.id}
+			    )
+			    union all
+			    select archived.taskId, archived.personId from ArchivedClickedLink archived
+			    where archived.editionId = :#{#edition.id} and archived.personId in :studentIds
+			) link
+			group by link.taskId
+			""")
+	List<LinkClickCount> countStudentClicksPerTaskInEdition(@Param("edition") SCEdition edition,
+			@Param("studentIds") Collection<Long> studentIds);
+
 	List<ClickedLink> deleteAllByTaskIdIn(List<Long> taskIds);
+
+	@Query("""
+			select count(link) from ClickedLink link
+			where link.task.id in (
+			    select task.taskInfo.id from RegularTask task where task.skill.submodule.module.edition.id = :editionId
+			    union
+			    select subtask.id from ChoiceTask choiceTask
+			    inner join choiceTask.tasks subtask
+			    where choiceTask.skill.submodule.module.edition.id = :editionId
+			)
+			""")
+	long countAllInEdition(@Param("editionId") Long editionId);
+
+	@Modifying
+	@Query("""
+			delete from ClickedLink link
+			where link.task.id in (
+			    select task.taskInfo.id from RegularTask task where task.skill.submodule.module.edition.id = :editionId
+			    union
+			    select subtask.id from ChoiceTask choiceTask
+			    inner join choiceTask.tasks subtask
+			    where choiceTask.skill.submodule.module.edition.id = :editionId
+			)
+			""")
+	int deleteAllInEdition(@Param("editionId") Long editionId);
+
 }
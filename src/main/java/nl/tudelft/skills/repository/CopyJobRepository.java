@@ -0,0 +1,81 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.data.rest.webmvc.ResourceNotFoundException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import nl.tudelft.skills.enums.CopyJobStatus;
+import nl.tudelft.skills.enums.CopyPhase;
+import nl.tudelft.skills.model.CopyJob;
+
+public interface CopyJobRepository extends JpaRepository<CopyJob, Long> {
+
+	default CopyJob findByIdOrThrow(Long id) {
+		return findById(id).orElseThrow(() -> new ResourceNotFoundException("CopyJob was not found: " + id));
+	}
+
+	boolean existsByCopyIdAndStatusIn(Long copyId, Collection<CopyJobStatus> statuses);
+
+	Optional<CopyJob> findFirstByCopyIdOrderByIdDesc(Long copyId);
+
+	@Modifying
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@Query("""
+			update CopyJob job
+			set job.status = :status, job.phase = :phase, job.copied = :copied, job.total = :total
+			where job.id = :id
+			""")
+	void updateProgress(@Param("id") Long id, @Param("status") CopyJobStatus status,
+			@Param("phase") CopyPhase phase, @Param("copied") int copied, @Param("total") int total);
+
+	@Modifying
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@Query("""
+			update CopyJob job set job.status = :status, job.finished = :finished
+			where job.id = :id
+			""")
+	void finish(@Param("id") Long id, @Param("status") CopyJobStatus status,
+			@Param("finished") LocalDateTime finished);
+
+	@Modifying
+	@Transactional
+	@Query("""
+			update CopyJob job set job.heartbeat = :heartbeat
+			where job.id in :ids and job.status in (QUEUED, RUNNING)
+			""")
+	int beat(@Param("ids") Collection<Long> ids, @Param("heartbeat") LocalDateTime heartbeat);
+
+	@Modifying
+	@Transactional
+	@Query("""
+			update CopyJob job set job.status = FAILED, job.finished = :finished
+			where job.status in (QUEUED, RUNNING) and job.heartbeat < :staleBefore
+			""")
+	int failStale(@Param("staleBefore") LocalDateTime staleBefore, @Param("finished") LocalDateTime finished);
+
+}
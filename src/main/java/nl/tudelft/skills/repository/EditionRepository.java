@@ -17,15 +17,25 @@
  */
 package nl.tudelft.skills.repository;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 
+import jakarta.persistence.LockModeType;
 import nl.tudelft.skills.model.SCEdition;
 
 public interface EditionRepository extends JpaRepository<SCEdition, Long> {
 
+	default SCEdition findByIdOrThrow(Long id) {
+		return findById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("SCEdition was not found: " + id));
+	}
+
 	default SCEdition getOrCreate(Long editionId) {
 		return findById(editionId).orElseGet(() -> save(SCEdition.builder().id(editionId).build()));
 	}
@@ -37,4 +47,12 @@ public interface EditionRepository extends JpaRepository<SCEdition, Long> {
 			""")
 	Set<SCEdition> findAllOpen();
 
+	@Query("""
+			select edition.id from SCEdition edition
+			""")
+	List<Long> findAllIds();
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	Optional<SCEdition> findLockedById(Long id);
+
 }
@@ -17,8 +17,10 @@
  */
 package nl.tudelft.skills.repository;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 
@@ -32,4 +34,10 @@ public interface ModuleRepository extends JpaRepository<SCModule, Long> {
 
 	List<SCModule> findAllByEditionId(Long editionId);
 
+	@EntityGraph(attributePaths = { "submodules", "submodules.skills" })
+	List<SCModule> findAllWithSkillsByIdIn(Collection<Long> ids);
+
+	@EntityGraph(attributePaths = { "externalSkills", "externalSkills.skill" })
+	List<SCModule> findAllWithExternalSkillsByIdIn(Collection<Long> ids);
+
 }
@@ -17,6 +17,7 @@
  */
 package nl.tudelft.skills.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,8 +44,27 @@ public interface PathPreferenceRepository extends JpaRepository<PathPreference,
 	Optional<PathPreference> findByPersonAndEdition(@Param("person") SCPerson person,
 			@Param("edition") SCEdition edition);
 
+	@Query("""
+			select pathPreference.person.id as personId, pathPreference.path.id as id
+			from PathPreference pathPreference
+			where pathPreference.edition.id = :#{#edition.id}
+			""")
+	List<PersonEntityId> findAllPathIdsByEdition(@Param("edition") SCEdition edition);
+
 	void deleteByPersonAndEdition(SCPerson person, SCEdition edition);
 
 	List<PathPreference> findAllByPathId(Long pathId);
 
+	@Query("""
+			select task.id as id, count(distinct preference.person.id) as count
+			from Task task
+			inner join task.paths path
+			inner join path.preferences preference
+			where task.skill.submodule.module.edition.id = :#{#edition.id}
+			and preference.person.id in :studentIds
+			group by task.id
+			""")
+	List<IdCount> countStudentsWithTaskOnPathInEdition(@Param("edition") SCEdition edition,
+			@Param("studentIds") Collection<Long> studentIds);
+
 }
@@ -19,9 +19,15 @@ package nl.tudelft.skills.repository;
 
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 
+import jakarta.persistence.QueryHint;
 import nl.tudelft.skills.model.Path;
 
 public interface PathRepository extends JpaRepository<Path, Long> {
@@ -32,4 +38,21 @@ public interface PathRepository extends JpaRepository<Path, Long> {
 
 	List<Path> findAllByEditionId(Long editionId);
 
+	@Modifying(flushAutomatically = true)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_paths"))
+	@Query(nativeQuery = true, value = """
+			insert into task_paths (tasks_id, paths_id)
+			select task.id, :pathId from task
+			join skill on skill.id = task.skill_id
+			join submodule on submodule.id = skill.submodule_id
+			join scmodule on scmodule.id = submodule.module_id
+			where scmodule.edition_id = :editionId
+			""")
+	int addToAllTasksInEdition(@Param("pathId") Long pathId, @Param("editionId") Long editionId);
+
+	@Modifying(flushAutomatically = true)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_paths"))
+	@Query(nativeQuery = true, value = "delete from task_paths where paths_id = :pathId")
+	int removeFromAllTasks(@Param("pathId") Long pathId);
+
 }
@@ -17,13 +17,20 @@
  */
 package nl.tudelft.skills.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 
+import jakarta.persistence.QueryHint;
 import nl.tudelft.skills.model.SCEdition;
 import nl.tudelft.skills.model.SCPerson;
 
@@ -49,4 +56,115 @@ public interface PersonRepository extends JpaRepository<SCPerson, Long> {
 	Set<Long> findAllTaskIdsRemovedForPersonAndEdition(@Param("person") SCPerson person,
 			@Param("edition") SCEdition edition);
 
+	@Query("""
+			select person.id as personId, path.name as chosenPath,
+			coalesce(progress.completedTasks, 0) as completedTasks,
+			progress.timestamp as lastCompletedTimestamp, progress.taskName as lastCompletedTask,
+			progress.checkpointName as furthestCheckpoint
+			from SCPerson person
+			left join PathPreference preference
+			    on preference.person.id = person.id and preference.edition.id = :#{#edition.id}
+			left join preference.path path
+			left join (
+			    select completion.personId as personId,
+			    count(*) over (partition by completion.personId) as completedTasks,
+			    row_number() over (
+			        partition by completion.personId
+			        order by completion.timestamp desc, completion.taskId desc
+			    ) as position,
+			    completion.timestamp as timestamp, info.name as taskName,
+			    first_value(checkpoint.name) over (
+			        partition by completion.personId order by checkpoint.deadline desc nulls last
+			    ) as checkpointName
+			    from (
+			        select live.person.id as personId, live.task.id as taskId, live.timestamp as timestamp
+			        from TaskCompletion live
+			        where live.person.id in :studentIds
+			        union all
+			        select archived.personId, archived.taskId, archived.timestamp
+			        from ArchivedTaskCompletion archived
+			        where archived.editionId = :#{#edition.id} and archived.personId in :studentIds
+			    ) completion
+			    inner join TaskInfo info on info.id = completion.taskId
+			    left join info.task regularTask
+			    left join info.choiceTask choiceTask
+			    inner join Skill skill on skill.id = coalesce(regularTask.skill.id, choiceTask.skill.id)
+			    left join skill.checkpoint checkpoint
+			    where skill.submodule.module.edition.id = :#{#edition.id}
+			) progress on progress.personId = person.id and progress.position = 1
+			where person.id in :studentIds
+			order by person.id
+			""")
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	Stream<StudentProgress> streamProgressOfStudentsInEdition(@Param("edition") SCEdition edition,
+			@Param("studentIds") Collection<Long> studentIds);
+
+	@Query("""
+			select person.id as personId, task.id as id from SCPerson person
+			inner join person.tasksAdded task
+			where person.id in :personIds and task.skill.submodule.module.edition.id in :editionIds
+			""")
+	List<PersonEntityId> findAllTaskIdsAddedForPeopleInEditions(
+			@Param("personIds") Collection<Long> personIds, @Param("editionIds") Collection<Long> editionIds);
+
+	@Query("""
+			select person.id as personId, task.id as id from SCPerson person
+			inner join person.tasksRemoved task
+			where person.id in :personIds and task.skill.submodule.module.edition.id in :editionIds
+			""")
+	List<PersonEntityId> findAllTaskIdsRemovedForPeopleInEditions(
+			@Param("personIds") Collection<Long> personIds, @Param("editionIds") Collection<Long> editionIds);
+
+	@Query("""
+			select person.id as personId, skill.id as id from SCPerson person
+			inner join person.skillsRevealed skill
+			where person.id in :personIds and skill.submodule.module.edition.id in :editionIds
+			""")
+	List<PersonEntityId> findAllSkillIdsRevealedForPeopleInEditions(
+			@Param("personIds") Collection<Long> personIds, @Param("editionIds") Collection<Long> editionIds);
+
+	@Modifying(flushAutomatically = true)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "scperson_tasks_added"))
+	@Query(nativeQuery = true, value = """
+			delete from scperson_tasks_added
+			where persons_that_added_task_id = :personId and tasks_added_id in (
+			    select task.id from task
+			    join skill on skill.id = task.skill_id
+			    join submodule on submodule.id = skill.submodule_id
+			    join scmodule on scmodule.id = submodule.module_id
+			    where scmodule.edition_id = :editionId
+			)
+			""")
+	int deleteTasksAddedForPersonAndEdition(@Param("personId") Long personId,
+			@Param("editionId") Long editionId);
+
+	@Modifying(flushAutomatically = true)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "scperson_tasks_removed"))
+	@Query(nativeQuery = true, value = """
+			delete from scperson_tasks_removed
+			where persons_that_removed_task_id = :personId and tasks_removed_id in (
+			    select task.id from task
+			    join skill on skill.id = task.skill_id
+			    join submodule on submodule.id = skill.submodule_id
+			    join scmodule on scmodule.id = submodule.module_id
+			    where scmodule.edition_id = :editionId
+			)
+			""")
+	int deleteTasksRemovedForPersonAndEdition(@Param("personId") Long personId,
+			@Param("editionId") Long editionId);
+
+	@Modifying(flushAutomatically = true)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "scperson_skills_revealed"))
+	@Query(nativeQuery = true, value = """
+			delete from scperson_skills_revealed
+			where person_revealed_skill_id = :personId and skills_revealed_id in (
+			    select skill.id from skill
+			    join submodule on submodule.id = skill.submodule_id
+			    join scmodule on scmodule.id = submodule.module_id
+			    where scmodule.edition_id = :editionId
+			)
+			""")
+	int deleteSkillsRevealedForPersonAndEdition(@Param("personId") Long personId,
+			@Param("editionId") Long editionId);
+
 }
@@ -18,8 +18,10 @@
 package nl.tudelft.skills.repository;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 
@@ -34,6 +36,9 @@ public interface RegularTaskRepository extends JpaRepository<RegularTask, Long>
 
 	Set<RegularTask> findAllByIdIn(Collection<Long> id);
 
+	@EntityGraph(attributePaths = { "taskInfo", "paths" })
+	List<RegularTask> findAllWithInfoBySkillIdIn(Collection<Long> skillIds);
+
 	void deleteAllByIdIn(Collection<Long> id);
 
 }
@@ -21,6 +21,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 
@@ -34,6 +35,9 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
 
 	Set<Skill> findAllByIdIn(Collection<Long> ids);
 
+	@EntityGraph(attributePaths = { "tasks" })
+	List<Skill> findAllWithTasksByIdIn(Collection<Long> ids);
+
 	List<Skill> findAllByCheckpointId(Long checkpointId);
 
 	Integer countBySubmoduleModuleEditionId(Long editionId);
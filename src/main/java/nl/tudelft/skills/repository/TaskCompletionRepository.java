@@ -17,10 +17,14 @@
  */
 package nl.tudelft.skills.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
@@ -44,10 +48,101 @@ public interface TaskCompletionRepository extends JpaRepository<TaskCompletion,
 	@Query("""
 			select completion.task.id from TaskCompletion completion
 			where completion.person.id = :#{#person.id}
+			and completion.task.id in (
+			    select task.taskInfo.id from RegularTask task where task.skill.submodule.module.edition.id in :editionIds
+			    union
+			    select subtask.id from ChoiceTask choiceTask
+			    inner join choiceTask.tasks subtask
+			    where choiceTask.skill.submodule.module.edition.id in :editionIds
+			)
+			union all
+			select archived.taskId from ArchivedTaskCompletion archived
+			where archived.personId = :#{#person.id} and archived.editionId in :editionIds
 			""")
-	Set<Long> findAllCompletedTaskIdsForPerson(@Param("person") SCPerson person);
+	List<Long> findAllCompletedTaskIdsForPersonInEditions(@Param("person") SCPerson person,
+			@Param("editionIds") Collection<Long> editionIds);
 
-	void deleteByPersonAndTask(SCPerson person, TaskInfo task);
+	@Query("""
+			select completion.person.id as personId, completion.task.id as id from TaskCompletion completion
+			where completion.person.id in :personIds
+			and completion.task.id in (
+			    select task.taskInfo.id from RegularTask task where task.skill.submodule.module.edition.id in :editionIds
+			    union
+			    select subtask.id from ChoiceTask choiceTask
+			    inner join choiceTask.tasks subtask
+			    where choiceTask.skill.submodule.module.edition.id in :editionIds
+			)
+			union all
+			select archived.personId, archived.taskId from ArchivedTaskCompletion archived
+			where archived.personId in :personIds and archived.editionId in :editionIds
+			""")
+	List<PersonEntityId> findAllCompletedTaskIdsForPeopleInEditions(
+			@Param("personIds") Collection<Long> personIds, @Param("editionIds") Collection<Long> editionIds);
+
+	@Query("""
+			select completion.taskId as id, count(distinct completion.personId) as count
+			from (
+			    select live.task.id as taskId, live.person.id as personId from TaskCompletion live
+			    where live.person.id in :studentIds
+			    and live.task.id in (
+			        select task.taskInfo.id from RegularTask task where task.skill.submodule.module.edition.id = :#{#edition.id}
+			        union
+			        select subtask.id from ChoiceTask choiceTask
+			        inner join choiceTask.tasks subtask
+			        where choiceTask.skill.submodule.module.edition.id = :#{#edition.id}
+			    )
+			    union all
+			    select archived.taskId, archived.personId from ArchivedTaskCompletion archived
+			    where archived.editionId = :#{#edition.id} and archived.personId in :studentIds
+			) completion
+			group by completion.taskId
+			""")
+	List<IdCount> countStudentsPerTaskInEdition(@Param("edition") SCEdition edition,
+			@Param("studentIds") Collection<Long> studentIds);
+
+	@Query("""
+			select completion.taskId as id, count(distinct completion.personId) as count
+			from (
+			    select live.task.id as taskId, live.person.id as personId from TaskCompletion live
+			    where live.person.id in :studentIds
+			    and live.task.id in (
+			        select task.taskInfo.id from RegularTask task where task.skill.submodule.module.edition.id = :#{#edition.id}
+			        union
+			        select subtask.id from ChoiceTask choiceTask
+			        inner join choiceTask.tasks subtask
+			        where choiceTask.skill.submodule.module.edition.id = :#{#edition.id}
+			    )
+			    union all
+			    select archived.taskId, archived.personId from ArchivedTaskCompletion archived
+			    where archived.editionId = :#{#edition.id} and archived.personId in :studentIds
+			) completion
+			inner join (
+			    select live.task.id as taskId, live.person.id as personId from ClickedLink live
+			    where live.person.id in :studentIds
+			    union all
+			    select archived.taskId, archived.personId from ArchivedClickedLink archived
+			    where archived.editionId = :#{#edition.id} and archived.personId in :studentIds
+			) link on link.taskId = completion.taskId and link.personId = completion.personId
+			group by completion.taskId
+			""")
+	List<IdCount> countStudentsThatClickedPerTaskInEdition(@Param("edition") SCEdition edition,
+			@Param("studentIds") Collection<Long> studentIds);
+
+	@Modifying
+	@Query("""
+			insert into TaskCompletion (person, task, timestamp)
+			values (:person, :task, :timestamp)
+			on conflict do nothing
+			""")
+	int insertIfAbsent(@Param("person") SCPerson person, @Param("task") TaskInfo task,
+			@Param("timestamp") LocalDateTime timestamp);
+
+	@Modifying
+	@Query("""
+			delete from TaskCompletion completion
+			where completion.person.id = :#{#person.id} and completion.task.id = :#{#task.id}
+			""")
+	int deleteByPersonAndTask(@Param("person") SCPerson person, @Param("task") TaskInfo task);
 
 	@Query("""
 			select completion from TaskCompletion completion
@@ -63,4 +158,43 @@ public interface TaskCompletionRepository extends JpaRepository<TaskCompletion,
 	Set<TaskCompletion> findAllByPersonAndEdition(@Param("person") SCPerson person,
 			@Param("edition") SCEdition edition);
 
+	@Modifying
+	@Query("""
+			delete from TaskCompletion completion
+			where completion.person.id = :#{#person.id}
+			and completion.task.id in (
+			    select task.taskInfo.id from RegularTask task where task.skill.submodule.module.edition.id = :#{#edition.id}
+			    union
+			    select subtask.id from ChoiceTask choiceTask
+			    inner join choiceTask.tasks subtask
+			    where choiceTask.skill.submodule.module.edition.id = :#{#edition.id}
+			)
+			""")
+	int deleteAllByPersonAndEdition(@Param("person") SCPerson person, @Param("edition") SCEdition edition);
+
+	@Query("""
+			select count(completion) from TaskCompletion completion
+			where completion.task.id in (
+			    select task.taskInfo.id from RegularTask task where task.skill.submodule.module.edition.id = :editionId
+			    union
+			    select subtask.id from ChoiceTask choiceTask
+			    inner join choiceTask.tasks subtask
+			    where choiceTask.skill.submodule.module.edition.id = :editionId
+			)
+			""")
+	long countAllInEdition(@Param("editionId") Long editionId);
+
+	@Modifying
+	@Query("""
+			delete from TaskCompletion completion
+			where completion.task.id in (
+			    select task.taskInfo.id from RegularTask task where task.skill.submodule.module.edition.id = :editionId
+			    union
+			    select subtask.id from ChoiceTask choiceTask
+			    inner join choiceTask.tasks subtask
+			    where choiceTask.skill.submodule.module.edition.id = :editionId
+			)
+			""")
+	int deleteAllInEdition(@Param("editionId") Long editionId);
+
 }
@@ -18,13 +18,16 @@
 package nl.tudelft.skills.repository;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 
+import jakarta.persistence.LockModeType;
 import nl.tudelft.skills.model.SCEdition;
 import nl.tudelft.skills.model.Task;
 
@@ -41,5 +44,24 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
 			""")
 	Set<Task> findAllByEdition(@Param("edition") SCEdition edition);
 
+	@Query("""
+			select task.id from Task task
+			where task.skill.submodule.module.edition.id = :#{#edition.id}
+			""")
+	Set<Long> findAllIdsByEdition(@Param("edition") SCEdition edition);
+
 	Set<Task> findAllByIdIn(Collection<Long> ids);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	List<Task> findAllBySkillIdOrderByIdxAscIdAsc(Long skillId);
+
+	@Query("""
+			select distinct task.skill.id from Task task
+			where exists (
+				select other.id from Task other
+				where other.skill = task.skill and other.id <> task.id
+					and other.idx >= task.idx and other.idx < task.idx + :gap
+			)
+			""")
+	Set<Long> findAllSkillIdsWithIndicesCloserThan(@Param("gap") int gap);
 }
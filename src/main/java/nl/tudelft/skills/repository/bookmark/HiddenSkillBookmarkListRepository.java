@@ -23,9 +23,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import nl.tudelft.skills.model.ChoiceTask;
 import nl.tudelft.skills.model.Skill;
-import nl.tudelft.skills.model.TaskInfo;
 import nl.tudelft.skills.model.bookmark.HiddenSkillBookmarkList;
 
 public interface HiddenSkillBookmarkListRepository extends JpaRepository<HiddenSkillBookmarkList, Long> {
@@ -36,27 +34,6 @@ public interface HiddenSkillBookmarkListRepository extends JpaRepository<HiddenS
 			""")
 	Set<HiddenSkillBookmarkList> findAllByEditions(@Param("editions") Set<Long> editions);
 
-	@Query("""
-			select list from HiddenSkillBookmarkList list
-			inner join list.skills skill
-			where skill.id = :#{#skill.id}
-			""")
-	Set<HiddenSkillBookmarkList> findAllBySkillsContains(@Param("skill") Skill skill);
-
-	@Query("""
-			select list from HiddenSkillBookmarkList list
-			inner join list.tasks task
-			where task.id = :#{#task.id}
-			""")
-	Set<HiddenSkillBookmarkList> findAllByTasksContains(@Param("task") TaskInfo task);
-
-	@Query("""
-			select list from HiddenSkillBookmarkList list
-			inner join list.choiceTasks task
-			where task.id = :#{#task.id}
-			""")
-	Set<HiddenSkillBookmarkList> findAllByChoiceTasksContains(@Param("task") ChoiceTask task);
-
 	void deleteBySkill(Skill skill);
 
 }
@@ -0,0 +1,104 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import nl.tudelft.skills.cache.EditionCompletions;
+import nl.tudelft.skills.cache.EditionGraph;
+import nl.tudelft.skills.cache.EditionGraphCache;
+import nl.tudelft.skills.model.SCEdition;
+import nl.tudelft.skills.repository.*;
+
+/**
+ * Evaluates the states of the skills in an edition for many people at once. Everything that is needed for the
+ * evaluation is loaded for the whole edition in a few queries, instead of a few queries per person.
+ */
+@Service
+public class BatchSkillStateService {
+
+	private final TaskCompletionRepository taskCompletionRepository;
+	private final PersonRepository personRepository;
+	private final PathPreferenceRepository pathPreferenceRepository;
+	private final EditionGraphCache editionGraphCache;
+	private final SkillStateService skillStateService;
+	private final ForkJoinPool skillStatePool;
+
+	public BatchSkillStateService(TaskCompletionRepository taskCompletionRepository,
+			PersonRepository personRepository, PathPreferenceRepository pathPreferenceRepository,
+			EditionGraphCache editionGraphCache, SkillStateService skillStateService,
+			@Qualifier("skillStatePool") ForkJoinPool skillStatePool) {
+		this.taskCompletionRepository = taskCompletionRepository;
+		this.personRepository = personRepository;
+		this.pathPreferenceRepository = pathPreferenceRepository;
+		this.editionGraphCache = editionGraphCache;
+		this.skillStateService = skillStateService;
+		this.skillStatePool = skillStatePool;
+	}
+
+	/**
+	 * Evaluates the states of the skills in an edition for every given person. The evaluation of one person
+	 * only reads the cached graph of the edition and the data that was loaded for that person, so the people
+	 * are evaluated in parallel in the pool for skill states.
+	 *
+	 * @param  edition   The edition to evaluate the skills of.
+	 * @param  personIds The ids of the people to evaluate the skills for.
+	 * @return           The states of the skills by the id of the person.
+	 */
+	public Map<Long, SkillStates> evaluate(SCEdition edition, Collection<Long> personIds) {
+		EditionGraph graph = editionGraphCache.get(edition);
+		Set<Long> editionIds = graph.getEditionIds();
+		Set<Long> people = new HashSet<>(personIds);
+		if (people.isEmpty()) {
+			return Map.of();
+		}
+
+		Map<Long, Set<Long>> completedTaskIds = groupByPerson(
+				taskCompletionRepository.findAllCompletedTaskIdsForPeopleInEditions(people, editionIds));
+		Map<Long, Set<Long>> revealedSkillIds = groupByPerson(
+				personRepository.findAllSkillIdsRevealedForPeopleInEditions(people, editionIds));
+		Map<Long, Set<Long>> tasksAddedIds = groupByPerson(
+				personRepository.findAllTaskIdsAddedForPeopleInEditions(people, editionIds));
+		Map<Long, Set<Long>> tasksRemovedIds = groupByPerson(
+				personRepository.findAllTaskIdsRemovedForPeopleInEditions(people, editionIds));
+		Map<Long, Long> activePathIds = pathPreferenceRepository.findAllPathIdsByEdition(edition).stream()
+				.collect(Collectors.toMap(PersonEntityId::getPersonId, PersonEntityId::getId, (a, b) -> a));
+
+		return skillStatePool.submit(() -> people.parallelStream()
+				.collect(Collectors.toConcurrentMap(personId -> personId,
+						personId -> skillStateService.evaluate(
+								EditionCompletions.of(graph,
+										completedTaskIds.getOrDefault(personId, Set.of())),
+								revealedSkillIds.getOrDefault(personId, Set.of()),
+								activePathIds.get(personId),
+								tasksAddedIds.getOrDefault(personId, Set.of()),
+								tasksRemovedIds.getOrDefault(personId, Set.of())))))
+				.join();
+	}
+
+	private static Map<Long, Set<Long>> groupByPerson(List<PersonEntityId> ids) {
+		return ids.stream().collect(Collectors.groupingBy(PersonEntityId::getPersonId,
+				Collectors.mapping(PersonEntityId::getId, Collectors.toSet())));
+	}
+
+}
@@ -26,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import lombok.AllArgsConstructor;
 import nl.tudelft.librador.dto.DTOConverter;
+import nl.tudelft.skills.cache.EditionGraphCache;
 import nl.tudelft.skills.dto.create.PersonalBookmarkListCreate;
 import nl.tudelft.skills.dto.patch.PersonalBookmarkListPatch;
 import nl.tudelft.skills.dto.view.BookmarkListView;
@@ -49,6 +50,7 @@ public class BookmarkService {
 	private final PersonalBookmarkListRepository personalBookmarkListRepository;
 
 	private final DTOConverter dtoConverter;
+	private final EditionGraphCache editionGraphCache;
 
 	public List<BookmarkListView> getBookmarksForPerson(SCPerson person) {
 		Set<Long> managedEditions = editionService.getManagedEditionIds(person, false);
@@ -86,6 +88,7 @@ public class BookmarkService {
 		list.getSkills().add(skill);
 		list.updateLastModified();
 		bookmarkListRepository.save(list);
+		invalidateRequirements(list);
 	}
 
 	@Transactional
@@ -93,6 +96,7 @@ public class BookmarkService {
 		list.getSkills().remove(skill);
 		list.updateLastModified();
 		bookmarkListRepository.save(list);
+		invalidateRequirements(list);
 	}
 
 	@Transactional
@@ -100,6 +104,7 @@ public class BookmarkService {
 		list.getTasks().add(task);
 		list.updateLastModified();
 		bookmarkListRepository.save(list);
+		invalidateRequirements(list);
 	}
 
 	@Transactional
@@ -107,6 +112,7 @@ public class BookmarkService {
 		list.getTasks().remove(task);
 		list.updateLastModified();
 		bookmarkListRepository.save(list);
+		invalidateRequirements(list);
 	}
 
 	@Transactional
@@ -114,6 +120,7 @@ public class BookmarkService {
 		list.getChoiceTasks().add(task);
 		list.updateLastModified();
 		bookmarkListRepository.save(list);
+		invalidateRequirements(list);
 	}
 
 	@Transactional
@@ -121,5 +128,16 @@ public class BookmarkService {
 		list.getChoiceTasks().remove(task);
 		list.updateLastModified();
 		bookmarkListRepository.save(list);
+		invalidateRequirements(list);
+	}
+
+	/**
+	 * The requirements of hidden skills are part of the cached graph of their edition, so the graph needs to
+	 * be compiled again when they change.
+	 */
+	private void invalidateRequirements(BookmarkList list) {
+		if (list instanceof HiddenSkillBookmarkList hiddenSkillBookmarkList) {
+			editionGraphCache.invalidate(hiddenSkillBookmarkList.getSkill());
+		}
 	}
 }
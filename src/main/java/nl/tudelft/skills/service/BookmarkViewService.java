@@ -19,10 +19,8 @@ package nl.tudelft.skills.service;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Collection;
-import java.util.Comparator;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
@@ -30,12 +28,13 @@ import org.springframework.stereotype.Service;
 import lombok.AllArgsConstructor;
 import nl.tudelft.labracore.api.dto.EditionDetailsDTO;
 import nl.tudelft.skills.cache.EditionCacheManager;
+import nl.tudelft.skills.cache.EditionCompletions;
+import nl.tudelft.skills.cache.EditionGraph;
 import nl.tudelft.skills.dto.view.BookmarkListView;
 import nl.tudelft.skills.model.*;
 import nl.tudelft.skills.model.bookmark.BookmarkList;
 import nl.tudelft.skills.model.bookmark.HiddenSkillBookmarkList;
 import nl.tudelft.skills.model.bookmark.PersonalBookmarkList;
-import nl.tudelft.skills.repository.TaskCompletionRepository;
 
 @Service
 @AllArgsConstructor
@@ -43,29 +42,37 @@ public class BookmarkViewService {
 
 	private final EditionCacheManager editionCache;
 
-	private final TaskCompletionRepository taskCompletionRepository;
+	private final EditionCompletionService editionCompletionService;
 	private final ModuleCircuitService moduleCircuitService;
 
 	public List<BookmarkListView> convertToListViews(List<BookmarkList> lists, SCPerson person) {
 		cacheEditions(lists);
-		Set<Long> completedTaskIds = taskCompletionRepository.findAllCompletedTaskIdsForPerson(person);
-		return lists.stream().map(list -> convertToListView(list, completedTaskIds))
+		Map<Long, EditionCompletions> completions = new HashMap<>();
+		Function<Skill, EditionCompletions> completionsOfSkill = skill -> completions.computeIfAbsent(
+				EditionGraph.editionIdOf(skill), id -> editionCompletionService.getCompletions(person, id));
+		return lists.stream().map(list -> convertToListView(list, completionsOfSkill))
 				.sorted(Comparator.<BookmarkListView>comparingInt(list -> list.skill() == null ? 0 : 1)
 						.thenComparing(BookmarkListView::lastModified, Comparator.reverseOrder()))
 				.toList();
 	}
 
-	private BookmarkListView convertToListView(BookmarkList list, Set<Long> completedTaskIds) {
+	/**
+	 * Converts a list to a view. The items of a list can be in different editions, so the completions are
+	 * looked up by the skill of every item.
+	 */
+	private BookmarkListView convertToListView(BookmarkList list,
+			Function<Skill, EditionCompletions> completions) {
 		return new BookmarkListView(
 				list.getId(),
 				getListName(list),
 				list.getLastModified(),
-				list.getSkills().stream().map(skill -> convertToListSkillView(skill, completedTaskIds))
-						.toList(),
+				list.getSkills().stream()
+						.map(skill -> convertToListSkillView(skill, completions.apply(skill))).toList(),
 				Stream.concat(
-						list.getTasks().stream().map(info -> convertToListTaskView(info, completedTaskIds)),
+						list.getTasks().stream()
+								.map(info -> convertToListTaskView(info, completions.apply(getSkill(info)))),
 						list.getChoiceTasks().stream()
-								.map(task -> convertToListTaskView(task, completedTaskIds)))
+								.map(task -> convertToListTaskView(task, completions.apply(task.getSkill()))))
 						.toList(),
 				list instanceof HiddenSkillBookmarkList hiddenSkillBookmarkList
 						? hiddenSkillBookmarkList.getSkill().getId()
@@ -82,29 +89,27 @@ public class BookmarkViewService {
 	}
 
 	public BookmarkListView.BookmarkListSkillView convertToListSkillView(Skill skill, SCPerson person) {
-		return convertToListSkillView(skill,
-				taskCompletionRepository.findAllCompletedTaskIdsForPerson(person));
+		return convertToListSkillView(skill, editionCompletionService.getCompletions(person, skill));
 	}
 
 	public BookmarkListView.BookmarkListSkillView convertToListSkillView(Skill skill,
-			Set<Long> completedTaskIds) {
+			EditionCompletions completions) {
 		return new BookmarkListView.BookmarkListSkillView(
 				skill.getId(),
 				skill.getName(),
 				getQualifiedName(skill),
 				skill.isEssential(),
 				skill.getTasks().stream()
-						.map(task -> moduleCircuitService.convertToTaskView(task, completedTaskIds))
+						.map(task -> moduleCircuitService.convertToTaskView(task, completions))
 						.toList());
 	}
 
 	public BookmarkListView.BookmarkListTaskView convertToListTaskView(TaskInfo taskInfo, SCPerson person) {
-		return convertToListTaskView(taskInfo,
-				taskCompletionRepository.findAllCompletedTaskIdsForPerson(person));
+		return convertToListTaskView(taskInfo, editionCompletionService.getCompletions(person, taskInfo));
 	}
 
 	private BookmarkListView.BookmarkListTaskView convertToListTaskView(TaskInfo taskInfo,
-			Set<Long> completedTaskIds) {
+			EditionCompletions completions) {
 		return new BookmarkListView.BookmarkListTaskInfoView(
 				taskInfo.getId(),
 				taskInfo.getName(),
@@ -112,29 +117,28 @@ public class BookmarkViewService {
 				taskInfo.getTime(),
 				taskInfo.getDeadline(),
 				taskInfo.getLink(),
-				completedTaskIds.contains(taskInfo.getId()),
+				completions.isCompleted(taskInfo),
 				getQualifiedName(getSkill(taskInfo)) + " > " + taskInfo.getName());
 	}
 
 	public BookmarkListView.BookmarkListTaskView convertToListTaskView(ChoiceTask choiceTask,
 			SCPerson person) {
-		return convertToListTaskView(choiceTask,
-				taskCompletionRepository.findAllCompletedTaskIdsForPerson(person));
+		return convertToListTaskView(choiceTask, editionCompletionService.getCompletions(person, choiceTask));
 	}
 
 	private BookmarkListView.BookmarkListTaskView convertToListTaskView(ChoiceTask task,
-			Set<Long> completedTaskIds) {
+			EditionCompletions completions) {
 		return new BookmarkListView.BookmarkListChoiceTaskView(
 				task.getId(),
 				task.getName(),
 				task.getMinTasks(),
-				task.getTasks().stream().map(subtask -> convertToListSubtaskView(subtask, completedTaskIds))
+				task.getTasks().stream().map(subtask -> convertToListSubtaskView(subtask, completions))
 						.toList(),
 				getQualifiedName(task.getSkill()) + " > " + task.getName());
 	}
 
 	private BookmarkListView.BookmarkListSubtaskView convertToListSubtaskView(TaskInfo taskInfo,
-			Set<Long> completedTaskIds) {
+			EditionCompletions completions) {
 		return new BookmarkListView.BookmarkListSubtaskView(
 				taskInfo.getId(),
 				taskInfo.getName(),
@@ -142,7 +146,7 @@ public class BookmarkViewService {
 				taskInfo.getTime(),
 				taskInfo.getDeadline(),
 				taskInfo.getLink(),
-				completedTaskIds.contains(taskInfo.getId()));
+				completions.isCompleted(taskInfo));
 	}
 
 	private String getQualifiedName(Skill skill) {
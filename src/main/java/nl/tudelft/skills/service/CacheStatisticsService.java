@@ -0,0 +1,69 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import java.util.List;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.AllArgsConstructor;
+import nl.tudelft.skills.cache.CacheRegions;
+import nl.tudelft.skills.dto.stats.CacheRegionStatsDTO;
+
+@Service
+@AllArgsConstructor
+public class CacheStatisticsService {
+
+	private final EntityManagerFactory entityManagerFactory;
+	private final CacheManager secondLevelCacheManager;
+
+	/**
+	 * Gets the statistics of every region of the second-level cache since the application was started. The
+	 * number of hits and misses together with the number of entries in a region show whether the region is
+	 * large enough to hold the circuits that are being viewed. The hit, miss and put counts stay zero unless
+	 * statistics are enabled, see {@link nl.tudelft.skills.config.SecondLevelCacheConfig}.
+	 *
+	 * @return The statistics of every region.
+	 */
+	public List<CacheRegionStatsDTO> getRegionStatistics() {
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		return CacheRegions.ALL.stream().map(region -> {
+			CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+			@SuppressWarnings("unchecked")
+			Cache<Object, Object> cache = secondLevelCacheManager.getCache(region).unwrap(Cache.class);
+			return CacheRegionStatsDTO.builder()
+					.region(region)
+					.hitCount(regionStatistics.getHitCount())
+					.missCount(regionStatistics.getMissCount())
+					.putCount(regionStatistics.getPutCount())
+					.size(cache.estimatedSize())
+					.maximumSize(cache.policy().eviction().map(Policy.Eviction::getMaximum).orElse(-1L))
+					.build();
+		}).toList();
+	}
+
+}
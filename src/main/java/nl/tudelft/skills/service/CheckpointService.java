@@ -22,6 +22,7 @@ import org.springframework.stereotype.Service;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import nl.tudelft.librador.dto.DTOConverter;
+import nl.tudelft.skills.cache.EditionGraphCache;
 import nl.tudelft.skills.dto.create.CheckpointCreate;
 import nl.tudelft.skills.dto.patch.CheckpointPatch;
 import nl.tudelft.skills.model.Checkpoint;
@@ -34,16 +35,20 @@ public class CheckpointService {
 	private final CheckpointRepository checkpointRepository;
 
 	private final DTOConverter dtoConverter;
+	private final EditionGraphCache editionGraphCache;
 
 	@Transactional
 	public Checkpoint createCheckpoint(CheckpointCreate create) {
-		return checkpointRepository.save(create.apply(dtoConverter));
+		Checkpoint checkpoint = checkpointRepository.save(create.apply(dtoConverter));
+		editionGraphCache.invalidate(checkpoint.getEdition());
+		return checkpoint;
 	}
 
 	@Transactional
 	public void patchCheckpoint(Checkpoint checkpoint, CheckpointPatch patch) {
 		patch.apply(checkpoint, dtoConverter);
 		checkpointRepository.save(checkpoint);
+		editionGraphCache.invalidate(checkpoint.getEdition());
 	}
 
 	@Transactional
@@ -51,6 +56,7 @@ public class CheckpointService {
 		checkpoint.getSkills().forEach(skill -> {
 			skill.setCheckpoint(null);
 		});
+		editionGraphCache.invalidate(checkpoint.getEdition());
 		checkpointRepository.delete(checkpoint);
 	}
 }
@@ -17,27 +17,191 @@
  */
 package nl.tudelft.skills.service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static java.util.Objects.requireNonNull;
 
-import jakarta.transaction.Transactional;
-import lombok.AllArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import nl.tudelft.skills.dto.stats.ClickedLinkBufferStatsDTO;
 import nl.tudelft.skills.model.ClickedLink;
 import nl.tudelft.skills.model.SCPerson;
 import nl.tudelft.skills.model.TaskInfo;
 import nl.tudelft.skills.repository.ClickedLinkRepository;
+import nl.tudelft.skills.repository.PersonRepository;
+import nl.tudelft.skills.repository.TaskInfoRepository;
 
+/**
+ * Records the links that are clicked by students. Clicks are not written when they are reported, but are
+ * buffered and written in batches, either when a batch is full or periodically. When the buffer is full, new
+ * clicks are dropped rather than slowing down the requests that report them.
+ */
 @Service
-@AllArgsConstructor
 public class ClickedLinkService {
 
+	private static final Logger logger = LoggerFactory.getLogger(ClickedLinkService.class);
+
+	private static final int DEFAULT_BUFFER_SIZE = 10_000;
+	private static final int DEFAULT_BATCH_SIZE = 100;
+
 	private final ClickedLinkRepository clickedLinkRepository;
+	private final PersonRepository personRepository;
+	private final TaskInfoRepository taskInfoRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Executor taskExecutor;
+
+	private final BlockingQueue<Click> buffer;
+	private final int bufferSize;
+	private final int batchSize;
 
-	@Transactional
+	private final ReentrantLock flushing = new ReentrantLock();
+	private final AtomicLong written = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+
+	public ClickedLinkService(ClickedLinkRepository clickedLinkRepository, PersonRepository personRepository,
+			TaskInfoRepository taskInfoRepository, PlatformTransactionManager transactionManager,
+			@Qualifier("taskExecutor") Executor taskExecutor, Environment env) {
+		this.clickedLinkRepository = clickedLinkRepository;
+		this.personRepository = personRepository;
+		this.taskInfoRepository = taskInfoRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.taskExecutor = taskExecutor;
+		this.bufferSize = env.getProperty("skill-circuits.clicked-links.buffer-size", Integer.class,
+				DEFAULT_BUFFER_SIZE);
+		this.batchSize = env.getProperty("skill-circuits.clicked-links.batch-size", Integer.class,
+				DEFAULT_BATCH_SIZE);
+		this.buffer = new ArrayBlockingQueue<>(bufferSize);
+	}
+
+	/**
+	 * Reports that a person clicked the link of a task. The click is buffered, and written with the next
+	 * batch. If the buffer is full, the click is dropped. If the batch cannot be written in the background
+	 * right away, it is written by the next periodic flush instead.
+	 *
+	 * @param person The person that clicked the link.
+	 * @param task   The task of which the link was clicked.
+	 */
 	public void reportClickedLink(SCPerson person, TaskInfo task) {
-		clickedLinkRepository.save(ClickedLink.builder()
-				.person(person)
-				.task(task)
-				.build());
+		if (!buffer.offer(new Click(person.getId(), task.getId(), LocalDateTime.now()))) {
+			dropped.incrementAndGet();
+			return;
+		}
+		if (buffer.size() >= batchSize && !flushing.isLocked()) {
+			try {
+				taskExecutor.execute(this::flush);
+			} catch (TaskRejectedException e) {
+				logger.debug("Could not start writing clicked links, leaving them for the next flush", e);
+			}
+		}
+	}
+
+	/**
+	 * Writes all buffered clicks in batches. This runs periodically, and whenever a full batch is buffered.
+	 * If the clicks are already being written, this does nothing.
+	 */
+	@Scheduled(fixedDelayString = "${skill-circuits.clicked-links.flush-interval:1000}")
+	public void flush() {
+		if (!flushing.tryLock()) {
+			return;
+		}
+		try {
+			writeBuffered();
+		} finally {
+			flushing.unlock();
+		}
+	}
+
+	/**
+	 * Writes the clicks that are still buffered when the application is stopped. If the clicks are being
+	 * written at that moment, this waits for that to finish before writing the rest.
+	 */
+	@PreDestroy
+	public void drain() {
+		flushing.lock();
+		try {
+			writeBuffered();
+		} finally {
+			flushing.unlock();
+		}
+	}
+
+	/**
+	 * Gets the statistics of the buffer of clicks since the application was started.
+	 *
+	 * @return The number of buffered, written and dropped clicks.
+	 */
+	public ClickedLinkBufferStatsDTO getBufferStatistics() {
+		return ClickedLinkBufferStatsDTO.builder()
+				.queueDepth(buffer.size())
+				.capacity(bufferSize)
+				.written(written.get())
+				.dropped(dropped.get())
+				.build();
+	}
+
+	/**
+	 * Writes all buffered clicks in batches. Only one thread may do this at a time.
+	 */
+	private void writeBuffered() {
+		List<Click> batch = new ArrayList<>(batchSize);
+		while (buffer.drainTo(batch, batchSize) > 0) {
+			write(batch);
+			batch.clear();
+		}
+	}
+
+	/**
+	 * Writes a batch of clicks in a single transaction. Clicks on tasks that were deleted after their link
+	 * was clicked are dropped first, so that they do not make the other clicks in the batch fail. If the
+	 * batch still cannot be written, the clicks in the batch are dropped.
+	 *
+	 * @param batch The clicks to write.
+	 */
+	private void write(List<Click> batch) {
+		try {
+			int saved = requireNonNull(transactionTemplate.execute(status -> {
+				Set<Long> taskInfoIds = taskInfoRepository.findAllById(batch.stream()
+						.map(Click::taskInfoId).collect(Collectors.toSet())).stream()
+						.map(TaskInfo::getId).collect(Collectors.toSet());
+				return clickedLinkRepository.saveAll(batch.stream()
+						.filter(click -> taskInfoIds.contains(click.taskInfoId()))
+						.map(click -> ClickedLink.builder()
+								.person(personRepository.getReferenceById(click.personId()))
+								.task(taskInfoRepository.getReferenceById(click.taskInfoId()))
+								.timestamp(click.timestamp())
+								.build())
+						.toList()).size();
+			}));
+			written.addAndGet(saved);
+			if (saved < batch.size()) {
+				dropped.addAndGet(batch.size() - saved);
+				logger.debug("Dropped {} clicked links of deleted tasks", batch.size() - saved);
+			}
+		} catch (RuntimeException e) {
+			dropped.addAndGet(batch.size());
+			logger.warn("Could not write {} clicked links", batch.size(), e);
+		}
+	}
+
+	private record Click(Long personId, Long taskInfoId, LocalDateTime timestamp) {
 	}
 
 }
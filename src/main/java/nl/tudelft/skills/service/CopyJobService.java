@@ -0,0 +1,187 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import nl.tudelft.skills.dto.view.CopyJobView;
+import nl.tudelft.skills.enums.CopyJobStatus;
+import nl.tudelft.skills.enums.CopyPhase;
+import nl.tudelft.skills.model.CopyJob;
+import nl.tudelft.skills.model.SCEdition;
+import nl.tudelft.skills.repository.CopyJobRepository;
+import nl.tudelft.skills.repository.EditionRepository;
+
+@Service
+public class CopyJobService {
+
+	/**
+	 * The number of copied entities after which the progress of a job is written to the database.
+	 */
+	private static final int PROGRESS_INTERVAL = 100;
+
+	private static final long DEFAULT_STALE_AFTER = 300000;
+
+	private static final Set<CopyJobStatus> UNFINISHED = EnumSet.of(CopyJobStatus.QUEUED,
+			CopyJobStatus.RUNNING);
+
+	private final CopyJobRepository copyJobRepository;
+	private final EditionRepository editionRepository;
+	private final CopyService copyService;
+
+	/**
+	 * The ids of the jobs that are queued or running on this instance.
+	 */
+	private final Set<Long> activeJobs = ConcurrentHashMap.newKeySet();
+	private final Duration staleAfter;
+
+	public CopyJobService(CopyJobRepository copyJobRepository, EditionRepository editionRepository,
+			CopyService copyService, Environment env) {
+		this.copyJobRepository = copyJobRepository;
+		this.editionRepository = editionRepository;
+		this.copyService = copyService;
+		this.staleAfter = Duration.ofMillis(
+				env.getProperty("skill-circuits.copy-jobs.stale-after", Long.class, DEFAULT_STALE_AFTER));
+	}
+
+	/**
+	 * Creates a job that copies the contents of an edition into another edition. The edition that is copied
+	 * into is locked while checking for unfinished jobs, so that two jobs cannot copy into the same edition
+	 * at the same time. Once the job is committed, this instance keeps its heartbeat up to date until it has
+	 * run.
+	 *
+	 * @param  original The edition to copy the contents of
+	 * @param  copy     The edition to copy the contents to
+	 * @return          the created job, which still needs to be run
+	 */
+	@Transactional
+	public CopyJob createJob(SCEdition original, SCEdition copy) {
+		editionRepository.findLockedById(copy.getId());
+		if (copyJobRepository.existsByCopyIdAndStatusIn(copy.getId(), UNFINISHED)) {
+			throw new ResponseStatusException(HttpStatus.CONFLICT,
+					"Edition " + copy.getId() + " is already being copied into");
+		}
+		CopyJob job = copyJobRepository.save(CopyJob.builder().original(original).copy(copy).build());
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				activeJobs.add(job.getId());
+			}
+		});
+		return job;
+	}
+
+	/**
+	 * Runs a copy job in the background. The progress of the job is written to the database in separate
+	 * transactions, so that it can be followed while the copy itself is not committed yet.
+	 *
+	 * @param jobId The id of the job to run
+	 */
+	@Async
+	public void runJob(Long jobId) {
+		activeJobs.add(jobId);
+		try {
+			CopyJob job = copyJobRepository.findByIdOrThrow(jobId);
+			copyService.copyEdition(job.getOriginal().getId(), job.getCopy().getId(),
+					new JobProgress(copyJobRepository, jobId));
+			copyJobRepository.finish(jobId, CopyJobStatus.COMPLETED, LocalDateTime.now());
+		} catch (RuntimeException e) {
+			copyJobRepository.finish(jobId, CopyJobStatus.FAILED, LocalDateTime.now());
+			throw e;
+		} finally {
+			activeJobs.remove(jobId);
+		}
+	}
+
+	/**
+	 * Gets the most recent copy job into the given edition.
+	 *
+	 * @param  copy The edition that is copied into
+	 * @return      the view of the most recent job, if there is one
+	 */
+	public Optional<CopyJobView> getLatestJob(SCEdition copy) {
+		return copyJobRepository.findFirstByCopyIdOrderByIdDesc(copy.getId()).map(this::toView);
+	}
+
+	public CopyJobView toView(CopyJob job) {
+		return new CopyJobView(job.getId(), job.getOriginal().getId(), job.getCopy().getId(), job.getStatus(),
+				job.getPhase(), job.getCopied(), job.getTotal(), job.getCreated(), job.getFinished());
+	}
+
+	/**
+	 * Updates the heartbeat of the jobs that are queued or running on this instance.
+	 */
+	@Scheduled(fixedDelayString = "${skill-circuits.copy-jobs.heartbeat-interval:60000}")
+	public void beatActiveJobs() {
+		if (!activeJobs.isEmpty()) {
+			copyJobRepository.beat(Set.copyOf(activeJobs), LocalDateTime.now());
+		}
+	}
+
+	/**
+	 * Marks the unfinished jobs whose heartbeat was not updated for the configured time as failed, so that
+	 * jobs of an instance that stopped do not block new copies into the same edition. Jobs of instances that
+	 * are still running are left alone, as their heartbeat is kept up to date.
+	 */
+	@Scheduled(fixedDelayString = "${skill-circuits.copy-jobs.heartbeat-interval:60000}")
+	public void failStaleJobs() {
+		LocalDateTime now = LocalDateTime.now();
+		copyJobRepository.failStale(now.minus(staleAfter), now);
+	}
+
+	/**
+	 * Writes the progress of a copy job to the database on every phase change and after every
+	 * {@value #PROGRESS_INTERVAL} copied entities.
+	 */
+	private static class JobProgress implements CopyProgressListener {
+
+		private final CopyJobRepository copyJobRepository;
+		private final Long jobId;
+		private CopyPhase lastPhase;
+
+		public JobProgress(CopyJobRepository copyJobRepository, Long jobId) {
+			this.copyJobRepository = copyJobRepository;
+			this.jobId = jobId;
+		}
+
+		@Override
+		public void onProgress(CopyPhase phase, int copied, int total) {
+			if (phase != lastPhase || copied % PROGRESS_INTERVAL == 0 || copied == total) {
+				lastPhase = phase;
+				copyJobRepository.updateProgress(jobId, CopyJobStatus.RUNNING, phase, copied, total);
+			}
+		}
+
+	}
+
+}
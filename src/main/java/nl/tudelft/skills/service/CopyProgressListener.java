@@ -0,0 +1,40 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import nl.tudelft.skills.enums.CopyPhase;
+
+/**
+ * Receives the progress of copying the contents of an edition by the {@link CopyService}.
+ */
+@FunctionalInterface
+public interface CopyProgressListener {
+
+	CopyProgressListener NONE = (phase, copied, total) -> {
+	};
+
+	/**
+	 * Called when the copy enters a new phase and every time an entity has been copied.
+	 *
+	 * @param phase  The phase the copy is in
+	 * @param copied The number of entities that have been copied so far
+	 * @param total  The number of entities that are copied in total
+	 */
+	void onProgress(CopyPhase phase, int copied, int total);
+
+}
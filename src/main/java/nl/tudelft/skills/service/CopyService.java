@@ -18,13 +18,17 @@
 package nl.tudelft.skills.service;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.AllArgsConstructor;
+import nl.tudelft.skills.cache.EditionGraphCache;
+import nl.tudelft.skills.enums.CopyPhase;
 import nl.tudelft.skills.model.*;
 import nl.tudelft.skills.model.bookmark.HiddenSkillBookmarkList;
 import nl.tudelft.skills.repository.*;
@@ -35,6 +39,7 @@ import nl.tudelft.skills.repository.bookmark.HiddenSkillBookmarkListRepository;
 public class CopyService {
 
 	private final EditionRepository editionRepository;
+	private final AbstractSkillRepository abstractSkillRepository;
 	private final ModuleRepository moduleRepository;
 	private final CheckpointRepository checkpointRepository;
 	private final PathRepository pathRepository;
@@ -47,26 +52,101 @@ public class CopyService {
 	private final TaskInfoRepository taskInfoRepository;
 	private final HiddenSkillBookmarkListRepository hiddenSkillBookmarkListRepository;
 
+	private final ModuleCircuitService moduleCircuitService;
+
+	private final EditionGraphCache editionGraphCache;
+
+	/**
+	 * Replaces the contents of an edition by a copy of the contents of another edition. The original edition
+	 * is loaded up front in a fixed number of queries. The ids of the copies are allocated in blocks, so the
+	 * copies are inserted in batches when the transaction is flushed.
+	 *
+	 * @param original The edition to copy the contents of
+	 * @param copy     The edition to copy the contents to
+	 */
 	@Transactional
 	public void copyEdition(SCEdition original, SCEdition copy) {
+		copyEdition(original, copy, CopyProgressListener.NONE);
+	}
+
+	/**
+	 * Replaces the contents of an edition by a copy of the contents of another edition, and reports the
+	 * progress of the copy to the given listener.
+	 *
+	 * @param originalId The id of the edition to copy the contents of
+	 * @param copyId     The id of the edition to copy the contents to
+	 * @param listener   The listener to report the progress to
+	 */
+	@Transactional
+	public void copyEdition(Long originalId, Long copyId, CopyProgressListener listener) {
+		copyEdition(editionRepository.findByIdOrThrow(originalId), editionRepository.findByIdOrThrow(copyId),
+				listener);
+	}
+
+	private void copyEdition(SCEdition original, SCEdition copy, CopyProgressListener listener) {
+		listener.onProgress(CopyPhase.PREPARING, 0, 0);
+		loadEdition(original);
 		moduleRepository.deleteAll(copy.getModules());
 		checkpointRepository.deleteAll(copy.getCheckpoints());
 		pathRepository.deleteAll(copy.getPaths());
 
-		CopyInfo copyInfo = new CopyInfo();
+		CopyInfo copyInfo = new CopyInfo(listener, countEntities(original));
 
 		copy.setVisible(original.isVisible());
+		copyInfo.setPhase(CopyPhase.CHECKPOINTS);
 		copy.setCheckpoints(original.getCheckpoints().stream()
 				.map(checkpoint -> copyCheckpoint(checkpoint, copy, copyInfo)).collect(Collectors.toSet()));
+		copyInfo.setPhase(CopyPhase.PATHS);
 		copy.setPaths(original.getPaths().stream().map(path -> copyPath(path, copy, copyInfo))
 				.collect(Collectors.toList()));
+		copyInfo.setPhase(CopyPhase.MODULES);
 		copy.setModules(original.getModules().stream().map(module -> copyModule(module, copy, copyInfo))
 				.collect(Collectors.toSet()));
+		copyInfo.setPhase(CopyPhase.EXTERNAL_SKILLS);
 		copyExternalSkills(copyInfo);
+		copyInfo.setPhase(CopyPhase.CONNECTIONS);
 		copyConnections(copyInfo);
 		copyHiddenSkillRequirements(copyInfo);
 
-		editionRepository.save(copy);
+		copyInfo.setPhase(CopyPhase.SAVING);
+		editionRepository.saveAndFlush(copy);
+		editionGraphCache.invalidate(copy);
+	}
+
+	/**
+	 * Loads the modules of an edition, with their skills, tasks and the connections between the skills, into
+	 * the persistence context.
+	 *
+	 * @param edition The edition to load
+	 */
+	private void loadEdition(SCEdition edition) {
+		moduleCircuitService.loadModules(edition.getModules());
+		abstractSkillRepository.findAllWithConnectionsByIdIn(edition.getModules().stream()
+				.flatMap(module -> Stream.concat(module.getExternalSkills().stream(),
+						module.getSubmodules().stream().flatMap(submodule -> submodule.getSkills().stream())))
+				.map(AbstractSkill::getId).toList());
+	}
+
+	/**
+	 * Counts the checkpoints, paths, modules, submodules, skills, tasks and task infos of an edition, which
+	 * are the entities that are created when the edition is copied.
+	 *
+	 * @param  edition The edition to count the entities of
+	 * @return         the number of entities in the edition
+	 */
+	private int countEntities(SCEdition edition) {
+		List<Submodule> submodules = edition.getModules().stream()
+				.flatMap(module -> module.getSubmodules().stream()).toList();
+		List<Task> tasks = submodules.stream().flatMap(submodule -> submodule.getSkills().stream())
+				.flatMap(skill -> skill.getTasks().stream()).toList();
+		return edition.getCheckpoints().size() + edition.getPaths().size() + edition.getModules().size()
+				+ submodules.size()
+				+ submodules.stream().mapToInt(submodule -> submodule.getSkills().size()).sum()
+				+ edition.getModules().stream().mapToInt(module -> module.getExternalSkills().size()).sum()
+				+ tasks.size()
+				+ tasks.stream().mapToInt(task -> task instanceof ChoiceTask choiceTask
+						? choiceTask.getTasks().size()
+						: 1).sum();
 	}
 
 	private Checkpoint copyCheckpoint(Checkpoint original, SCEdition toEdition, CopyInfo copyInfo) {
@@ -120,6 +200,7 @@ public class CopyService {
 				.module(toModule)
 				.build();
 		final Submodule savedCopy = submoduleRepository.save(copy);
+		copyInfo.copied();
 		toModule.getSubmodules().add(savedCopy);
 		savedCopy.setSkills(original.getSkills().stream().map(skill -> copySkill(skill, savedCopy, copyInfo))
 				.collect(Collectors.toSet()));
@@ -250,6 +331,11 @@ public class CopyService {
 
 	private static class CopyInfo {
 
+		private final CopyProgressListener listener;
+		private final int total;
+		private CopyPhase phase = CopyPhase.PREPARING;
+		private int copied = 0;
+
 		private final Map<SCModule, SCModule> moduleMap = new HashMap<>();
 		private final Map<Checkpoint, Checkpoint> checkpointMap = new HashMap<>();
 		private final Map<Path, Path> pathMap = new HashMap<>();
@@ -257,8 +343,24 @@ public class CopyService {
 		private final Map<Task, Task> taskMap = new HashMap<>();
 		private final Map<TaskInfo, TaskInfo> taskInfoMap = new HashMap<>();
 
+		public CopyInfo(CopyProgressListener listener, int total) {
+			this.listener = listener;
+			this.total = total;
+		}
+
+		public void setPhase(CopyPhase phase) {
+			this.phase = phase;
+			listener.onProgress(phase, copied, total);
+		}
+
+		public void copied() {
+			copied++;
+			listener.onProgress(phase, copied, total);
+		}
+
 		public void setModuleCopy(SCModule original, SCModule copy) {
 			moduleMap.put(original, copy);
+			copied();
 		}
 
 		public Map<SCModule, SCModule> getCopiedModules() {
@@ -267,6 +369,7 @@ public class CopyService {
 
 		public void setCheckpointCopy(Checkpoint original, Checkpoint copy) {
 			checkpointMap.put(original, copy);
+			copied();
 		}
 
 		public Checkpoint getCopy(Checkpoint original) {
@@ -275,6 +378,7 @@ public class CopyService {
 
 		public void setPathCopy(Path original, Path copy) {
 			pathMap.put(original, copy);
+			copied();
 		}
 
 		public Path getCopy(Path original) {
@@ -283,6 +387,7 @@ public class CopyService {
 
 		public void setSkillCopy(AbstractSkill original, AbstractSkill copy) {
 			skillMap.put(original, copy);
+			copied();
 		}
 
 		public boolean isSkillCopied(AbstractSkill original) {
@@ -299,6 +404,7 @@ public class CopyService {
 
 		public void setTaskCopy(Task original, Task copy) {
 			taskMap.put(original, copy);
+			copied();
 		}
 
 		public Task getCopy(Task original) {
@@ -307,6 +413,7 @@ public class CopyService {
 
 		public void setTaskInfoCopy(TaskInfo original, TaskInfo copy) {
 			taskInfoMap.put(original, copy);
+			copied();
 		}
 
 		public TaskInfo getCopy(TaskInfo original) {
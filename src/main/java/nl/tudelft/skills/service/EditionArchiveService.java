@@ -0,0 +1,173 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import nl.tudelft.labracore.api.EditionControllerApi;
+import nl.tudelft.labracore.api.dto.EditionDetailsDTO;
+import nl.tudelft.skills.dto.stats.EditionArchiveStatsDTO;
+import nl.tudelft.skills.repository.*;
+
+/**
+ * Moves the completions and clicked links of finished editions to archive tables, so the tables that are
+ * used while editions are running only contain the rows of those editions. An edition is finished when it
+ * is archived in LabraCore, or when it ended more than the configured number of retention days ago. The
+ * queries that read completions and clicked links also read the archive, so archiving an edition does not
+ * change its progress or statistics.
+ */
+@Service
+public class EditionArchiveService {
+
+	private static final Logger logger = LoggerFactory.getLogger(EditionArchiveService.class);
+
+	private static final int DEFAULT_RETENTION_DAYS = 365;
+
+	private final EditionRepository editionRepository;
+	private final EditionControllerApi editionApi;
+	private final TaskCompletionRepository taskCompletionRepository;
+	private final ArchivedTaskCompletionRepository archivedTaskCompletionRepository;
+	private final ClickedLinkRepository clickedLinkRepository;
+	private final ArchivedClickedLinkRepository archivedClickedLinkRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	private final int retentionDays;
+	private final boolean dryRun;
+
+	public EditionArchiveService(EditionRepository editionRepository, EditionControllerApi editionApi,
+			TaskCompletionRepository taskCompletionRepository,
+			ArchivedTaskCompletionRepository archivedTaskCompletionRepository,
+			ClickedLinkRepository clickedLinkRepository,
+			ArchivedClickedLinkRepository archivedClickedLinkRepository,
+			PlatformTransactionManager transactionManager, Environment env) {
+		this.editionRepository = editionRepository;
+		this.editionApi = editionApi;
+		this.taskCompletionRepository = taskCompletionRepository;
+		this.archivedTaskCompletionRepository = archivedTaskCompletionRepository;
+		this.clickedLinkRepository = clickedLinkRepository;
+		this.archivedClickedLinkRepository = archivedClickedLinkRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.retentionDays = env.getProperty("skill-circuits.archive.retention-days", Integer.class,
+				DEFAULT_RETENTION_DAYS);
+		this.dryRun = env.getProperty("skill-circuits.archive.dry-run", Boolean.class, false);
+	}
+
+	/**
+	 * Archives the completions and clicked links of all finished editions. Every edition is archived in its
+	 * own transaction. When archiving is configured as a dry run, the rows that would be archived are only
+	 * counted and logged.
+	 */
+	@Scheduled(fixedDelayString = "${skill-circuits.archive.interval:86400000}",
+			initialDelayString = "${skill-circuits.archive.interval:86400000}")
+	public void archiveFinishedEditions() {
+		for (EditionArchiveStatsDTO stats : archive(dryRun)) {
+			logger.info("{} {} completions and {} clicked links of edition {}",
+					stats.isArchived() ? "Archived" : "Would archive", stats.getCompletions(),
+					stats.getClickedLinks(), stats.getEditionId());
+		}
+	}
+
+	/**
+	 * Counts the completions and clicked links that would be archived if the finished editions were
+	 * archived now, without archiving them.
+	 *
+	 * @return The number of rows per finished edition that still has rows to archive.
+	 */
+	public List<EditionArchiveStatsDTO> getDryRunReport() {
+		return archive(true);
+	}
+
+	/**
+	 * Archives the completions and clicked links of all finished editions that still have rows to archive.
+	 * Editions that cannot be archived are logged and skipped, so they are tried again in the next run.
+	 *
+	 * @param  dryRun Whether the rows should only be counted.
+	 * @return        The number of rows per edition that was, or would be, archived.
+	 */
+	private List<EditionArchiveStatsDTO> archive(boolean dryRun) {
+		List<EditionArchiveStatsDTO> report = new ArrayList<>();
+		for (Long editionId : findFinishedEditionIds()) {
+			try {
+				Optional.ofNullable(transactionTemplate.execute(status -> archive(editionId, dryRun)))
+						.filter(stats -> stats.getCompletions() > 0 || stats.getClickedLinks() > 0)
+						.ifPresent(report::add);
+			} catch (RuntimeException e) {
+				logger.warn("Could not archive edition {}", editionId, e);
+			}
+		}
+		return report;
+	}
+
+	/**
+	 * Archives the completions and clicked links of an edition. The rows are copied to the archive and
+	 * deleted with one statement per table.
+	 *
+	 * @param  editionId The id of the edition.
+	 * @param  dryRun    Whether the rows should only be counted.
+	 * @return           The number of rows that was, or would be, archived.
+	 */
+	private EditionArchiveStatsDTO archive(Long editionId, boolean dryRun) {
+		long completions = taskCompletionRepository.countAllInEdition(editionId);
+		long clickedLinks = clickedLinkRepository.countAllInEdition(editionId);
+		boolean archive = !dryRun && (completions > 0 || clickedLinks > 0);
+		if (archive) {
+			completions = archivedTaskCompletionRepository.archiveAllInEdition(editionId);
+			taskCompletionRepository.deleteAllInEdition(editionId);
+			clickedLinks = archivedClickedLinkRepository.archiveAllInEdition(editionId);
+			clickedLinkRepository.deleteAllInEdition(editionId);
+		}
+		return EditionArchiveStatsDTO.builder()
+				.editionId(editionId)
+				.completions(completions)
+				.clickedLinks(clickedLinks)
+				.archived(archive)
+				.build();
+	}
+
+	/**
+	 * Finds the editions that are archived in LabraCore, or that ended more than the retention period ago.
+	 *
+	 * @return The ids of the finished editions.
+	 */
+	private List<Long> findFinishedEditionIds() {
+		List<Long> editionIds = editionRepository.findAllIds();
+		if (editionIds.isEmpty()) {
+			return List.of();
+		}
+		LocalDateTime endedBefore = LocalDateTime.now().minusDays(retentionDays);
+		return requireNonNull(editionApi.getEditionsById(editionIds)
+				.filter(edition -> Boolean.TRUE.equals(edition.getIsArchived())
+						|| edition.getEndDate() != null && edition.getEndDate().isBefore(endedBefore))
+				.map(EditionDetailsDTO::getId)
+				.collectList().block());
+	}
+
+}
@@ -27,6 +27,7 @@ import org.springframework.stereotype.Service;
 import lombok.AllArgsConstructor;
 import nl.tudelft.labracore.api.EditionControllerApi;
 import nl.tudelft.labracore.api.dto.EditionDetailsDTO;
+import nl.tudelft.skills.cache.EditionCompletions;
 import nl.tudelft.skills.dto.view.CheckpointView;
 import nl.tudelft.skills.dto.view.PathView;
 import nl.tudelft.skills.dto.view.circuit.edition.EditionLevelEditionView;
@@ -36,7 +37,6 @@ import nl.tudelft.skills.dto.view.circuit.edition.EditionLevelSubmoduleView;
 import nl.tudelft.skills.dto.view.circuit.module.ModuleLevelModuleView;
 import nl.tudelft.skills.model.*;
 import nl.tudelft.skills.repository.EditionRepository;
-import nl.tudelft.skills.repository.TaskCompletionRepository;
 
 @Service
 @AllArgsConstructor
@@ -48,26 +48,22 @@ public class EditionCircuitService {
 	private final SkillStateService skillStateService;
 	private final SubmoduleDependencyService submoduleDependencyService;
 
-	private final TaskCompletionRepository taskCompletionRepository;
+	private final EditionCompletionService editionCompletionService;
 	private final PathService pathService;
 	private final ModuleCircuitService moduleCircuitService;
 
 	public EditionLevelEditionView getEditionCircuit(Long editionId, SCPerson person) {
 		SCEdition edition = editionRepository.getOrCreate(editionId);
 		EditionDetailsDTO editionDetails = requireNonNull(editionApi.getEditionById(editionId).block());
-		Set<Long> completedTaskIds = taskCompletionRepository.findAllCompletedTaskIdsForPerson(person);
-		Set<Long> revealedSkillIds = person.getSkillsRevealed().stream().map(AbstractSkill::getId)
-				.collect(Collectors.toSet());
-		Path activePath = pathService.getActivePath(person, edition);
-		Set<Task> tasksAdded = person.getTasksAdded();
-		Set<Task> tasksRemoved = person.getTasksRemoved();
+		EditionCompletions completions = editionCompletionService.getCompletions(person, edition);
+		SkillStates states = evaluate(edition, person, completions);
+		moduleCircuitService.loadModules(edition.getModules());
 
 		return new EditionLevelEditionView(
 				edition.getId(),
 				editionDetails.getCourse().getName() + " - " + editionDetails.getName(),
 				edition.getModules().stream()
-						.map(module -> convertToModuleView(module, completedTaskIds, revealedSkillIds,
-								activePath, tasksAdded, tasksRemoved))
+						.map(module -> convertToModuleView(module, completions, states))
 						.toList(),
 				edition.getCheckpoints().stream()
 						.map(checkpoint -> new CheckpointView(checkpoint.getId(), checkpoint.getName(),
@@ -79,69 +75,65 @@ public class EditionCircuitService {
 	}
 
 	public EditionLevelModuleView convertToModuleView(SCModule module, SCPerson person) {
-		Set<Long> completedTaskIds = taskCompletionRepository.findAllCompletedTaskIdsForPerson(person);
-		Set<Long> revealedSkillIds = person.getSkillsRevealed().stream().map(AbstractSkill::getId)
-				.collect(Collectors.toSet());
-		Path activePath = pathService.getActivePath(person, module.getEdition());
-		Set<Task> tasksAdded = person.getTasksAdded();
-		Set<Task> tasksRemoved = person.getTasksRemoved();
-		return convertToModuleView(module, completedTaskIds, revealedSkillIds, activePath, tasksAdded,
-				tasksRemoved);
+		EditionCompletions completions = editionCompletionService.getCompletions(person, module.getEdition());
+		SkillStates states = evaluate(module.getEdition(), person, completions);
+		return convertToModuleView(module, completions, states);
 	}
 
-	private EditionLevelModuleView convertToModuleView(SCModule module, Set<Long> completedTaskIds,
-			Set<Long> revealedSkillIds, Path activePath, Set<Task> tasksAdded, Set<Task> tasksRemoved) {
-		ModuleLevelModuleView moduleCircuit = moduleCircuitService.getModuleCircuit(module, completedTaskIds);
+	private EditionLevelModuleView convertToModuleView(SCModule module, EditionCompletions completions,
+			SkillStates states) {
+		ModuleLevelModuleView moduleCircuit = moduleCircuitService.getModuleCircuit(module, completions);
 		return new EditionLevelModuleView(
 				module.getId(),
 				module.getName(),
 				module.getSubmodules().stream()
-						.map(submodule -> convertToSubmoduleView(submodule, completedTaskIds,
-								revealedSkillIds, activePath, tasksAdded, tasksRemoved))
+						.map(submodule -> convertToSubmoduleView(submodule, states))
 						.toList(),
 				moduleCircuit);
 	}
 
 	public EditionLevelSubmoduleView convertToSubmoduleView(Submodule submodule, SCPerson person) {
-		Set<Long> completedTaskIds = taskCompletionRepository.findAllCompletedTaskIdsForPerson(person);
-		Set<Long> revealedSkillIds = person.getSkillsRevealed().stream().map(AbstractSkill::getId)
-				.collect(Collectors.toSet());
-		Path activePath = pathService.getActivePath(person, submodule.getModule().getEdition());
-		Set<Task> tasksAdded = person.getTasksAdded();
-		Set<Task> tasksRemoved = person.getTasksRemoved();
-		return convertToSubmoduleView(submodule, completedTaskIds, revealedSkillIds, activePath, tasksAdded,
-				tasksRemoved);
+		SCEdition edition = submodule.getModule().getEdition();
+		SkillStates states = evaluate(edition, person,
+				editionCompletionService.getCompletions(person, edition));
+		return convertToSubmoduleView(submodule, states);
 	}
 
-	private EditionLevelSubmoduleView convertToSubmoduleView(Submodule submodule,
-			Set<Long> completedTaskIds, Set<Long> revealedSkillIds, Path activePath, Set<Task> tasksAdded,
-			Set<Task> tasksRemoved) {
+	private EditionLevelSubmoduleView convertToSubmoduleView(Submodule submodule, SkillStates states) {
 		return new EditionLevelSubmoduleView(
 				submodule.getId(),
 				submodule.getName(),
 				submodule.getColumn(),
-				submoduleDependencyService.getSubmoduleParents(submodule).stream().map(Submodule::getId)
-						.toList(),
-				submoduleDependencyService.getSubmoduleChildren(submodule).stream().map(Submodule::getId)
-						.toList(),
+				submoduleDependencyService.getSubmoduleParentIds(submodule),
+				submoduleDependencyService.getSubmoduleChildIds(submodule),
 				submodule.getSkills().stream()
-						.map(skill -> convertToSkillView(skill, completedTaskIds, revealedSkillIds,
-								activePath, tasksAdded, tasksRemoved))
+						.map(skill -> convertToSkillView(skill, states))
 						.toList());
 	}
 
-	private EditionLevelSkillView convertToSkillView(Skill skill, Set<Long> completedTaskIds,
-			Set<Long> revealedSkillIds, Path activePath, Set<Task> tasksAdded, Set<Task> tasksRemoved) {
+	private EditionLevelSkillView convertToSkillView(Skill skill, SkillStates states) {
 		return new EditionLevelSkillView(
 				skill.getId(),
 				skill.getName(),
 				skill.getColumn(),
 				skill.isEssential(),
 				skill.isHidden(),
-				skillStateService.isSkillCompleted(skill, completedTaskIds, revealedSkillIds, activePath,
-						tasksAdded, tasksRemoved),
-				!skillStateService.isSkillUnlocked(skill, completedTaskIds, revealedSkillIds, activePath,
-						tasksAdded, tasksRemoved));
+				states.isCompleted(skill),
+				!states.isUnlocked(skill));
+	}
+
+	/**
+	 * Evaluates the states of all skills in an edition for a person once, using the cached graph of the
+	 * edition, so that building the views does not load the structure of the edition skill by skill.
+	 */
+	private SkillStates evaluate(SCEdition edition, SCPerson person, EditionCompletions completions) {
+		Set<Long> revealedSkillIds = person.getSkillsRevealed().stream().map(AbstractSkill::getId)
+				.collect(Collectors.toSet());
+		Path activePath = pathService.getActivePath(person, edition);
+		return skillStateService.evaluate(completions, revealedSkillIds,
+				activePath == null ? null : activePath.getId(),
+				person.getTasksAdded().stream().map(Task::getId).collect(Collectors.toSet()),
+				person.getTasksRemoved().stream().map(Task::getId).collect(Collectors.toSet()));
 	}
 
 }
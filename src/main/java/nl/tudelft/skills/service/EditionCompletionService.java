@@ -0,0 +1,73 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import static java.util.Objects.requireNonNull;
+
+import org.springframework.stereotype.Service;
+
+import lombok.AllArgsConstructor;
+import nl.tudelft.skills.cache.EditionCompletions;
+import nl.tudelft.skills.cache.EditionGraph;
+import nl.tudelft.skills.cache.EditionGraphCache;
+import nl.tudelft.skills.model.*;
+import nl.tudelft.skills.repository.TaskCompletionRepository;
+
+/**
+ * Loads the task infos a person completed in an edition, as {@link EditionCompletions}.
+ */
+@Service
+@AllArgsConstructor
+public class EditionCompletionService {
+
+	private final TaskCompletionRepository taskCompletionRepository;
+	private final EditionGraphCache editionGraphCache;
+
+	/**
+	 * Gets the completions of a person in an edition. Only completions of task infos in the editions that the
+	 * graph of the edition depends on are loaded.
+	 *
+	 * @param  person    The person.
+	 * @param  editionId The id of the edition.
+	 * @return           The completions of the person in the edition.
+	 */
+	public EditionCompletions getCompletions(SCPerson person, Long editionId) {
+		EditionGraph graph = editionGraphCache.get(editionId);
+		return EditionCompletions.of(graph,
+				taskCompletionRepository.findAllCompletedTaskIdsForPersonInEditions(person,
+						graph.getEditionIds()));
+	}
+
+	public EditionCompletions getCompletions(SCPerson person, SCEdition edition) {
+		return getCompletions(person, edition.getId());
+	}
+
+	public EditionCompletions getCompletions(SCPerson person, AbstractSkill skill) {
+		return getCompletions(person, requireNonNull(EditionGraph.editionIdOf(skill)));
+	}
+
+	public EditionCompletions getCompletions(SCPerson person, Task task) {
+		return getCompletions(person, task.getSkill());
+	}
+
+	public EditionCompletions getCompletions(SCPerson person, TaskInfo taskInfo) {
+		return getCompletions(person,
+				requireNonNull(taskInfo.getTask() == null ? taskInfo.getChoiceTask() : taskInfo.getTask()));
+	}
+
+}
@@ -33,6 +33,8 @@ import nl.tudelft.labracore.api.RoleControllerApi;
 import nl.tudelft.labracore.api.dto.*;
 import nl.tudelft.labracore.api.dto.EditionDetailsDTO;
 import nl.tudelft.librador.dto.DTOConverter;
+import nl.tudelft.skills.cache.EditionCompletions;
+import nl.tudelft.skills.cache.EditionGraphCache;
 import nl.tudelft.skills.dto.patch.EditionPatch;
 import nl.tudelft.skills.dto.view.*;
 import nl.tudelft.skills.dto.view.tasklist.TaskListTaskView;
@@ -54,9 +56,10 @@ public class EditionService {
 
 	private final EditionRepository editionRepository;
 	private final PersonRepository personRepository;
-	private final TaskCompletionRepository taskCompletionRepository;
+	private final EditionCompletionService editionCompletionService;
 	private final DTOConverter dtoConverter;
 	private final TaskService taskService;
+	private final EditionGraphCache editionGraphCache;
 
 	public EditionView getEdition(Long editionId) {
 		EditionDetailsDTO edition = requireNonNull(editionApi.getEditionById(editionId).block());
@@ -211,13 +214,29 @@ public class EditionService {
 
 	public List<TaskListTaskView> getTasksOfEdition(Long editionId, SCPerson person) {
 		SCEdition scEdition = editionRepository.getOrCreate(editionId);
-		Set<Long> completedTaskIds = taskCompletionRepository.findAllCompletedTaskIdsForPerson(person);
+		EditionCompletions completions = editionCompletionService.getCompletions(person, scEdition);
 
 		return scEdition.getModules().stream()
 				.flatMap(m -> m.getSubmodules().stream())
 				.flatMap(sm -> sm.getSkills().stream())
 				.flatMap(s -> s.getTasks().stream())
-				.flatMap(t -> taskService.convertToTaskListTaskView(t, completedTaskIds).stream())
+				.flatMap(t -> taskService.convertToTaskListTaskView(t, completions).stream())
 				.toList();
 	}
+
+	/**
+	 * Scans all editions for cycles in the connections between skills. Cycles can only be created by
+	 * connections that were made before connections were checked, or by changing the database directly. The
+	 * graphs are compiled without caching them, so that the scan does not fill the cache of graphs.
+	 *
+	 * @return The cycles of every edition that has any.
+	 */
+	public List<EditionCyclesView> findCycles() {
+		return editionRepository.findAllIds().stream()
+				.map(editionId -> new EditionCyclesView(editionId,
+						editionGraphCache.compile(editionId).findCycles()))
+				.filter(view -> !view.cycles().isEmpty())
+				.toList();
+	}
+
 }
@@ -20,23 +20,24 @@ package nl.tudelft.skills.service;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
-import java.io.StringWriter;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.springframework.core.io.ByteArrayResource;
-import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.opencsv.CSVWriter;
 
 import lombok.AllArgsConstructor;
 import nl.tudelft.labracore.api.PersonControllerApi;
 import nl.tudelft.labracore.api.dto.PersonSummaryDTO;
-import nl.tudelft.skills.dto.stats.StudentStatsDTO;
-import nl.tudelft.skills.dto.stats.TaskStatsDTO;
+import nl.tudelft.skills.dto.stats.*;
 import nl.tudelft.skills.model.*;
 import nl.tudelft.skills.repository.*;
 
@@ -49,34 +50,42 @@ public class EditionStatisticsService {
 	private final TaskCompletionRepository taskCompletionRepository;
 	private final PersonRepository personRepository;
 	private final PersonControllerApi personApi;
+	private final BatchSkillStateService batchSkillStateService;
 
-	public Resource getTaskStatisticsCSV(SCEdition edition) throws IOException {
-		List<TaskStatsDTO> teacherStats = teacherStatsTaskLevel(edition);
-		StringWriter sw = new StringWriter();
-		try (CSVWriter writer = new CSVWriter(sw)) {
-			writer.writeNext(new String[] { "Task id", "Task name", "Skill name", "Checkpoint name",
-					"Submodule name", "Module name", "Student completions",
-					"Students with this task on their path", "Student link clicks",
-					"Unique student link clicks", "Students clicked the link and completed" });
-
-			for (TaskStatsDTO t : teacherStats) {
-				writer.writeNext(new String[] { String.valueOf(t.getId()), t.getTaskName(), t.getSkillName(),
-						t.getCheckpointName(), t.getSubModuleName(), t.getModuleName(),
-						String.valueOf(t.getNumOfStudentCompletions()),
-						String.valueOf(t.getNumOfStudentsHaveTaskOnPath()),
-						String.valueOf(t.getNumOfStudentLinkClicks()),
-						String.valueOf(t.getNumOfUniqueStudentsClickedLink()),
-						String.valueOf(t.getNumOfStudentsClickedLinkAndCompleted()) });
-			}
+	/**
+	 * Writes the task level statistics of a given edition as CSV to the given output stream. Every row is
+	 * written as soon as it is created, so the CSV is never held in memory as a whole. The output stream is
+	 * flushed, but not closed.
+	 *
+	 * @param  edition     The edition the statistics needs to be collected for
+	 * @param  out         The output stream to write the CSV to
+	 * @throws IOException if the CSV could not be written to the output stream
+	 */
+	@Transactional(readOnly = true)
+	public void writeTaskStatisticsCSV(SCEdition edition, OutputStream out) throws IOException {
+		CSVWriter writer = new CSVWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		writer.writeNext(new String[] { "Task id", "Task name", "Skill name", "Checkpoint name",
+				"Submodule name", "Module name", "Student completions",
+				"Students with this task on their path", "Student link clicks",
+				"Unique student link clicks", "Students clicked the link and completed" });
+
+		for (TaskStatsDTO t : teacherStatsTaskLevel(edition)) {
+			writer.writeNext(new String[] { String.valueOf(t.getId()), t.getTaskName(), t.getSkillName(),
+					t.getCheckpointName(), t.getSubModuleName(), t.getModuleName(),
+					String.valueOf(t.getNumOfStudentCompletions()),
+					String.valueOf(t.getNumOfStudentsHaveTaskOnPath()),
+					String.valueOf(t.getNumOfStudentLinkClicks()),
+					String.valueOf(t.getNumOfUniqueStudentsClickedLink()),
+					String.valueOf(t.getNumOfStudentsClickedLinkAndCompleted()) });
 		}
 
-		return new ByteArrayResource(sw.toString().getBytes(StandardCharsets.UTF_8));
+		writer.flush();
 	}
 
 	/**
 	 * Collects statistics for each task in a given edition. The statistics contain information about the name
 	 * of the tasks, skills, checkpoints, submodules and modules, counts of link clicks, completions and path
-	 * inclusions.
+	 * inclusions. The counts are aggregated by the database for all students in the edition at once.
 	 *
 	 * @param  edition The edition the statistics needs to be collected for
 	 * @return         a list of {@link TaskStatsDTO} objects, containing the task level statistics for the
@@ -86,10 +95,10 @@ public class EditionStatisticsService {
 		Set<Task> tasks = taskRepository.findAllByEdition(edition);
 
 		// Collect all students in the edition
-		List<Long> studentsInEditionIds = requireNonNull(
+		Set<Long> studentsInEditionIds = new HashSet<>(requireNonNull(
 				personApi.getPeopleByEditionAndRoleType(edition.getId(), "STUDENT")
 						.map(PersonSummaryDTO::getId)
-						.collectList().block());
+						.collectList().block()));
 
 		// Collect all the TaskInfo into a list from the existing tasks
 		List<TaskInfo> taskInfos = tasks.stream().sorted(Comparator.comparing(Task::getId)).flatMap(t -> {
@@ -102,30 +111,28 @@ public class EditionStatisticsService {
 			return info.stream();
 		}).toList();
 
-		return taskInfos.stream().map(t -> {
-			// Get the ids of the students who completed the current task
-			Set<Long> studentsCompletedTask = t.getCompletedBy().stream()
-					.map(c -> c.getPerson().getId()).filter(studentsInEditionIds::contains)
-					.collect(Collectors.toSet());
+		// Count the completions, path inclusions and link clicks of the students per task
+		boolean hasStudents = !studentsInEditionIds.isEmpty();
+		Map<Long, Long> studentsCompletedTask = hasStudents
+				? toMap(taskCompletionRepository.countStudentsPerTaskInEdition(edition, studentsInEditionIds))
+				: Collections.emptyMap();
+		Map<Long, Long> studentsHaveTaskOnPath = hasStudents
+				? toMap(pathPreferenceRepository.countStudentsWithTaskOnPathInEdition(edition,
+						studentsInEditionIds))
+				: Collections.emptyMap();
+		Map<Long, LinkClickCount> studentsClickedLink = hasStudents
+				? clickedLinkRepository.countStudentClicksPerTaskInEdition(edition, studentsInEditionIds)
+						.stream().collect(Collectors.toMap(LinkClickCount::getId, Function.identity()))
+				: Collections.emptyMap();
+		Map<Long, Long> studentsClickedAndCompleted = hasStudents
+				? toMap(taskCompletionRepository.countStudentsThatClickedPerTaskInEdition(edition,
+						studentsInEditionIds))
+				: Collections.emptyMap();
 
+		return taskInfos.stream().map(t -> {
 			// The TaskInfo should belong to either a RegularTask or a ChoiceTask object
 			Task taskCategory = t.getChoiceTask() == null ? t.getTask() : t.getChoiceTask();
-
-			// Count the number of the students who have the current task on their path
-			long numOfStudentsHaveTaskOnPath = taskCategory == null ? 0
-					: taskCategory.getPaths().stream()
-							.flatMap(p -> pathPreferenceRepository
-									.findAllByPathId(p.getId()).stream().map(x -> x.getPerson().getId()))
-							.distinct().filter(studentsInEditionIds::contains).count();
-
-			// Get the ids of the students from all link clicks
-			List<Long> studentsClickedLink = clickedLinkRepository.getByTask(t).stream()
-					.map(c -> c.getPerson().getId()).filter(studentsInEditionIds::contains)
-					.toList();
-
-			// Count students who clicked on the link and completed the task
-			long studentsClickedAndCompleted = studentsCompletedTask.stream()
-					.filter(studentsClickedLink::contains).count();
+			Optional<LinkClickCount> clicks = Optional.ofNullable(studentsClickedLink.get(t.getId()));
 
 			return new TaskStatsDTO(t.getId(),
 					t.getName(),
@@ -136,86 +143,140 @@ public class EditionStatisticsService {
 					taskCategory == null ? "Unknown" : taskCategory.getSkill().getSubmodule().getName(),
 					taskCategory == null ? "Unknown"
 							: taskCategory.getSkill().getSubmodule().getModule().getName(),
-					studentsCompletedTask.size(),
-					numOfStudentsHaveTaskOnPath,
-					studentsClickedLink.size(),
-					studentsClickedLink.stream().distinct().count(),
-					studentsClickedAndCompleted);
+					studentsCompletedTask.getOrDefault(t.getId(), 0L),
+					taskCategory == null ? 0 : studentsHaveTaskOnPath.getOrDefault(taskCategory.getId(), 0L),
+					clicks.map(LinkClickCount::getClicks).orElse(0L),
+					clicks.map(LinkClickCount::getPeople).orElse(0L),
+					studentsClickedAndCompleted.getOrDefault(t.getId(), 0L));
 		}).collect(Collectors.toList());
 	}
 
-	public Resource getStudentStatisticsCSV(SCEdition edition) throws IOException {
-		List<StudentStatsDTO> studentStats = teacherStatsStudentLevel(edition);
-		StringWriter sw = new StringWriter();
+	private static Map<Long, Long> toMap(List<IdCount> counts) {
+		return counts.stream().collect(Collectors.toMap(IdCount::getId, IdCount::getCount));
+	}
+
+	/**
+	 * Collects the number of students that unlocked and completed each skill in a given edition, and the
+	 * number of students that completed each checkpoint. A checkpoint is completed by a student if all
+	 * essential skills in the checkpoint are completed. The states of the skills are evaluated for all
+	 * students at once by the {@link BatchSkillStateService}, and counted per skill in a single pass.
+	 *
+	 * @param  edition The edition the statistics needs to be collected for
+	 * @return         a {@link SkillCompletionStatsDTO} object, containing the skill and checkpoint level
+	 *                 statistics for the given edition
+	 */
+	public SkillCompletionStatsDTO teacherStatsSkillLevel(SCEdition edition) {
+		List<Long> studentIds = requireNonNull(
+				personApi.getPeopleByEditionAndRoleType(edition.getId(), "STUDENT")
+						.map(PersonSummaryDTO::getId)
+						.collectList().block());
+		Collection<SkillStates> states = batchSkillStateService.evaluate(edition, studentIds).values();
+		SkillStateCounts counts = SkillStateCounts.of(states);
+
+		List<SkillStatsDTO> skillStats = edition.getModules().stream()
+				.flatMap(module -> module.getSubmodules().stream())
+				.flatMap(submodule -> submodule.getSkills().stream())
+				.sorted(Comparator.comparing(Skill::getId))
+				.map(skill -> new SkillStatsDTO(skill.getId(),
+						skill.getName(),
+						skill.getCheckpoint() == null ? "No checkpoint" : skill.getCheckpoint().getName(),
+						skill.getSubmodule().getName(),
+						skill.getSubmodule().getModule().getName(),
+						skill.isEssential(),
+						counts.unlocked(skill),
+						counts.completed(skill)))
+				.toList();
+
+		List<CheckpointStatsDTO> checkpointStats = edition.getCheckpoints().stream()
+				.sorted(Comparator.comparing(Checkpoint::getDeadline).thenComparing(Checkpoint::getId))
+				.map(checkpoint -> {
+					List<Skill> essentialSkills = checkpoint.getSkills().stream()
+							.filter(AbstractSkill::isEssential).toList();
+					return new CheckpointStatsDTO(checkpoint.getId(),
+							checkpoint.getName(),
+							checkpoint.getDeadline(),
+							states.stream().filter(s -> essentialSkills.stream().allMatch(s::isCompleted))
+									.count());
+				})
+				.toList();
+
+		return new SkillCompletionStatsDTO(states.size(), skillStats, checkpointStats);
+	}
+
+	/**
+	 * Writes the student level statistics of a given edition as CSV to the given output stream. The progress
+	 * of the students is read from a database cursor and every row is written as soon as it is read, so
+	 * neither the progress of all students nor the CSV is held in memory as a whole. The output stream is
+	 * flushed, but not closed.
+	 *
+	 * @param  edition     The edition the statistics needs to be collected for
+	 * @param  out         The output stream to write the CSV to
+	 * @throws IOException if the CSV could not be written to the output stream
+	 */
+	@Transactional(readOnly = true)
+	public void writeStudentStatisticsCSV(SCEdition edition, OutputStream out) throws IOException {
+		CSVWriter writer = new CSVWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
 		DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+		writer.writeNext(new String[] { "Student id", "Username", "Chosen path", "Completed tasks",
+				"Time of last task completion",
+				"Last completed task",
+				"Furthest checkpoint" });
 
-		try (CSVWriter writer = new CSVWriter(sw)) {
-			writer.writeNext(new String[] { "Student id", "Username", "Chosen path", "Completed tasks",
-					"Time of last task completion",
-					"Last completed task",
-					"Furthest checkpoint" });
-
-			for (StudentStatsDTO t : studentStats) {
-				writer.writeNext(new String[] { String.valueOf(t.getId()), t.getUserName(), t.getChosenPath(),
-						String.valueOf(t.getNumberOfCompletedTasks()),
-						t.getLastCompletedTaskTimestamp() == null ? "No activity"
-								: t.getLastCompletedTaskTimestamp().format(formatter),
-						t.getLastCompletedTask(), t.getFurthestCheckpoint() });
-			}
+		try (Stream<StudentStatsDTO> studentStats = streamStudentStats(edition)) {
+			studentStats.forEach(t -> writer.writeNext(new String[] { String.valueOf(t.getId()),
+					t.getUserName(), t.getChosenPath(),
+					String.valueOf(t.getNumberOfCompletedTasks()),
+					t.getLastCompletedTaskTimestamp() == null ? "No activity"
+							: t.getLastCompletedTaskTimestamp().format(formatter),
+					t.getLastCompletedTask(), t.getFurthestCheckpoint() }));
 		}
 
-		return new ByteArrayResource(sw.toString().getBytes(StandardCharsets.UTF_8));
+		writer.flush();
 	}
 
 	/**
 	 * Collects statistics for each student in a given edition. The statistics contain information about the
 	 * username of the student, the chosen path, number of completed tasks by the student, time of last task
 	 * completion, name of last completed task, name of the furthest checkpoint in which the student completed
-	 * a task in.
+	 * a task in. The progress of all students is collected by a single query.
 	 *
 	 * @param  edition The edition the statistics needs to be collected for
 	 * @return         a list of {@link StudentStatsDTO} objects, containing the student level statistics for
 	 *                 the given edition
 	 */
+	@Transactional(readOnly = true)
 	public List<StudentStatsDTO> teacherStatsStudentLevel(SCEdition edition) {
-		List<PersonSummaryDTO> studentsInEdition = requireNonNull(
-				personApi.getPeopleByEditionAndRoleType(edition.getId(), "STUDENT").collectList().block());
-		List<Long> studentIds = studentsInEdition.stream().map(PersonSummaryDTO::getId)
-				.collect(Collectors.toList());
-		List<SCPerson> studentsInEditionSCPerson = personRepository.findAllById(studentIds);
-
-		return studentsInEditionSCPerson.stream().map(student -> {
-			Optional<PersonSummaryDTO> personSummary = studentsInEdition.stream()
-					.filter(x -> x.getId().equals(student.getId())).findAny();
-
-			// Path preference of the student in the given edition
-			Optional<PathPreference> pathPreference = student.getPathPreferences().stream()
-					.filter(p -> Objects.equals(p.getEdition().getId(), edition.getId())).findFirst();
-
-			Set<TaskCompletion> taskCompletions = taskCompletionRepository.findAllByPersonAndEdition(student,
-					edition);
-			Optional<TaskCompletion> lastCompleted = taskCompletions.stream()
-					.max(Comparator.comparing(TaskCompletion::getTimestamp));
-
-			// Find checkpoints of the completed tasks
-			Set<Checkpoint> checkpointsWithActivity = taskCompletions.stream()
-					.map(t -> t.getTask().getChoiceTask() == null ? t.getTask().getTask()
-							: t.getTask().getChoiceTask())
-					.filter(Objects::nonNull).map(t -> t.getSkill().getCheckpoint()).filter(Objects::nonNull)
-					.collect(Collectors.toSet());
-
-			Optional<Checkpoint> furthestCheckpoint = checkpointsWithActivity.stream()
-					.max(Comparator.comparing(Checkpoint::getDeadline));
-
-			return new StudentStatsDTO(
-					student.getId(),
-					personSummary.map(PersonSummaryDTO::getUsername).orElse("Unknown"),
-					pathPreference.isEmpty() ? "Path not chosen" : pathPreference.get().getPath().getName(),
-					taskCompletions.size(),
-					lastCompleted.map(TaskCompletion::getTimestamp).orElse(null),
-					lastCompleted.isEmpty() ? "No activity" : lastCompleted.get().getTask().getName(),
-					furthestCheckpoint.isEmpty() ? "No checkpoint started"
-							: furthestCheckpoint.get().getName());
-		}).collect(Collectors.toList());
+		try (Stream<StudentStatsDTO> studentStats = streamStudentStats(edition)) {
+			return studentStats.collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * Streams the statistics of each student in a given edition, in order of their id. The returned stream
+	 * is backed by a database cursor, so it needs to be consumed within a transaction and closed afterwards.
+	 *
+	 * @param  edition The edition the statistics needs to be collected for
+	 * @return         a stream of {@link StudentStatsDTO} objects for the given edition
+	 */
+	private Stream<StudentStatsDTO> streamStudentStats(SCEdition edition) {
+		Map<Long, PersonSummaryDTO> studentsInEdition = requireNonNull(
+				personApi.getPeopleByEditionAndRoleType(edition.getId(), "STUDENT")
+						.collectMap(PersonSummaryDTO::getId).block());
+		if (studentsInEdition.isEmpty()) {
+			return Stream.empty();
+		}
+
+		return personRepository.streamProgressOfStudentsInEdition(edition, studentsInEdition.keySet())
+				.map(progress -> new StudentStatsDTO(
+						progress.getPersonId(),
+						Optional.ofNullable(studentsInEdition.get(progress.getPersonId()))
+								.map(PersonSummaryDTO::getUsername).orElse("Unknown"),
+						progress.getChosenPath() == null ? "Path not chosen" : progress.getChosenPath(),
+						progress.getCompletedTasks(),
+						progress.getLastCompletedTimestamp(),
+						progress.getLastCompletedTask() == null ? "No activity"
+								: progress.getLastCompletedTask(),
+						progress.getFurthestCheckpoint() == null ? "No checkpoint started"
+								: progress.getFurthestCheckpoint()));
 	}
 }
@@ -19,54 +19,63 @@ package nl.tudelft.skills.service;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashSet;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.AllArgsConstructor;
+import nl.tudelft.skills.cache.EditionCompletions;
+import nl.tudelft.skills.cache.EditionGraph;
 import nl.tudelft.skills.model.*;
-import nl.tudelft.skills.model.bookmark.HiddenSkillBookmarkList;
 import nl.tudelft.skills.repository.PersonRepository;
-import nl.tudelft.skills.repository.TaskCompletionRepository;
-import nl.tudelft.skills.repository.bookmark.HiddenSkillBookmarkListRepository;
+import nl.tudelft.skills.repository.SkillRepository;
 
 @Service
 @AllArgsConstructor
 public class HiddenSkillRevealingService {
 
-	private final HiddenSkillBookmarkListRepository hiddenSkillBookmarkListRepository;
-	private final TaskCompletionRepository taskCompletionRepository;
-	private final SkillStateService skillStateService;
-
 	private final PersonRepository personRepository;
-	private final PathService pathService;
+	private final SkillRepository skillRepository;
 
+	/**
+	 * Reveals the hidden skills whose requirements are completed after a person completed a task. The
+	 * candidates are looked up in the reverse index of the graph of the completions, so nothing is loaded if
+	 * no hidden skill depends on the task. The requirements are checked against the given states, so the
+	 * edition is not evaluated again.
+	 *
+	 * Only the hidden skills in the graph are considered, which are those of the edition of the task and of
+	 * the editions it refers to through external skills. A hidden skill in another edition is not revealed by
+	 * completing the task. A required skill or choice task that is not in the graph counts as not completed,
+	 * as the completions and states of other editions are not loaded.
+	 *
+	 * @param  task        The task info that was completed.
+	 * @param  person      The person that completed the task.
+	 * @param  completions The task infos completed by the person, including the task.
+	 * @param  states      The states of the skills of the person after the task was completed, evaluated on
+	 *                     the same graph as the completions.
+	 * @return             The skills that were revealed.
+	 */
 	@Transactional
-	public Set<Skill> revealSkillsAfterTaskCompletion(TaskInfo task, SCPerson person) {
-		Set<HiddenSkillBookmarkList> candidates = new HashSet<>();
-		candidates.addAll(hiddenSkillBookmarkListRepository.findAllByTasksContains(task));
-		candidates.addAll(hiddenSkillBookmarkListRepository.findAllBySkillsContains(
-				requireNonNull(task.getTask() != null ? task.getTask() : task.getChoiceTask()).getSkill()));
-		if (task.getChoiceTask() != null) {
-			candidates.addAll(
-					hiddenSkillBookmarkListRepository.findAllByChoiceTasksContains(task.getChoiceTask()));
+	public Set<Skill> revealSkillsAfterTaskCompletion(TaskInfo task, SCPerson person,
+			EditionCompletions completions, SkillStates states) {
+		Task taskOfTaskInfo = requireNonNull(task.getTask() == null ? task.getChoiceTask() : task.getTask());
+		EditionGraph graph = completions.getGraph();
+		int[] candidates = graph.hiddenSkillsRequiring(task.getId(),
+				task.getChoiceTask() == null ? null : task.getChoiceTask().getId(),
+				taskOfTaskInfo.getSkill().getId());
+		if (candidates.length == 0) {
+			return Collections.emptySet();
 		}
 
-		Set<Long> completedTaskIds = taskCompletionRepository.findAllCompletedTaskIdsForPerson(person);
-		Set<Long> revealedSkillIds = person.getSkillsRevealed().stream().map(AbstractSkill::getId)
+		Set<Skill> newRevealedSkills = Arrays.stream(candidates)
+				.filter(candidate -> isCompleted(graph.requirementsOf(candidate), completions, states))
+				.mapToObj(candidate -> skillRepository.findByIdOrThrow(graph.skillId(candidate)))
 				.collect(Collectors.toSet());
-		Task taskOfTaskInfo = requireNonNull(task.getTask() == null ? task.getChoiceTask() : task.getTask());
-		Path activePath = pathService.getActivePath(person,
-				taskOfTaskInfo.getSkill().getSubmodule().getModule().getEdition());
-		Set<Task> tasksAdded = person.getTasksAdded();
-		Set<Task> tasksRemoved = person.getTasksRemoved();
-		Set<Skill> newRevealedSkills = candidates.stream()
-				.filter(candidate -> isListCompleted(candidate, completedTaskIds, revealedSkillIds,
-						activePath, tasksAdded, tasksRemoved))
-				.map(HiddenSkillBookmarkList::getSkill).collect(Collectors.toSet());
 
 		person.getSkillsRevealed().addAll(newRevealedSkills);
 		personRepository.save(person);
@@ -74,21 +83,23 @@ public class HiddenSkillRevealingService {
 		return newRevealedSkills;
 	}
 
-	public boolean isListCompleted(HiddenSkillBookmarkList list, Set<Long> completedTaskIds,
-			Set<Long> revealedSkillIds, Path activePath, Set<Task> tasksAdded, Set<Task> tasksRemoved) {
-		if (list.getTasks().stream().anyMatch(task -> !completedTaskIds.contains(task.getId()))) {
+	private boolean isCompleted(EditionGraph.Requirements requirements, EditionCompletions completions,
+			SkillStates states) {
+		EditionGraph graph = completions.getGraph();
+		if (requirements.taskInfoIds().stream().anyMatch(id -> !completions.isCompleted(id))) {
 			return false;
 		}
-		if (list.getChoiceTasks().stream()
-				.anyMatch(task -> !skillStateService.isTaskCompleted(task, completedTaskIds))) {
-			return false;
-		}
-		if (list.getSkills().stream()
-				.anyMatch(skill -> !skillStateService.isSkillCompleted(skill, completedTaskIds,
-						revealedSkillIds, activePath, tasksAdded, tasksRemoved))) {
-			return false;
+		for (Long id : requirements.choiceTaskIds()) {
+			int task = graph.indexOfTask(id);
+			long completed = task < 0 ? 0
+					: IntStream.range(graph.taskInfoStart(task), graph.taskInfoEnd(task))
+							.filter(i -> completions.isCompleted(graph.taskInfo(i))).count();
+			if (task < 0 || completed < graph.minTasks(task)) {
+				return false;
+			}
 		}
-		return true;
+		return requirements.skillIds().stream().mapToInt(graph::indexOfSkill)
+				.allMatch(skill -> skill >= 0 && states.isCompleted(skill));
 	}
 
 }
@@ -17,53 +17,99 @@
  */
 package nl.tudelft.skills.service;
 
-import java.util.Comparator;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
 
 import lombok.AllArgsConstructor;
+import nl.tudelft.skills.cache.EditionCompletions;
+import nl.tudelft.skills.cache.EditionGraph;
 import nl.tudelft.skills.dto.view.circuit.module.*;
 import nl.tudelft.skills.model.*;
-import nl.tudelft.skills.repository.TaskCompletionRepository;
+import nl.tudelft.skills.repository.ChoiceTaskRepository;
+import nl.tudelft.skills.repository.ModuleRepository;
+import nl.tudelft.skills.repository.RegularTaskRepository;
+import nl.tudelft.skills.repository.SkillRepository;
 
 @Service
 @AllArgsConstructor
 public class ModuleCircuitService {
 
-	private final TaskCompletionRepository taskCompletionRepository;
+	private final EditionCompletionService editionCompletionService;
+
+	private final ModuleRepository moduleRepository;
+	private final SkillRepository skillRepository;
+	private final RegularTaskRepository regularTaskRepository;
+	private final ChoiceTaskRepository choiceTaskRepository;
 
 	public ModuleLevelModuleView getModuleCircuit(SCModule module, SCPerson person) {
-		return getModuleCircuit(module, taskCompletionRepository.findAllCompletedTaskIdsForPerson(person));
+		loadModules(List.of(module));
+		return getModuleCircuit(module, editionCompletionService.getCompletions(person, module.getEdition()));
 	}
 
-	public ModuleLevelModuleView getModuleCircuit(SCModule module, Set<Long> completedTaskIds) {
+	public ModuleLevelModuleView getModuleCircuit(SCModule module, EditionCompletions completions) {
 		return new ModuleLevelModuleView(
 				module.getId(),
 				module.getName(),
 				module.getEdition().getId(),
-				module.getExternalSkills().stream().map(skill -> convertToSkillView(skill, completedTaskIds))
-						.toList(),
+				module.getExternalSkills().stream()
+						.map(skill -> convertToSkillView(skill, completions)).toList(),
 				module.getSubmodules().stream()
-						.map(submodule -> convertToSubmoduleView(submodule, completedTaskIds)).toList());
+						.map(submodule -> convertToSubmoduleView(submodule, completions)).toList());
+	}
+
+	/**
+	 * Loads everything that is shown in the circuits of the given modules into the persistence context in a
+	 * fixed number of queries, so that building the views does not load the submodules, skills and tasks
+	 * one by one. The tasks are loaded before the skills are given their task lists, so that the task info of
+	 * each regular task is fetched together with the task.
+	 *
+	 * @param modules The modules to load.
+	 */
+	public void loadModules(Collection<SCModule> modules) {
+		if (modules.isEmpty()) {
+			return;
+		}
+		List<Long> moduleIds = modules.stream().map(SCModule::getId).toList();
+		Set<Long> skillIds = Stream.concat(
+				moduleRepository.findAllWithSkillsByIdIn(moduleIds).stream()
+						.flatMap(module -> module.getSubmodules().stream())
+						.flatMap(submodule -> submodule.getSkills().stream()),
+				moduleRepository.findAllWithExternalSkillsByIdIn(moduleIds).stream()
+						.flatMap(module -> module.getExternalSkills().stream())
+						.map(ExternalSkill::getSkill))
+				.map(AbstractSkill::getId).collect(Collectors.toSet());
+		if (skillIds.isEmpty()) {
+			return;
+		}
+		regularTaskRepository.findAllWithInfoBySkillIdIn(skillIds);
+		choiceTaskRepository.findAllWithChoicesBySkillIdIn(skillIds);
+		skillRepository.findAllWithTasksByIdIn(skillIds);
 	}
 
-	private ModuleLevelSubmoduleView convertToSubmoduleView(Submodule submodule, Set<Long> completedTaskIds) {
+	private ModuleLevelSubmoduleView convertToSubmoduleView(Submodule submodule,
+			EditionCompletions completions) {
 		return new ModuleLevelSubmoduleView(
 				submodule.getId(),
 				submodule.getName(),
-				submodule.getSkills().stream().map(skill -> convertToSkillView(skill, completedTaskIds))
-						.toList());
+				submodule.getSkills().stream()
+						.map(skill -> convertToSkillView(skill, completions)).toList());
 	}
 
 	public ModuleLevelSkillView convertToSkillView(AbstractSkill abstractSkill, SCPerson person) {
 		return convertToSkillView(abstractSkill,
-				taskCompletionRepository.findAllCompletedTaskIdsForPerson(person));
+				editionCompletionService.getCompletions(person, abstractSkill));
 	}
 
-	public ModuleLevelSkillView convertToSkillView(AbstractSkill abstractSkill, Set<Long> completedTaskIds) {
+	/**
+	 * Converts a skill to a view. The connections of the skill are read from the compiled graph of the
+	 * edition instead of being loaded for every skill.
+	 */
+	public ModuleLevelSkillView convertToSkillView(AbstractSkill abstractSkill,
+			EditionCompletions completions) {
+		EditionGraph graph = completions.getGraph();
 		Skill skill = switch (abstractSkill) {
 			case ExternalSkill externalSkill -> externalSkill.getSkill();
 			case Skill s -> s;
@@ -76,22 +122,45 @@ public class ModuleCircuitService {
 				abstractSkill.isEssential(),
 				abstractSkill instanceof Skill s && s.isHidden(),
 				abstractSkill instanceof ExternalSkill,
-				getCheckpointIdInEdition(abstractSkill),
-				abstractSkill.getParents().stream().map(AbstractSkill::getId).toList(),
-				abstractSkill.getChildren().stream().map(AbstractSkill::getId).toList(),
+				getCheckpointIdInEdition(abstractSkill, graph),
+				getParentIds(abstractSkill, graph),
+				getChildIds(abstractSkill, graph),
 				skill.getTasks().stream()
-						.map(task -> convertToTaskView(task, completedTaskIds))
+						.map(task -> convertToTaskView(task, completions))
 						.toList());
 	}
 
-	public Long getCheckpointIdInEdition(AbstractSkill abstractSkill) {
-		return switch (abstractSkill) {
-			case Skill skill -> skill.getCheckpoint() == null ? null : skill.getCheckpoint().getId();
-			case ExternalSkill externalSkill ->
-				findClosestNextCheckpoint(externalSkill, externalSkill.getModule().getEdition().getId())
-						.map(Checkpoint::getId).orElse(null);
-			default -> null; // Unreachable
-		};
+	private List<Long> getParentIds(AbstractSkill abstractSkill, EditionGraph graph) {
+		int index = graph.indexOfSkill(abstractSkill.getId());
+		if (index < 0) {
+			return abstractSkill.getParents().stream().map(AbstractSkill::getId).toList();
+		}
+		return Arrays.stream(graph.parentsOf(index)).mapToObj(graph::skillId).toList();
+	}
+
+	private List<Long> getChildIds(AbstractSkill abstractSkill, EditionGraph graph) {
+		int index = graph.indexOfSkill(abstractSkill.getId());
+		if (index < 0) {
+			return abstractSkill.getChildren().stream().map(AbstractSkill::getId).toList();
+		}
+		return Arrays.stream(graph.childrenOf(index)).mapToObj(graph::skillId).toList();
+	}
+
+	/**
+	 * Gets the checkpoint of a skill. External skills are shown in the checkpoint in their own edition that
+	 * the skill they refer to leads to, which is looked up in the compiled graph of the edition.
+	 */
+	public Long getCheckpointIdInEdition(AbstractSkill abstractSkill, EditionGraph graph) {
+		if (abstractSkill instanceof Skill skill) {
+			return skill.getCheckpoint() == null ? null : skill.getCheckpoint().getId();
+		}
+		ExternalSkill externalSkill = (ExternalSkill) abstractSkill;
+		Long editionId = externalSkill.getModule().getEdition().getId();
+		int index = graph.indexOfSkill(externalSkill.getId());
+		if (index < 0 || !Objects.equals(graph.getEditionId(), editionId)) {
+			return findClosestNextCheckpoint(externalSkill, editionId).map(Checkpoint::getId).orElse(null);
+		}
+		return graph.closestCheckpointId(index);
 	}
 
 	public Optional<Checkpoint> findClosestNextCheckpoint(AbstractSkill abstractSkill, Long editionId) {
@@ -109,18 +178,18 @@ public class ModuleCircuitService {
 	}
 
 	public ModuleLevelTaskView convertToTaskView(Task task, SCPerson person) {
-		return convertToTaskView(task, taskCompletionRepository.findAllCompletedTaskIdsForPerson(person));
+		return convertToTaskView(task, editionCompletionService.getCompletions(person, task));
 	}
 
-	public ModuleLevelTaskView convertToTaskView(Task task, Set<Long> completedTaskIds) {
+	public ModuleLevelTaskView convertToTaskView(Task task, EditionCompletions completions) {
 		return switch (task) {
-			case RegularTask regularTask -> convertToTaskView(regularTask, completedTaskIds);
-			case ChoiceTask choiceTask -> convertToTaskView(choiceTask, completedTaskIds);
+			case RegularTask regularTask -> convertToTaskView(regularTask, completions);
+			case ChoiceTask choiceTask -> convertToTaskView(choiceTask, completions);
 			default -> null; // Unreachable
 		};
 	}
 
-	public ModuleLevelTaskView convertToTaskView(RegularTask task, Set<Long> completedTaskIds) {
+	public ModuleLevelTaskView convertToTaskView(RegularTask task, EditionCompletions completions) {
 		return new ModuleLevelTaskView.Regular(
 				task.getId(),
 				task.getTaskInfo().getId(),
@@ -129,25 +198,25 @@ public class ModuleCircuitService {
 				task.getTime(),
 				task.getTaskInfo().getDeadline(),
 				task.getLink(),
-				completedTaskIds.contains(task.getTaskInfo().getId()),
+				completions.isCompleted(task.getTaskInfo()),
 				task.getPaths().stream().map(Path::getId).toList());
 	}
 
-	public ModuleLevelTaskView convertToTaskView(ChoiceTask task, Set<Long> completedTaskIds) {
+	public ModuleLevelTaskView convertToTaskView(ChoiceTask task, EditionCompletions completions) {
 		return new ModuleLevelTaskView.Choice(
 				task.getId(),
 				task.getName(),
 				task.getMinTasks(),
-				task.getTasks().stream().map(info -> convertToChoiceView(info, completedTaskIds)).toList(),
+				task.getTasks().stream().map(info -> convertToChoiceView(info, completions)).toList(),
 				task.getPaths().stream().map(Path::getId).toList());
 	}
 
 	public ModuleLevelTaskView.ChoiceTaskChoiceView convertToChoiceView(TaskInfo info, SCPerson person) {
-		return convertToChoiceView(info, taskCompletionRepository.findAllCompletedTaskIdsForPerson(person));
+		return convertToChoiceView(info, editionCompletionService.getCompletions(person, info));
 	}
 
 	public ModuleLevelTaskView.ChoiceTaskChoiceView convertToChoiceView(TaskInfo info,
-			Set<Long> completedTaskIds) {
+			EditionCompletions completions) {
 		return new ModuleLevelTaskView.ChoiceTaskChoiceView(
 				info.getId(),
 				info.getName(),
@@ -155,7 +224,7 @@ public class ModuleCircuitService {
 				info.getTime(),
 				info.getDeadline(),
 				info.getLink(),
-				completedTaskIds.contains(info.getId()));
+				completions.isCompleted(info));
 	}
 
 }
@@ -22,6 +22,7 @@ import org.springframework.stereotype.Service;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import nl.tudelft.librador.dto.DTOConverter;
+import nl.tudelft.skills.cache.EditionGraphCache;
 import nl.tudelft.skills.dto.create.ModuleCreate;
 import nl.tudelft.skills.dto.patch.ModulePatch;
 import nl.tudelft.skills.model.SCModule;
@@ -34,10 +35,13 @@ public class ModuleService {
 	private final ModuleRepository moduleRepository;
 
 	private final DTOConverter dtoConverter;
+	private final EditionGraphCache editionGraphCache;
 
 	@Transactional
 	public SCModule createModule(ModuleCreate create) {
-		return moduleRepository.save(create.apply(dtoConverter));
+		SCModule module = moduleRepository.save(create.apply(dtoConverter));
+		editionGraphCache.invalidate(module);
+		return module;
 	}
 
 	@Transactional
@@ -48,6 +52,7 @@ public class ModuleService {
 
 	@Transactional
 	public void deleteModule(SCModule module) {
+		editionGraphCache.invalidate(module);
 		module.getEdition().getModules().remove(module);
 		moduleRepository.delete(module);
 	}
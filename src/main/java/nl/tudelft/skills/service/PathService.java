@@ -19,11 +19,21 @@ package nl.tudelft.skills.service;
 
 import java.util.*;
 
+import org.hibernate.Cache;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.PersistenceContext;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.AllArgsConstructor;
 import nl.tudelft.librador.dto.DTOConverter;
+import nl.tudelft.skills.cache.EditionGraphCache;
 import nl.tudelft.skills.dto.create.PathCreate;
 import nl.tudelft.skills.dto.patch.PathPatch;
 import nl.tudelft.skills.dto.view.PathCustomisationView;
@@ -43,6 +53,9 @@ public class PathService {
 	private final TaskRepository taskRepository;
 
 	private final DTOConverter dtoConverter;
+	private final EditionGraphCache editionGraphCache;
+	private final EntityManager entityManager;
+	private final EntityManagerFactory entityManagerFactory;
 
 	public Path getActivePath(SCPerson person, SCEdition edition) {
 		return pathPreferenceRepository.findByPersonAndEdition(person, edition).map(PathPreference::getPath)
@@ -88,15 +101,24 @@ public class PathService {
 		}
 	}
 
+	/**
+	 * Creates a path and adds all tasks in its edition to it. The tasks are added with a single statement,
+	 * after which the path and the loaded paths of the tasks in the edition are refreshed. Tasks that are not
+	 * loaded yet are not loaded for this.
+	 *
+	 * @param  create The path to create.
+	 * @return        The created path.
+	 */
 	@Transactional
 	public Path createPath(PathCreate create) {
 		Path created = create.apply(dtoConverter);
 		created.setIdx(created.getEdition().getPaths().size());
 		Path path = pathRepository.save(created);
 
-		Set<Task> tasks = taskRepository.findAllByEdition(path.getEdition());
-		tasks.forEach(task -> task.getPaths().add(path));
-		taskRepository.saveAll(tasks);
+		pathRepository.addToAllTasksInEdition(path.getId(), path.getEdition().getId());
+		refreshTaskPaths(path.getEdition(), path.getId());
+		entityManager.refresh(path);
+		editionGraphCache.invalidate(path.getEdition());
 
 		return path;
 	}
@@ -107,13 +129,56 @@ public class PathService {
 		pathRepository.save(path);
 	}
 
+	/**
+	 * Deletes a path. The path is removed from all its tasks with a single statement, after which the loaded
+	 * paths of the tasks in its edition are refreshed.
+	 *
+	 * @param path The path to delete.
+	 */
 	@Transactional
 	public void deletePath(Path path) {
-		Set<Task> tasks = path.getTasks();
-		tasks.forEach(task -> task.getPaths().remove(path));
-		taskRepository.saveAll(tasks);
+		editionGraphCache.invalidate(path.getEdition());
+		pathRepository.removeFromAllTasks(path.getId());
+		pathRepository.deleteById(path.getId());
+		refreshTaskPaths(path.getEdition(), path.getId());
+	}
 
-		pathRepository.delete(path);
+	/**
+	 * Brings the paths of the tasks in an edition up to date after a path was added to or removed from them
+	 * with a single statement. Only the ids of the tasks are queried, and only tasks that are already in the
+	 * persistence context and have their paths loaded are refreshed. The cached paths of the tasks and the
+	 * cached tasks of the path are removed from the second-level cache, now and again when the transaction
+	 * completes. Hibernate only evicts collections for native statements that touch the table of an entity,
+	 * so it does not do this by itself for the join table of tasks and paths.
+	 *
+	 * @param edition The edition of the path.
+	 * @param pathId  The id of the path that was added to or removed from the tasks.
+	 */
+	private void refreshTaskPaths(SCEdition edition, Long pathId) {
+		Set<Long> taskIds = taskRepository.findAllIdsByEdition(edition);
+
+		SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+		PersistenceContext persistenceContext = session.getPersistenceContextInternal();
+		EntityPersister persister = session.getEntityPersister(Task.class.getName(), null);
+		taskIds.stream()
+				.map(taskId -> persistenceContext.getEntity(session.generateEntityKey(taskId, persister)))
+				.filter(task -> task instanceof Task t && Hibernate.isInitialized(t.getPaths()))
+				.forEach(entityManager::refresh);
+
+		Runnable evict = () -> {
+			Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+			taskIds.forEach(taskId -> cache.evictCollectionData(Task.class.getName() + ".paths", taskId));
+			cache.evictCollectionData(Path.class.getName() + ".tasks", pathId);
+		};
+		evict.run();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					evict.run();
+				}
+			});
+		}
 	}
 
 }
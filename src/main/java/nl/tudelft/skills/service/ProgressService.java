@@ -19,10 +19,12 @@ package nl.tudelft.skills.service;
 
 import org.springframework.stereotype.Service;
 
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import nl.tudelft.skills.model.SCEdition;
 import nl.tudelft.skills.model.SCPerson;
+import nl.tudelft.skills.repository.ArchivedTaskCompletionRepository;
 import nl.tudelft.skills.repository.PathPreferenceRepository;
 import nl.tudelft.skills.repository.PersonRepository;
 import nl.tudelft.skills.repository.TaskCompletionRepository;
@@ -34,17 +36,31 @@ public class ProgressService {
 	private final PathPreferenceRepository pathPreferenceRepository;
 	private final PersonRepository personRepository;
 	private final TaskCompletionRepository taskCompletionRepository;
+	private final ArchivedTaskCompletionRepository archivedTaskCompletionRepository;
 
+	private final EntityManager entityManager;
+
+	/**
+	 * Resets the progress of a person in an edition. The completions, archived completions, added and
+	 * removed tasks and revealed skills of the person in the edition are deleted with one statement each,
+	 * and those in other editions are kept. Afterwards, the person is refreshed if it is loaded, so that its
+	 * added and removed tasks and revealed skills are read again.
+	 *
+	 * @param edition The edition to reset the progress in.
+	 * @param person  The person whose progress is reset.
+	 */
 	@Transactional
 	public void resetProgress(SCEdition edition, SCPerson person) {
 		pathPreferenceRepository.deleteByPersonAndEdition(person, edition);
-		taskCompletionRepository
-				.deleteAll(taskCompletionRepository.findAllByPersonAndEdition(person, edition));
+		taskCompletionRepository.deleteAllByPersonAndEdition(person, edition);
+		archivedTaskCompletionRepository.deleteAllByPersonIdAndEditionId(person.getId(), edition.getId());
 
-		person.getTasksAdded().clear();
-		person.getTasksRemoved().clear();
-		person.getSkillsRevealed().clear();
-		personRepository.save(person);
+		personRepository.deleteTasksAddedForPersonAndEdition(person.getId(), edition.getId());
+		personRepository.deleteTasksRemovedForPersonAndEdition(person.getId(), edition.getId());
+		personRepository.deleteSkillsRevealedForPersonAndEdition(person.getId(), edition.getId());
+		if (entityManager.contains(person)) {
+			entityManager.refresh(person);
+		}
 	}
 
 }
@@ -18,21 +18,32 @@
 package nl.tudelft.skills.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.springframework.data.rest.webmvc.ResourceNotFoundException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import nl.tudelft.librador.dto.DTOConverter;
+import nl.tudelft.skills.cache.EditionGraph;
+import nl.tudelft.skills.cache.EditionGraphCache;
 import nl.tudelft.skills.dto.create.ExternalSkillCreate;
 import nl.tudelft.skills.dto.create.SkillCreate;
 import nl.tudelft.skills.dto.patch.SkillPatch;
+import nl.tudelft.skills.dto.patch.SkillPositionUpdate;
 import nl.tudelft.skills.dto.patch.SkillPositionUpdates;
 import nl.tudelft.skills.model.AbstractSkill;
 import nl.tudelft.skills.model.ExternalSkill;
 import nl.tudelft.skills.model.Skill;
 import nl.tudelft.skills.model.bookmark.HiddenSkillBookmarkList;
 import nl.tudelft.skills.repository.AbstractSkillRepository;
+import nl.tudelft.skills.repository.EditionRepository;
 import nl.tudelft.skills.repository.ExternalSkillRepository;
 import nl.tudelft.skills.repository.SkillRepository;
 import nl.tudelft.skills.repository.bookmark.HiddenSkillBookmarkListRepository;
@@ -45,17 +56,23 @@ public class SkillService {
 	private final ExternalSkillRepository externalSkillRepository;
 	private final HiddenSkillBookmarkListRepository hiddenSkillBookmarkListRepository;
 	private final SkillRepository skillRepository;
+	private final EditionRepository editionRepository;
 
 	private final DTOConverter dtoConverter;
+	private final EditionGraphCache editionGraphCache;
 
 	@Transactional
 	public Skill createSkill(SkillCreate create) {
-		return skillRepository.save(create.apply(dtoConverter));
+		Skill skill = skillRepository.save(create.apply(dtoConverter));
+		editionGraphCache.invalidate(skill);
+		return skill;
 	}
 
 	@Transactional
 	public ExternalSkill createSkill(ExternalSkillCreate create) {
-		return externalSkillRepository.save(create.apply(dtoConverter));
+		ExternalSkill skill = externalSkillRepository.save(create.apply(dtoConverter));
+		editionGraphCache.invalidate(skill);
+		return skill;
 	}
 
 	@Transactional
@@ -74,10 +91,12 @@ public class SkillService {
 			}
 			skillRepository.save(skill);
 		}
+		editionGraphCache.invalidate(abstractSkill);
 	}
 
 	@Transactional
 	public void deleteSkill(AbstractSkill skill) {
+		editionGraphCache.invalidate(skill);
 		abstractSkillRepository.delete(skill);
 	}
 
@@ -85,29 +104,79 @@ public class SkillService {
 	public void updatePosition(AbstractSkill skill, Integer column) {
 		skill.setColumn(column);
 		abstractSkillRepository.save(skill);
+		editionGraphCache.invalidate(skill);
 	}
 
+	/**
+	 * Moves skills to other columns. All skills are loaded with a single query, which is answered from the
+	 * persistence context if the permission check already loaded them, and the changed columns are flushed
+	 * as JDBC update batches. The graph of each affected edition is invalidated only once.
+	 *
+	 * @param positions The new columns of the skills.
+	 */
 	@Transactional
 	public void updatePositions(SkillPositionUpdates positions) {
-		List<AbstractSkill> skills = positions.updates().stream().map(update -> {
-			AbstractSkill skill = dtoConverter.apply(update.skill());
-			skill.setColumn(update.column());
-			return skill;
-		}).toList();
+		Map<Long, Integer> columns = positions.updates().stream()
+				.collect(Collectors.toMap(update -> update.skill().getId(), SkillPositionUpdate::column,
+						(first, second) -> second));
+		List<AbstractSkill> skills = List.copyOf(abstractSkillRepository.findAllByIdIn(columns.keySet()));
+		if (skills.size() != columns.size()) {
+			throw new ResourceNotFoundException("AbstractSkill was not found: " + columns.keySet());
+		}
 
+		skills.forEach(skill -> skill.setColumn(columns.get(skill.getId())));
 		abstractSkillRepository.saveAll(skills);
+		skills.stream().map(EditionGraph::editionIdOf).distinct().forEach(editionGraphCache::invalidate);
 	}
 
+	/**
+	 * Makes a skill a parent of another skill, unless that would create a cycle. The editions of both skills
+	 * are locked before checking, so that two concurrent connections cannot each pass the check and together
+	 * create a cycle. The editions are locked in order of their ids, so that connections do not deadlock.
+	 *
+	 * @param from The skill that becomes a parent.
+	 * @param to   The skill that becomes a child.
+	 */
 	@Transactional
 	public void connect(AbstractSkill from, AbstractSkill to) {
+		Stream.of(EditionGraph.editionIdOf(from), EditionGraph.editionIdOf(to)).filter(Objects::nonNull)
+				.distinct().sorted().forEach(editionRepository::findLockedById);
+		if (wouldCreateCycle(from, to)) {
+			throw new ResponseStatusException(HttpStatus.CONFLICT,
+					"Connecting skill " + from.getId() + " to skill " + to.getId() + " would create a cycle");
+		}
 		to.getParents().add(from);
 		abstractSkillRepository.save(to);
+		editionGraphCache.invalidate(to);
+	}
+
+	/**
+	 * Checks whether making a skill a parent of another skill would create a cycle, which is the case if the
+	 * other skill is already an ancestor of the skill. The graph of the edition of the new parent contains
+	 * all of its ancestors, so only that graph needs to be searched.
+	 *
+	 * @param  from The skill that would become a parent.
+	 * @param  to   The skill that would become a child.
+	 * @return      True if the connection would create a cycle.
+	 */
+	public boolean wouldCreateCycle(AbstractSkill from, AbstractSkill to) {
+		if (from == to || (from.getId() != null && Objects.equals(from.getId(), to.getId()))) {
+			return true;
+		}
+		Long editionId = EditionGraph.editionIdOf(from);
+		EditionGraph graph = editionId == null || from.getId() == null
+				? new EditionGraph.Compiler().add(from).compile(null)
+				: editionGraphCache.get(editionId);
+		int fromIndex = graph.indexOfSkill(from.getId());
+		int toIndex = graph.indexOfSkill(to.getId());
+		return fromIndex >= 0 && toIndex >= 0 && graph.isAncestor(toIndex, fromIndex);
 	}
 
 	@Transactional
 	public void disconnect(AbstractSkill from, AbstractSkill to) {
 		to.getParents().remove(from);
 		abstractSkillRepository.save(to);
+		editionGraphCache.invalidate(to);
 	}
 
 }
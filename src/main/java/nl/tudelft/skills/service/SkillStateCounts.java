@@ -0,0 +1,83 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import java.util.Collection;
+
+import nl.tudelft.skills.cache.EditionGraph;
+import nl.tudelft.skills.model.AbstractSkill;
+
+/**
+ * The number of people for which each skill is unlocked and completed. The counts are accumulated by the
+ * index of the skill in the evaluated {@link EditionGraph}, in a single pass over the states of every person.
+ */
+class SkillStateCounts {
+
+	private final EditionGraph graph;
+	private final long[] unlocked;
+	private final long[] completed;
+
+	private SkillStateCounts(EditionGraph graph, long[] unlocked, long[] completed) {
+		this.graph = graph;
+		this.unlocked = unlocked;
+		this.completed = completed;
+	}
+
+	/**
+	 * Counts the states of all skills.
+	 *
+	 * @param  states The states to count, which are all evaluated on the same graph, like the states that are
+	 *                evaluated by {@link BatchSkillStateService}.
+	 * @return        The number of states in which each skill is unlocked and completed.
+	 */
+	static SkillStateCounts of(Collection<SkillStates> states) {
+		EditionGraph graph = states.isEmpty() ? null : states.iterator().next().getGraph();
+		int skillCount = graph == null ? 0 : graph.skillCount();
+		long[] unlocked = new long[skillCount];
+		long[] completed = new long[skillCount];
+		for (SkillStates state : states) {
+			if (state.getGraph() != graph) {
+				throw new IllegalArgumentException("The states are not evaluated on the same graph");
+			}
+			for (int skill = 0; skill < skillCount; skill++) {
+				if (state.isUnlocked(skill)) {
+					unlocked[skill]++;
+				}
+				if (state.isCompleted(skill)) {
+					completed[skill]++;
+				}
+			}
+		}
+		return new SkillStateCounts(graph, unlocked, completed);
+	}
+
+	public long unlocked(AbstractSkill skill) {
+		int index = indexOf(skill);
+		return index < 0 ? 0 : unlocked[index];
+	}
+
+	public long completed(AbstractSkill skill) {
+		int index = indexOf(skill);
+		return index < 0 ? 0 : completed[index];
+	}
+
+	private int indexOf(AbstractSkill skill) {
+		return graph == null ? -1 : graph.indexOfSkill(skill.getId());
+	}
+
+}
@@ -17,13 +17,15 @@
  */
 package nl.tudelft.skills.service;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.function.IntPredicate;
+import java.util.function.ToIntFunction;
 
 import org.springframework.stereotype.Service;
 
 import lombok.AllArgsConstructor;
+import nl.tudelft.skills.cache.EditionCompletions;
+import nl.tudelft.skills.cache.EditionGraph;
 import nl.tudelft.skills.model.*;
 
 /**
@@ -33,82 +35,248 @@ import nl.tudelft.skills.model.*;
 @AllArgsConstructor
 public class SkillStateService {
 
-	///
-    /// A skill in unlocked if:
-    ///  - Any of its tasks are completed
-    ///  - **or**, all its essential parents are completed **and** all its parents are unlocked
-    ///
-    /// Completion implies unlock:
-    ///  - For empty skills, unlock is sufficient and necessary to completion by definition
-    ///  - For non-empty skills, all tasks completed implies any task completed
-    ///
-    /// Note that we use the abstract skill's parents to determine this,
-    /// not the actual parents of an external skill's reference.
-    ///
-	public boolean isSkillUnlocked(AbstractSkill abstractSkill, Set<Long> completedTaskIds,
+	/**
+	 * Evaluates the state of the given skills and all of their ancestors. The skills are compiled into a
+	 * transient {@link EditionGraph} first, which is useful for skills that are not part of a cached graph,
+	 * such as entities that are not saved yet.
+	 *
+	 * @param  skills           The skills to evaluate.
+	 * @param  completedTaskIds The ids of the task infos completed by the person.
+	 * @param  revealedSkillIds The ids of the hidden skills revealed to the person.
+	 * @param  activePath       The active path of the person, or null if there is none.
+	 * @param  tasksAdded       The tasks the person added to their path.
+	 * @param  tasksRemoved     The tasks the person removed from their path.
+	 * @return                  The states of the given skills and their ancestors.
+	 */
+	public SkillStates evaluate(Collection<? extends AbstractSkill> skills, Set<Long> completedTaskIds,
 			Set<Long> revealedSkillIds, Path activePath, Set<Task> tasksAdded, Set<Task> tasksRemoved) {
-		if (abstractSkill.getColumn() == null) {
-			return false;
+		EditionGraph.Compiler compiler = new EditionGraph.Compiler();
+		skills.forEach(compiler::add);
+		EditionGraph graph = compiler.compile(null);
+
+		BitSet tasksOnPath = new BitSet(graph.taskCount());
+		List<Task> tasks = compiler.getTasks();
+		for (int task = 0; task < tasks.size(); task++) {
+			tasksOnPath.set(task, isTaskOnPath(tasks.get(task), activePath, tasksAdded, tasksRemoved));
+		}
+		BitSet completedTaskInfos = new BitSet(graph.taskInfoCount());
+		List<TaskInfo> taskInfos = compiler.getTaskInfos();
+		for (int info = 0; info < taskInfos.size(); info++) {
+			Long id = taskInfos.get(info).getId();
+			completedTaskInfos.set(info, id != null && completedTaskIds.contains(id));
+		}
+		BitSet revealedSkills = new BitSet(graph.skillCount());
+		List<AbstractSkill> compiledSkills = compiler.getSkills();
+		for (int skill = 0; skill < compiledSkills.size(); skill++) {
+			revealedSkills.set(skill,
+					graph.isHidden(skill) && revealedSkillIds.contains(compiledSkills.get(skill).getId()));
 		}
 
-		List<Task> tasks = getTasksOnPath(abstractSkill, activePath, tasksAdded, tasksRemoved);
-		if (tasks.stream().anyMatch(task -> isTaskOrAnySubtaskCompleted(task, completedTaskIds))) {
-			return true;
+		return evaluate(graph, compiler::indexOf,
+				new Inputs(tasksOnPath, completedTaskInfos::get, revealedSkills));
+	}
+
+	/**
+	 * Evaluates the state of all skills in a compiled edition for a person. Since the graph holds the
+	 * complete structure of the edition, this does not load any entities.
+	 *
+	 * @param  completions      The task infos completed by the person in the compiled edition.
+	 * @param  revealedSkillIds The ids of the hidden skills revealed to the person.
+	 * @param  activePathId     The id of the active path of the person, or null if there is none.
+	 * @param  tasksAddedIds    The ids of the tasks the person added to their path.
+	 * @param  tasksRemovedIds  The ids of the tasks the person removed from their path.
+	 * @return                  The states of all skills in the graph.
+	 */
+	public SkillStates evaluate(EditionCompletions completions, Set<Long> revealedSkillIds, Long activePathId,
+			Set<Long> tasksAddedIds, Set<Long> tasksRemovedIds) {
+		EditionGraph graph = completions.getGraph();
+		return evaluate(graph, skill -> graph.indexOfSkill(skill.getId()),
+				inputs(completions, revealedSkillIds, activePathId, tasksAddedIds, tasksRemovedIds));
+	}
+
+	/**
+	 * Updates previously evaluated states after some of the inputs changed, for example after a task was
+	 * completed. Only the given skills are evaluated again, and the children of a skill are only evaluated
+	 * again if the state of the skill changed. The skills are visited in topological order, so every skill
+	 * is evaluated at most once.
+	 *
+	 * @param  states           The states to update, evaluated on the same graph as the completions. These
+	 *                          are updated in place.
+	 * @param  completions      The task infos completed by the person after the change.
+	 * @param  revealedSkillIds The ids of the hidden skills revealed to the person after the change.
+	 * @param  activePathId     The id of the active path of the person, or null if there is none.
+	 * @param  tasksAddedIds    The ids of the tasks the person added to their path.
+	 * @param  tasksRemovedIds  The ids of the tasks the person removed from their path.
+	 * @param  skills           The indices of the skills whose inputs changed.
+	 * @return                  The indices of the skills whose state changed, in topological order.
+	 */
+	public int[] propagate(SkillStates states, EditionCompletions completions, Set<Long> revealedSkillIds,
+			Long activePathId, Set<Long> tasksAddedIds, Set<Long> tasksRemovedIds, int... skills) {
+		EditionGraph graph = states.getGraph();
+		if (graph != completions.getGraph()) {
+			throw new IllegalArgumentException("The states and completions are of different graphs");
 		}
+		Inputs inputs = inputs(completions, revealedSkillIds, activePathId, tasksAddedIds, tasksRemovedIds);
 
-		boolean allEssentialParentsCompleted = abstractSkill.getParents().stream()
-				.filter(AbstractSkill::isEssential)
-				.allMatch(parent -> isSkillCompleted(parent, completedTaskIds, revealedSkillIds, activePath,
-						tasksAdded, tasksRemoved));
-		if (!allEssentialParentsCompleted) {
-			return false;
+		BitSet pending = new BitSet(graph.skillCount());
+		for (int skill : skills) {
+			pending.set(graph.topologicalRank(skill));
+		}
+		BitSet changed = new BitSet(graph.skillCount());
+		for (int rank = pending.nextSetBit(0); rank >= 0; rank = pending.nextSetBit(rank + 1)) {
+			int skill = graph.skillAtRank(rank);
+			if (evaluateSkill(graph, skill, inputs, states)) {
+				changed.set(rank);
+				for (int i = graph.childStart(skill); i < graph.childEnd(skill); i++) {
+					pending.set(graph.topologicalRank(graph.child(i)));
+				}
+			}
 		}
+		return changed.stream().map(graph::skillAtRank).toArray();
+	}
 
-		if (abstractSkill instanceof Skill skill && skill.isHidden()
-				&& !revealedSkillIds.contains(skill.getId())) {
-			return false;
+	/**
+	 * The inputs of an evaluation, indexed by the indices of the graph that is evaluated.
+	 *
+	 * @param tasksOnPath        The tasks on the path of the person.
+	 * @param completedTaskInfos Whether the task info with an index is completed by the person.
+	 * @param revealedSkills     The hidden skills revealed to the person.
+	 */
+	private record Inputs(BitSet tasksOnPath, IntPredicate completedTaskInfos, BitSet revealedSkills) {
+	}
+
+	private Inputs inputs(EditionCompletions completions, Set<Long> revealedSkillIds, Long activePathId,
+			Set<Long> tasksAddedIds, Set<Long> tasksRemovedIds) {
+		EditionGraph graph = completions.getGraph();
+		BitSet tasksOnPath = getTasksOnPath(graph, activePathId, tasksAddedIds, tasksRemovedIds);
+		BitSet revealedSkills = new BitSet(graph.skillCount());
+		for (Long id : revealedSkillIds) {
+			int skill = graph.indexOfSkill(id);
+			if (skill >= 0) {
+				revealedSkills.set(skill);
+			}
+		}
+		return new Inputs(tasksOnPath, completions::isCompleted, revealedSkills);
+	}
+
+	/**
+	 * Determines the tasks on the path of a person as the tasks on their active path, plus the tasks they
+	 * added, minus the tasks they removed. Without an active path, all tasks that were not removed are on the
+	 * path. The tasks on a path are precomputed in the graph, so this only depends on the number of added and
+	 * removed tasks.
+	 */
+	private BitSet getTasksOnPath(EditionGraph graph, Long activePathId, Set<Long> tasksAddedIds,
+			Set<Long> tasksRemovedIds) {
+		BitSet tasksOnPath;
+		if (activePathId == null) {
+			tasksOnPath = new BitSet(graph.taskCount());
+			tasksOnPath.set(0, graph.taskCount());
+		} else {
+			int activePath = graph.indexOfPath(activePathId);
+			tasksOnPath = activePath < 0 ? new BitSet(graph.taskCount()) : graph.tasksOnPath(activePath);
+			for (Long id : tasksAddedIds) {
+				int task = graph.indexOfTask(id);
+				if (task >= 0) {
+					tasksOnPath.set(task);
+				}
+			}
 		}
+		for (Long id : tasksRemovedIds) {
+			int task = graph.indexOfTask(id);
+			if (task >= 0) {
+				tasksOnPath.clear(task);
+			}
+		}
+		return tasksOnPath;
+	}
 
-		// Skip skills that are hidden and not revealed
-		return abstractSkill.getParents().stream()
-				.filter(parent -> !((parent instanceof Skill) && ((Skill) parent).isHidden()
-						&& !revealedSkillIds.contains(parent.getId())))
-				.allMatch(parent -> isSkillUnlocked(parent, completedTaskIds, revealedSkillIds, activePath,
-						tasksAdded, tasksRemoved));
+	/**
+	 * Evaluates every skill in the graph exactly once, in topological order, so that the states of its
+	 * parents are known by the time it is evaluated. This makes the evaluation linear in the number of
+	 * skills, connections and tasks. A parent on a cycle that is not evaluated yet counts as locked and
+	 * uncompleted.
+	 */
+	private SkillStates evaluate(EditionGraph graph, ToIntFunction<AbstractSkill> indexOf, Inputs inputs) {
+		SkillStates states = new SkillStates(graph, indexOf, new boolean[graph.skillCount()],
+				new boolean[graph.skillCount()]);
+		for (int rank = 0; rank < graph.skillCount(); rank++) {
+			evaluateSkill(graph, graph.skillAtRank(rank), inputs, states);
+		}
+		return states;
 	}
 
-	///
-    /// A skill is completed if:
-    ///  - It has tasks and all its tasks are completed
-    ///  - **or**, it has no tasks and it is unlocked
-    ///
-    /// External skills are evaluated in the context of the reference.
-    ///
-	public boolean isSkillCompleted(AbstractSkill abstractSkill, Set<Long> completedTaskIds,
-			Set<Long> revealedSkillIds, Path activePath, Set<Task> tasksAdded, Set<Task> tasksRemoved) {
-		List<Task> tasks = getTasksOnPath(abstractSkill, activePath, tasksAdded, tasksRemoved);
-		if (tasks.isEmpty()) {
-			return isSkillUnlocked(abstractSkill, completedTaskIds, revealedSkillIds, activePath, tasksAdded,
-					tasksRemoved);
+	/**
+	 * Evaluates a single skill, given the states of its parents, and stores its state.
+	 *
+	 * @return Whether the state of the skill changed.
+	 */
+	private boolean evaluateSkill(EditionGraph graph, int skill, Inputs inputs, SkillStates states) {
+		boolean anyTaskOnPath = false;
+		boolean anyTaskStarted = false;
+		boolean allTasksCompleted = true;
+		for (int i = graph.taskStart(skill); i < graph.taskEnd(skill); i++) {
+			int task = graph.task(i);
+			if (!inputs.tasksOnPath().get(task)) {
+				continue;
+			}
+			int completedInfos = 0;
+			for (int j = graph.taskInfoStart(task); j < graph.taskInfoEnd(task); j++) {
+				if (inputs.completedTaskInfos().test(graph.taskInfo(j))) {
+					completedInfos++;
+				}
+			}
+			anyTaskOnPath = true;
+			anyTaskStarted |= completedInfos > 0;
+			allTasksCompleted &= completedInfos >= graph.minTasks(task);
 		}
-		return tasks.stream().allMatch(task -> isTaskCompleted(task, completedTaskIds));
+		boolean unlocked = graph.isPlaced(skill)
+				&& (anyTaskStarted || isUnlockedByParents(graph, skill, states, inputs.revealedSkills()));
+		boolean completed = anyTaskOnPath ? allTasksCompleted : unlocked;
+		boolean changed = unlocked != states.isUnlocked(skill) || completed != states.isCompleted(skill);
+		states.set(skill, unlocked, completed);
+		return changed;
 	}
 
-	public boolean isTaskOrAnySubtaskCompleted(Task task, Set<Long> completedTaskIds) {
+	/**
+	 * Determines whether a skill is unlocked through its parents, given the already evaluated states of its
+	 * parents. Parents that are hidden and not revealed are skipped.
+	 */
+	private boolean isUnlockedByParents(EditionGraph graph, int skill, SkillStates states,
+			BitSet revealedSkills) {
+		for (int i = graph.parentStart(skill); i < graph.parentEnd(skill); i++) {
+			int parent = graph.parent(i);
+			if (graph.isEssential(parent) && !states.isCompleted(parent)) {
+				return false;
+			}
+		}
+
+		if (graph.isHidden(skill) && !revealedSkills.get(skill)) {
+			return false;
+		}
+
+		for (int i = graph.parentStart(skill); i < graph.parentEnd(skill); i++) {
+			int parent = graph.parent(i);
+			if (!(graph.isHidden(parent) && !revealedSkills.get(parent)) && !states.isUnlocked(parent)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public boolean isTaskOrAnySubtaskCompleted(Task task, EditionCompletions completions) {
 		return switch (task) {
-			case RegularTask regularTask -> isTaskCompleted(task, completedTaskIds);
-			case ChoiceTask choiceTask ->
-				choiceTask.getTasks().stream().anyMatch(info -> completedTaskIds.contains(info.getId()));
+			case RegularTask regularTask -> isTaskCompleted(task, completions);
+			case ChoiceTask choiceTask -> choiceTask.getTasks().stream().anyMatch(completions::isCompleted);
 			default -> false; // Unreachable
 		};
 	}
 
-	public boolean isTaskCompleted(Task task, Set<Long> completedTaskIds) {
+	public boolean isTaskCompleted(Task task, EditionCompletions completions) {
 		return switch (task) {
-			case RegularTask regularTask -> completedTaskIds.contains(regularTask.getTaskInfo().getId());
+			case RegularTask regularTask -> completions.isCompleted(regularTask.getTaskInfo());
 			case ChoiceTask choiceTask ->
-				choiceTask.getTasks().stream().filter(info -> completedTaskIds.contains(info.getId()))
-						.count() >= choiceTask.getMinTasks();
+				choiceTask.getTasks().stream().filter(completions::isCompleted).count() >= choiceTask
+						.getMinTasks();
 			default -> false; // Unreachable
 		};
 	}
@@ -0,0 +1,83 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import java.util.function.ToIntFunction;
+
+import nl.tudelft.skills.cache.EditionGraph;
+import nl.tudelft.skills.model.AbstractSkill;
+
+/**
+ * The unlocked and completed state of every skill evaluated by {@link SkillStateService#evaluate}. The states
+ * are stored by the index of the skill in the {@link EditionGraph} that was evaluated. Skills that were not
+ * evaluated are reported as locked and uncompleted.
+ */
+public class SkillStates {
+
+	private final EditionGraph graph;
+	private final ToIntFunction<AbstractSkill> indexOf;
+	private final boolean[] unlocked;
+	private final boolean[] completed;
+
+	SkillStates(EditionGraph graph, ToIntFunction<AbstractSkill> indexOf, boolean[] unlocked,
+			boolean[] completed) {
+		this.graph = graph;
+		this.indexOf = indexOf;
+		this.unlocked = unlocked;
+		this.completed = completed;
+	}
+
+	/**
+	 * @return A copy of these states, which does not change when these states are updated.
+	 */
+	SkillStates copy() {
+		return new SkillStates(graph, indexOf, unlocked.clone(), completed.clone());
+	}
+
+	void set(int skill, boolean isUnlocked, boolean isCompleted) {
+		unlocked[skill] = isUnlocked;
+		completed[skill] = isCompleted;
+	}
+
+	public boolean isUnlocked(AbstractSkill skill) {
+		int index = indexOf.applyAsInt(skill);
+		return index >= 0 && unlocked[index];
+	}
+
+	public boolean isCompleted(AbstractSkill skill) {
+		int index = indexOf.applyAsInt(skill);
+		return index >= 0 && completed[index];
+	}
+
+	public boolean contains(AbstractSkill skill) {
+		return indexOf.applyAsInt(skill) >= 0;
+	}
+
+	public boolean isUnlocked(int skill) {
+		return unlocked[skill];
+	}
+
+	public boolean isCompleted(int skill) {
+		return completed[skill];
+	}
+
+	public EditionGraph getGraph() {
+		return graph;
+	}
+
+}
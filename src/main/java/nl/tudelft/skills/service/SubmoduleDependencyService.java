@@ -17,41 +17,41 @@
  */
 package nl.tudelft.skills.service;
 
-import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.List;
 
 import org.springframework.stereotype.Service;
 
 import lombok.AllArgsConstructor;
-import nl.tudelft.skills.model.AbstractSkill;
+import nl.tudelft.skills.cache.EditionGraph;
+import nl.tudelft.skills.cache.EditionGraphCache;
 import nl.tudelft.skills.model.Submodule;
 
 /**
- * Responsible for determining dependencies between submodules.
+ * Responsible for determining dependencies between submodules. The dependencies are derived once per
+ * version of the structure of an edition, as part of its cached {@link EditionGraph}.
  */
 @Service
 @AllArgsConstructor
 public class SubmoduleDependencyService {
 
+	private final EditionGraphCache editionGraphCache;
+
 	///
     /// The parents of a submodule are the submodules of the parents of all its skills.
     /// A submodule is never a parent of itself.
     ///
-	public Set<Submodule> getSubmoduleParents(Submodule submodule) {
-		return submodule.getSkills().stream().flatMap(skill -> skill.getParents().stream())
-				.map(AbstractSkill::getSubmodule).filter(parent -> !Objects.equals(submodule, parent))
-				.collect(Collectors.toSet());
+	public List<Long> getSubmoduleParentIds(Submodule submodule) {
+		return editionGraphCache.get(submodule.getModule().getEdition())
+				.submoduleParentIds(submodule.getId());
 	}
 
 	///
     /// The children of a submodule are the submodules of the children of all its skills.
     /// A submodule is never a child of itself.
     ///
-	public Set<Submodule> getSubmoduleChildren(Submodule submodule) {
-		return submodule.getSkills().stream().flatMap(skill -> skill.getChildren().stream())
-				.map(AbstractSkill::getSubmodule).filter(child -> !Objects.equals(submodule, child))
-				.collect(Collectors.toSet());
+	public List<Long> getSubmoduleChildIds(Submodule submodule) {
+		return editionGraphCache.get(submodule.getModule().getEdition())
+				.submoduleChildIds(submodule.getId());
 	}
 
 }
@@ -18,14 +18,19 @@
 package nl.tudelft.skills.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
+import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 import org.springframework.stereotype.Service;
 
 import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import nl.tudelft.librador.dto.DTOConverter;
+import nl.tudelft.skills.cache.EditionGraphCache;
 import nl.tudelft.skills.dto.create.SubmoduleCreate;
 import nl.tudelft.skills.dto.patch.SubmodulePatch;
+import nl.tudelft.skills.dto.patch.SubmodulePositionUpdate;
 import nl.tudelft.skills.dto.patch.SubmodulePositionUpdates;
 import nl.tudelft.skills.model.Submodule;
 import nl.tudelft.skills.repository.SubmoduleRepository;
@@ -37,16 +42,20 @@ public class SubmoduleService {
 	private final SubmoduleRepository submoduleRepository;
 
 	private final DTOConverter dtoConverter;
+	private final EditionGraphCache editionGraphCache;
 
 	@Transactional
 	public Submodule createSubmodule(SubmoduleCreate create) {
-		return submoduleRepository.save(create.apply(dtoConverter));
+		Submodule submodule = submoduleRepository.save(create.apply(dtoConverter));
+		editionGraphCache.invalidate(submodule);
+		return submodule;
 	}
 
 	@Transactional
 	public void patchSubmodule(Submodule submodule, SubmodulePatch patch) {
 		patch.apply(submodule, dtoConverter);
 		submoduleRepository.save(submodule);
+		editionGraphCache.invalidate(submodule);
 	}
 
 	@Transactional
@@ -55,19 +64,29 @@ public class SubmoduleService {
 		submoduleRepository.save(submodule);
 	}
 
+	/**
+	 * Moves submodules to other columns. All submodules are loaded with a single query and the changed
+	 * columns are flushed as JDBC update batches.
+	 *
+	 * @param positions The new columns of the submodules.
+	 */
 	@Transactional
 	public void updatePositions(SubmodulePositionUpdates positions) {
-		List<Submodule> submodules = positions.updates().stream().map(update -> {
-			Submodule submodule = dtoConverter.apply(update.submodule());
-			submodule.setColumn(update.column());
-			return submodule;
-		}).toList();
+		Map<Long, Integer> columns = positions.updates().stream()
+				.collect(Collectors.toMap(update -> update.submodule().getId(),
+						SubmodulePositionUpdate::column, (first, second) -> second));
+		List<Submodule> submodules = submoduleRepository.findAllById(columns.keySet());
+		if (submodules.size() != columns.size()) {
+			throw new ResourceNotFoundException("Submodule was not found: " + columns.keySet());
+		}
 
+		submodules.forEach(submodule -> submodule.setColumn(columns.get(submodule.getId())));
 		submoduleRepository.saveAll(submodules);
 	}
 
 	@Transactional
 	public void deleteSubmodule(Submodule submodule) {
+		editionGraphCache.invalidate(submodule);
 		submoduleRepository.delete(submodule);
 	}
 
@@ -17,15 +17,24 @@
  */
 package nl.tudelft.skills.service;
 
-import java.util.Optional;
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import lombok.AllArgsConstructor;
+import nl.tudelft.skills.cache.EditionCompletions;
+import nl.tudelft.skills.cache.EditionGraph;
 import nl.tudelft.skills.dto.AfterTaskCompletionCircuitUpdate;
 import nl.tudelft.skills.model.*;
+import nl.tudelft.skills.repository.ArchivedTaskCompletionRepository;
 import nl.tudelft.skills.repository.TaskCompletionRepository;
 
 @Service
@@ -34,7 +43,11 @@ import nl.tudelft.skills.repository.TaskCompletionRepository;
 public class TaskCompletionService {
 
 	private final TaskCompletionRepository taskCompletionRepository;
+	private final ArchivedTaskCompletionRepository archivedTaskCompletionRepository;
 	private final HiddenSkillRevealingService hiddenSkillRevealingService;
+	private final EditionCompletionService editionCompletionService;
+	private final SkillStateService skillStateService;
+	private final PathService pathService;
 
 	public Optional<Task> getLastCompletedTask(SCPerson person) {
 		return taskCompletionRepository.findLastTaskCompletedFor(person)
@@ -44,27 +57,200 @@ public class TaskCompletionService {
 	}
 
 	/**
-	 * Saves a TaskCompletion to the repository, given the corresponding SCPerson and Task.
+	 * Saves a TaskCompletion to the repository, given the corresponding SCPerson and Task. If the person
+	 * already completed the task, nothing is saved, so completing a task twice has no effect. This includes
+	 * completions that were archived, so a task is never completed both in the archive and outside it.
 	 *
-	 * @param person The SCPerson that completed the Task
-	 * @param task   The Task that was completed
+	 * @param  person The SCPerson that completed the Task
+	 * @param  task   The Task that was completed
+	 * @return        The skills that were revealed and the skills whose state changed
 	 */
 	public AfterTaskCompletionCircuitUpdate completeTask(SCPerson person, TaskInfo task) {
-		taskCompletionRepository.save(TaskCompletion.builder().task(task).person(person).build());
-		return new AfterTaskCompletionCircuitUpdate(
-				hiddenSkillRevealingService.revealSkillsAfterTaskCompletion(task, person).stream()
-						.map(AbstractSkill::getId).collect(Collectors.toSet()));
+		EditionCompletions before = editionCompletionService.getCompletions(person, task);
+		StateChange change = new StateChange(person, task, before);
+
+		if (!before.isCompleted(task)) {
+			taskCompletionRepository.insertIfAbsent(person, task, LocalDateTime.now());
+		}
+		change.complete(before.with(task.getId(), true), task);
+		Set<Long> revealedSkills = change.reveal(task);
+
+		return new AfterTaskCompletionCircuitUpdate(revealedSkills, change.getChangedSkills());
+	}
+
+	/**
+	 * Saves the TaskCompletions of several subtasks of a choice task at once. Subtasks that the person
+	 * already completed are skipped.
+	 *
+	 * @param  person     The SCPerson that completed the subtasks
+	 * @param  choiceTask The choice task of the subtasks
+	 * @param  subtaskIds The ids of the subtasks that were completed
+	 * @return            The skills that were revealed and the skills whose state changed
+	 */
+	public AfterTaskCompletionCircuitUpdate completeSubtasks(SCPerson person, ChoiceTask choiceTask,
+			Set<Long> subtaskIds) {
+		List<TaskInfo> subtasks = choiceTask.getTasks().stream()
+				.filter(subtask -> subtaskIds.contains(subtask.getId())).toList();
+		if (subtasks.size() != subtaskIds.size()) {
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+					"Not all tasks are subtasks of choice task " + choiceTask.getId());
+		}
+		if (subtasks.isEmpty()) {
+			return new AfterTaskCompletionCircuitUpdate(Collections.emptySet(), Collections.emptyList());
+		}
+
+		EditionCompletions before = editionCompletionService.getCompletions(person, choiceTask);
+		// All subtasks are in the skill of the choice task, so any of them determines the skills to update
+		StateChange change = new StateChange(person, subtasks.getFirst(), before);
+
+		LocalDateTime timestamp = LocalDateTime.now();
+		subtasks.stream().filter(subtask -> !before.isCompleted(subtask))
+				.forEach(subtask -> taskCompletionRepository.insertIfAbsent(person, subtask, timestamp));
+		EditionCompletions after = before;
+		for (TaskInfo subtask : subtasks) {
+			after = after.with(subtask.getId(), true);
+		}
+		change.complete(after, subtasks.getFirst());
+		Set<Long> revealedSkills = new HashSet<>();
+		for (TaskInfo subtask : subtasks) {
+			revealedSkills.addAll(change.reveal(subtask));
+		}
+
+		return new AfterTaskCompletionCircuitUpdate(revealedSkills, change.getChangedSkills());
 	}
 
 	/**
-	 * Deletes a TaskCompletion from the repository, given the corresponding SCPerson and Task. If such a
-	 * TaskCompletion does not exist, returns null.
+	 * Deletes a TaskCompletion from the repository, given the corresponding SCPerson and Task. If the
+	 * completion was archived, it is deleted from the archive.
 	 *
-	 * @param person The SCPerson that had completed the Task
-	 * @param task   The Task that was completed
+	 * @param  person The SCPerson that had completed the Task
+	 * @param  task   The Task that was completed
+	 * @return        The skills whose state changed
 	 */
-	public void uncompleteTask(SCPerson person, TaskInfo task) {
+	public AfterTaskCompletionCircuitUpdate uncompleteTask(SCPerson person, TaskInfo task) {
+		EditionCompletions before = editionCompletionService.getCompletions(person, task);
+		StateChange change = new StateChange(person, task, before);
+
 		taskCompletionRepository.deleteByPersonAndTask(person, task);
+		archivedTaskCompletionRepository.deleteByPersonIdAndTaskId(person.getId(), task.getId());
+		change.complete(before.with(task.getId(), false), task);
+
+		return new AfterTaskCompletionCircuitUpdate(Collections.emptySet(), change.getChangedSkills());
+	}
+
+	/**
+	 * Tracks which skills of a person change state while tasks are (un)completed and hidden skills are
+	 * revealed. The states before the change are evaluated once, on the cached graph of the edition. Every
+	 * change is then only propagated from the skills it affects, in topological order, to the descendants
+	 * whose state changed.
+	 */
+	private class StateChange {
+
+		private final SCPerson person;
+		private final EditionGraph graph;
+		private final SkillStates initial;
+		private final SkillStates states;
+		private final Long activePathId;
+		private final Set<Long> tasksAddedIds;
+		private final Set<Long> tasksRemovedIds;
+		private final Set<Long> revealedSkillIds;
+		private final BitSet changed;
+		private EditionCompletions completions;
+
+		/**
+		 * Evaluates the states of the skills of a person before the change.
+		 *
+		 * @param person The person whose completions change.
+		 * @param task   Any task info in the edition of the change.
+		 * @param before The completions before the change.
+		 */
+		private StateChange(SCPerson person, TaskInfo task, EditionCompletions before) {
+			Task taskOfTaskInfo = requireNonNull(
+					task.getTask() == null ? task.getChoiceTask() : task.getTask());
+			Path activePath = pathService.getActivePath(person,
+					taskOfTaskInfo.getSkill().getSubmodule().getModule().getEdition());
+			this.person = person;
+			this.graph = before.getGraph();
+			this.activePathId = activePath == null ? null : activePath.getId();
+			this.tasksAddedIds = person.getTasksAdded().stream().map(Task::getId).collect(Collectors.toSet());
+			this.tasksRemovedIds = person.getTasksRemoved().stream().map(Task::getId)
+					.collect(Collectors.toSet());
+			this.revealedSkillIds = person.getSkillsRevealed().stream().map(AbstractSkill::getId)
+					.collect(Collectors.toCollection(HashSet::new));
+			this.completions = before;
+			this.states = skillStateService.evaluate(before, revealedSkillIds, activePathId, tasksAddedIds,
+					tasksRemovedIds);
+			this.initial = states.copy();
+			this.changed = new BitSet(graph.skillCount());
+		}
+
+		/**
+		 * Updates the states after a task was (un)completed, starting from the skills with the task.
+		 *
+		 * @param after The completions after the change.
+		 * @param task  The task info that was (un)completed.
+		 */
+		private void complete(EditionCompletions after, TaskInfo task) {
+			completions = after;
+			int taskInfo = graph.indexOfTaskInfo(task.getId());
+			if (taskInfo < 0) {
+				return;
+			}
+			int changedTask = graph.taskOf(taskInfo);
+			propagate(IntStream.range(graph.skillStart(changedTask), graph.skillEnd(changedTask))
+					.map(graph::skill).toArray());
+		}
+
+		/**
+		 * Reveals the hidden skills whose requirements are completed after a task was completed, and updates
+		 * the states from the revealed skills and their children.
+		 *
+		 * @param  task The task info that was completed.
+		 * @return      The ids of the skills that were revealed.
+		 */
+		private Set<Long> reveal(TaskInfo task) {
+			Set<Long> revealed = hiddenSkillRevealingService
+					.revealSkillsAfterTaskCompletion(task, person, completions, states).stream()
+					.map(AbstractSkill::getId).collect(Collectors.toSet());
+			revealedSkillIds.addAll(revealed);
+			IntStream.Builder skills = IntStream.builder();
+			for (Long id : revealed) {
+				int skill = graph.indexOfSkill(id);
+				if (skill >= 0) {
+					skills.add(skill);
+					for (int i = graph.childStart(skill); i < graph.childEnd(skill); i++) {
+						skills.add(graph.child(i));
+					}
+				}
+			}
+			propagate(skills.build().toArray());
+			return revealed;
+		}
+
+		private void propagate(int[] skills) {
+			if (skills.length == 0) {
+				return;
+			}
+			for (int skill : skillStateService.propagate(states, completions, revealedSkillIds, activePathId,
+					tasksAddedIds, tasksRemovedIds, skills)) {
+				changed.set(graph.topologicalRank(skill));
+			}
+		}
+
+		/**
+		 * @return The new states of the skills whose state differs from before the change, in topological
+		 *         order. A skill can change back when a revealed skill locks its children again, so the
+		 *         states are compared with the states before the change.
+		 */
+		private List<AfterTaskCompletionCircuitUpdate.SkillState> getChangedSkills() {
+			return changed.stream().map(graph::skillAtRank)
+					.filter(skill -> states.isUnlocked(skill) != initial.isUnlocked(skill)
+							|| states.isCompleted(skill) != initial.isCompleted(skill))
+					.mapToObj(skill -> new AfterTaskCompletionCircuitUpdate.SkillState(graph.skillId(skill),
+							states.isCompleted(skill), !states.isUnlocked(skill)))
+					.toList();
+		}
+
 	}
 
 }
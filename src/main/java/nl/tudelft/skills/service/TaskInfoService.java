@@ -24,6 +24,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import lombok.AllArgsConstructor;
 import nl.tudelft.librador.dto.DTOConverter;
+import nl.tudelft.skills.cache.EditionGraphCache;
 import nl.tudelft.skills.dto.patch.SubtaskMove;
 import nl.tudelft.skills.dto.patch.TaskInfoPatch;
 import nl.tudelft.skills.dto.patch.TaskMove;
@@ -33,17 +34,17 @@ import nl.tudelft.skills.model.Skill;
 import nl.tudelft.skills.model.TaskInfo;
 import nl.tudelft.skills.repository.RegularTaskRepository;
 import nl.tudelft.skills.repository.TaskInfoRepository;
-import nl.tudelft.skills.repository.TaskRepository;
 
 @Service
 @AllArgsConstructor
 public class TaskInfoService {
 
 	private final TaskInfoRepository taskInfoRepository;
-	private final TaskRepository taskRepository;
 	private final RegularTaskRepository regularTaskRepository;
+	private final TaskOrderingService taskOrderingService;
 
 	private final DTOConverter dtoConverter;
+	private final EditionGraphCache editionGraphCache;
 
 	@Transactional
 	public void patchTaskInfo(TaskInfo taskInfo, TaskInfoPatch patch) {
@@ -65,8 +66,10 @@ public class TaskInfoService {
 
 	@Transactional
 	public void moveSubtask(TaskInfo subtask, SubtaskMove move) {
+		editionGraphCache.invalidate(subtask);
 		subtask.setChoiceTask(dtoConverter.apply(move.getChoiceTask()));
 		taskInfoRepository.save(subtask);
+		editionGraphCache.invalidate(subtask);
 	}
 
 	/**
@@ -80,14 +83,12 @@ public class TaskInfoService {
 	@Transactional
 	public RegularTask moveSubtaskOutsideChoiceTask(TaskInfo subtask, TaskMove move) {
 		Skill newSkill = dtoConverter.apply(move.getSkill());
-
-		// Update other indices
-		newSkill.getTasks().stream().filter(t -> t.getIdx() >= move.getIndex())
-				.forEach(t -> t.setIdx(t.getIdx() + 1));
-		taskRepository.saveAll(newSkill.getTasks());
+		editionGraphCache.invalidate(subtask);
+		editionGraphCache.invalidate(newSkill);
 
 		// Create new regular task
-		RegularTask task = RegularTask.builder().skill(newSkill).idx(move.getIndex()).build();
+		RegularTask task = RegularTask.builder().skill(newSkill).build();
+		taskOrderingService.place(task, newSkill, move.getIndex());
 		task.setTaskInfo(subtask);
 
 		// Take over paths and additions/removals from choice task
@@ -108,6 +109,7 @@ public class TaskInfoService {
 
 	@Transactional
 	public void deleteTaskInfo(TaskInfo taskInfo) {
+		editionGraphCache.invalidate(taskInfo);
 		taskInfoRepository.delete(taskInfo);
 	}
 }
@@ -0,0 +1,228 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Set;
+
+import org.hibernate.Cache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import nl.tudelft.skills.model.Skill;
+import nl.tudelft.skills.model.Task;
+import nl.tudelft.skills.repository.TaskRepository;
+
+/**
+ * Maintains the order of the tasks in a skill. The indices of tasks are sparse: after the tasks of a skill
+ * are spaced out, their indices are {@link #GAP} apart, and a task is placed between two other tasks by
+ * giving it the index halfway between theirs. Moving a task therefore only changes the row of that task, so
+ * concurrent moves within a skill do not overwrite each other. When there is no free index left between two
+ * tasks, the tasks of the skill are spaced out again. Skills in which indices are getting close together
+ * are also spaced out periodically, so this rarely happens while a task is moved.
+ */
+@Service
+public class TaskOrderingService {
+
+	private static final Logger logger = LoggerFactory.getLogger(TaskOrderingService.class);
+
+	public static final int GAP = 1024;
+
+	private static final int DEFAULT_MIN_GAP = 32;
+
+	private static final Comparator<Task> ORDER = Comparator.comparing(Task::getIdx)
+			.thenComparing(Task::getId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+	private final TaskRepository taskRepository;
+	private final EntityManager entityManager;
+	private final EntityManagerFactory entityManagerFactory;
+	private final TransactionTemplate transactionTemplate;
+
+	private final int minGap;
+
+	public TaskOrderingService(TaskRepository taskRepository, EntityManager entityManager,
+			EntityManagerFactory entityManagerFactory, PlatformTransactionManager transactionManager,
+			Environment env) {
+		this.taskRepository = taskRepository;
+		this.entityManager = entityManager;
+		this.entityManagerFactory = entityManagerFactory;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.minGap = env.getProperty("skill-circuits.task-ordering.min-gap", Integer.class,
+				DEFAULT_MIN_GAP);
+	}
+
+	/**
+	 * Gets the index for a task that is added after all other tasks of a skill.
+	 *
+	 * @param  skill The skill the task is added to.
+	 * @return       The index of the new task.
+	 */
+	public int nextIndex(Skill skill) {
+		return skill.getTasks().stream().mapToInt(Task::getIdx).max().orElse(-GAP) + GAP;
+	}
+
+	/**
+	 * Places a task at a position among the other tasks of a skill, by only changing the index of the task.
+	 * The task does not have to be in the skill yet, and is not saved. If there is no free index at the
+	 * position, the other tasks of the skill are spaced out first. As that rewrites all other tasks, they are
+	 * then reloaded and locked, and the task is placed before the same task as it would have been in the
+	 * reloaded order.
+	 *
+	 * @param task     The task to place.
+	 * @param skill    The skill the task is placed in.
+	 * @param position The position of the task among the other tasks of the skill, starting at 0.
+	 */
+	public void place(Task task, Skill skill, int position) {
+		List<Task> others = skill.getTasks().stream()
+				.filter(other -> other != task)
+				.filter(other -> task.getId() == null || !task.getId().equals(other.getId()))
+				.sorted(ORDER)
+				.toList();
+		int clamped = Math.clamp(position, 0, others.size());
+
+		OptionalInt index = indexBetween(others, clamped);
+		if (index.isEmpty()) {
+			Task next = clamped < others.size() ? others.get(clamped) : null;
+			List<Task> locked = skill.getId() == null ? others : lockOthers(task, skill);
+			int lockedPosition = next == null || !locked.contains(next) ? Math.min(clamped, locked.size())
+					: locked.indexOf(next);
+			spaceOut(locked);
+			index = indexBetween(locked, lockedPosition);
+		}
+		task.setIdx(index.orElseThrow());
+		evictTaskOrder(skill.getId());
+	}
+
+	/**
+	 * Spaces out the tasks of all skills in which the indices of two tasks are less than the configured
+	 * minimum gap apart. Every skill is spaced out in its own transaction, in which its tasks are locked.
+	 */
+	@Scheduled(fixedDelayString = "${skill-circuits.task-ordering.space-out-interval:3600000}",
+			initialDelayString = "${skill-circuits.task-ordering.space-out-interval:3600000}")
+	public void spaceOutCrowdedSkills() {
+		Set<Long> skillIds = taskRepository.findAllSkillIdsWithIndicesCloserThan(minGap);
+		for (Long skillId : skillIds) {
+			try {
+				transactionTemplate.executeWithoutResult(status -> {
+					spaceOut(taskRepository.findAllBySkillIdOrderByIdxAscIdAsc(skillId));
+					evictTaskOrder(skillId);
+				});
+			} catch (RuntimeException e) {
+				logger.warn("Could not space out the tasks of skill {}", skillId, e);
+			}
+		}
+	}
+
+	/**
+	 * Loads and locks the other tasks of a skill in their committed order. The tasks of a skill may have been
+	 * read from the second-level cache or earlier in the transaction, so the locked tasks are refreshed.
+	 *
+	 * @param  task  The task that is placed, which is left out.
+	 * @param  skill The skill the task is placed in.
+	 * @return       The other tasks of the skill, ordered by their committed indices.
+	 */
+	private List<Task> lockOthers(Task task, Skill skill) {
+		List<Task> locked = taskRepository.findAllBySkillIdOrderByIdxAscIdAsc(skill.getId()).stream()
+				.filter(other -> other != task)
+				.filter(other -> task.getId() == null || !task.getId().equals(other.getId()))
+				.toList();
+		locked.forEach(entityManager::refresh);
+		return locked.stream().sorted(ORDER).toList();
+	}
+
+	/**
+	 * Gets the free index between the task before a position and the task at that position.
+	 *
+	 * @param  tasks    The ordered tasks.
+	 * @param  position The position.
+	 * @return          The index, or nothing if there is no free index at the position.
+	 */
+	private OptionalInt indexBetween(List<Task> tasks, int position) {
+		long before = position == 0 ? Long.MIN_VALUE : tasks.get(position - 1).getIdx();
+		long after = position == tasks.size() ? Long.MAX_VALUE : tasks.get(position).getIdx();
+		long index;
+		if (tasks.isEmpty()) {
+			index = 0;
+		} else if (position == 0) {
+			index = after - GAP;
+		} else if (position == tasks.size()) {
+			index = before + GAP;
+		} else {
+			index = before + (after - before) / 2;
+		}
+		if (index <= before || index >= after || index < Integer.MIN_VALUE || index > Integer.MAX_VALUE) {
+			return OptionalInt.empty();
+		}
+		return OptionalInt.of((int) index);
+	}
+
+	/**
+	 * Gives ordered tasks indices that are {@link #GAP} apart, only saving the tasks of which the index
+	 * changed.
+	 *
+	 * @param tasks The ordered tasks.
+	 */
+	private void spaceOut(List<Task> tasks) {
+		List<Task> changed = new ArrayList<>();
+		for (int i = 0; i < tasks.size(); i++) {
+			if (tasks.get(i).getIdx() != i * GAP) {
+				tasks.get(i).setIdx(i * GAP);
+				changed.add(tasks.get(i));
+			}
+		}
+		taskRepository.saveAll(changed);
+	}
+
+	/**
+	 * Removes the cached order of the tasks of a skill. Changing the index of a task does not change the
+	 * skill it belongs to, so Hibernate does not evict the cached task list of the skill by itself. The list
+	 * is evicted again after the transaction completes, since a concurrent request may have cached the old
+	 * order before the new indices were committed.
+	 *
+	 * @param skillId The id of the skill.
+	 */
+	private void evictTaskOrder(Long skillId) {
+		if (skillId == null) {
+			return;
+		}
+		Runnable evict = () -> entityManagerFactory.getCache().unwrap(Cache.class)
+				.evictCollectionData(Skill.class.getName() + ".tasks", skillId);
+		evict.run();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					evict.run();
+				}
+			});
+		}
+	}
+
+}
@@ -18,7 +18,6 @@
 package nl.tudelft.skills.service;
 
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -27,6 +26,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import lombok.AllArgsConstructor;
 import nl.tudelft.librador.dto.DTOConverter;
+import nl.tudelft.skills.cache.EditionCompletions;
+import nl.tudelft.skills.cache.EditionGraphCache;
 import nl.tudelft.skills.dto.create.ChoiceTaskCreate;
 import nl.tudelft.skills.dto.create.RegularTaskCreate;
 import nl.tudelft.skills.dto.patch.ChoiceTaskPatch;
@@ -48,8 +49,10 @@ public class TaskService {
 	private final TaskInfoRepository taskInfoRepository;
 	private final TaskRepository taskRepository;
 	private final ModuleCircuitService moduleCircuitService;
+	private final TaskOrderingService taskOrderingService;
 
 	private final DTOConverter dtoConverter;
+	private final EditionGraphCache editionGraphCache;
 
 	@Transactional
 	public RegularTask createTask(RegularTaskCreate create) {
@@ -60,8 +63,9 @@ public class TaskService {
 		task.setName(create.getName());
 		task.setTime(0);
 		task.setType(TaskType.READING);
-		task.setIdx(task.getSkill().getTasks().size());
+		task.setIdx(taskOrderingService.nextIndex(skill));
 		task.setPaths(new HashSet<>(skill.getSubmodule().getModule().getEdition().getPaths()));
+		editionGraphCache.invalidate(skill);
 		return taskRepository.save(task);
 	}
 
@@ -70,8 +74,9 @@ public class TaskService {
 		ChoiceTask task = new ChoiceTask();
 		Skill skill = dtoConverter.apply(create.getSkill());
 		task.setSkill(skill);
-		task.setIdx(task.getSkill().getTasks().size());
+		task.setIdx(taskOrderingService.nextIndex(skill));
 		task.setPaths(new HashSet<>(task.getSkill().getSubmodule().getModule().getEdition().getPaths()));
+		editionGraphCache.invalidate(skill);
 		return taskRepository.save(task);
 	}
 
@@ -79,44 +84,36 @@ public class TaskService {
 	public void patchTask(Task task, TaskPatch patch) {
 		patch.apply(task, dtoConverter);
 		taskRepository.save(task);
+		editionGraphCache.invalidate(task);
 	}
 
 	@Transactional
 	public void patchTask(ChoiceTask task, ChoiceTaskPatch patch) {
 		patch.apply(task, dtoConverter);
 		taskRepository.save(task);
+		editionGraphCache.invalidate(task);
 	}
 
 	@Transactional
 	public void updateTaskIndex(Task task, Integer newIndex) {
-		List<Task> tasks = task.getSkill().getTasks();
-		tasks.stream().filter(t -> t.getIdx() > task.getIdx()).forEach(t -> t.setIdx(t.getIdx() - 1));
-		tasks.stream().filter(t -> t.getIdx() >= newIndex).forEach(t -> t.setIdx(t.getIdx() + 1));
-		task.setIdx(newIndex);
-		taskRepository.saveAll(tasks);
+		taskOrderingService.place(task, task.getSkill(), newIndex);
+		taskRepository.save(task);
 	}
 
 	@Transactional
 	public void moveTask(Task task, TaskMove move) {
-		task.getSkill().getTasks().stream().filter(t -> t.getIdx() > task.getIdx())
-				.forEach(t -> t.setIdx(t.getIdx() - 1));
-		taskRepository.saveAll(task.getSkill().getTasks());
-
+		editionGraphCache.invalidate(task);
 		Skill newSkill = dtoConverter.apply(move.getSkill());
-		newSkill.getTasks().stream().filter(t -> t.getIdx() >= move.getIndex())
-				.forEach(t -> t.setIdx(t.getIdx() + 1));
-		taskRepository.saveAll(newSkill.getTasks());
-
-		task.setIdx(move.getIndex());
+		taskOrderingService.place(task, newSkill, move.getIndex());
 		task.setSkill(newSkill);
 		taskRepository.save(task);
+		editionGraphCache.invalidate(newSkill);
 	}
 
 	@Transactional
 	public TaskInfo moveTaskInsideChoiceTask(ChoiceTask choiceTask, RegularTask subtask) {
-		subtask.getSkill().getTasks().stream().filter(t -> t.getIdx() > subtask.getIdx())
-				.forEach(t -> t.setIdx(t.getIdx() - 1));
-		taskRepository.saveAll(subtask.getSkill().getTasks());
+		editionGraphCache.invalidate(subtask);
+		editionGraphCache.invalidate(choiceTask);
 
 		subtask.getTaskInfo().setTask(null);
 		subtask.getTaskInfo().setChoiceTask(choiceTask);
@@ -130,19 +127,20 @@ public class TaskService {
 
 	@Transactional
 	public void deleteTask(Task task) {
+		editionGraphCache.invalidate(task);
 		taskRepository.delete(task);
 	}
 
-	public Set<TaskListTaskView> convertToTaskListTaskView(Task task, Set<Long> completedTaskIds) {
+	public Set<TaskListTaskView> convertToTaskListTaskView(Task task, EditionCompletions completions) {
 		return switch (task) {
-			case RegularTask regularTask -> Set.of(convertToTaskListTaskView(regularTask, completedTaskIds));
-			case ChoiceTask choiceTask -> convertToTaskListTaskView(choiceTask, completedTaskIds);
+			case RegularTask regularTask -> Set.of(convertToTaskListTaskView(regularTask, completions));
+			case ChoiceTask choiceTask -> convertToTaskListTaskView(choiceTask, completions);
 			default -> null; // Unreachable
 		};
 	}
 
-	public TaskListTaskView convertToTaskListTaskView(RegularTask task, Set<Long> completedTaskIds) {
-		ModuleLevelTaskView taskView = moduleCircuitService.convertToTaskView(task, completedTaskIds);
+	public TaskListTaskView convertToTaskListTaskView(RegularTask task, EditionCompletions completions) {
+		ModuleLevelTaskView taskView = moduleCircuitService.convertToTaskView(task, completions);
 		return new TaskListRegularView(
 				taskView,
 				taskView,
@@ -151,9 +149,9 @@ public class TaskService {
 				task.getSkill().getSubmodule().getModule().getName());
 	}
 
-	public Set<TaskListTaskView> convertToTaskListTaskView(ChoiceTask task, Set<Long> completedTaskIds) {
+	public Set<TaskListTaskView> convertToTaskListTaskView(ChoiceTask task, EditionCompletions completions) {
 		ModuleLevelTaskView.Choice choiceTaskView = (ModuleLevelTaskView.Choice) moduleCircuitService
-				.convertToTaskView(task, completedTaskIds);
+				.convertToTaskView(task, completions);
 		return choiceTaskView.tasks().stream().map(choice -> new TaskListChoiceView(
 				choiceTaskView,
 				choice,
@@ -0,0 +1,114 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import nl.tudelft.skills.model.SCEdition;
+import nl.tudelft.skills.repository.EditionRepository;
+
+public class EditionGraphCacheTest {
+
+	private EditionRepository editionRepository;
+	private EditionGraphCache cache;
+
+	@BeforeEach
+	void setUp() {
+		editionRepository = mock(EditionRepository.class);
+		cache = new EditionGraphCache(editionRepository, mock(PlatformTransactionManager.class),
+				new MockEnvironment());
+	}
+
+	@Test
+	void graphInvalidatedDuringCompileIsNotCached() {
+		AtomicBoolean invalidated = new AtomicBoolean();
+		when(editionRepository.getOrCreate(1L)).thenAnswer(invocation -> {
+			if (!invalidated.getAndSet(true)) {
+				cache.invalidate(1L);
+			}
+			return SCEdition.builder().id(1L).build();
+		});
+
+		EditionGraph stale = cache.get(1L);
+		EditionGraph fresh = cache.get(1L);
+
+		assertThat(stale).isNotSameAs(fresh);
+		assertThat(cache.get(1L)).isSameAs(fresh);
+		verify(editionRepository, times(2)).getOrCreate(1L);
+	}
+
+	@Test
+	void graphIsNotCachedUntilInvalidatingTransactionCompletes() {
+		when(editionRepository.getOrCreate(1L)).thenAnswer(invocation -> SCEdition.builder().id(1L).build());
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			cache.invalidate(1L);
+			assertThat(cache.get(1L)).isNotSameAs(cache.get(1L));
+
+			TransactionSynchronizationManager.getSynchronizations()
+					.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+
+		assertThat(cache.get(1L)).isSameAs(cache.get(1L));
+	}
+
+	@Test
+	void invalidateEvictsCachedGraph() {
+		when(editionRepository.getOrCreate(1L)).thenAnswer(invocation -> SCEdition.builder().id(1L).build());
+
+		EditionGraph graph = cache.get(1L);
+		cache.invalidate(1L);
+
+		assertThat(cache.get(1L)).isNotSameAs(graph);
+	}
+
+	@Test
+	void compiledGraphIsNotCached() {
+		when(editionRepository.getOrCreate(1L)).thenAnswer(invocation -> SCEdition.builder().id(1L).build());
+
+		EditionGraph compiled = cache.compile(1L);
+		EditionGraph graph = cache.get(1L);
+
+		assertThat(graph).isNotSameAs(compiled);
+		assertThat(cache.get(1L)).isSameAs(graph);
+		verify(editionRepository, times(2)).getOrCreate(1L);
+	}
+
+	@Test
+	void graphExpiresAfterConfiguredTime() {
+		when(editionRepository.getOrCreate(1L)).thenAnswer(invocation -> SCEdition.builder().id(1L).build());
+		cache = new EditionGraphCache(editionRepository, mock(PlatformTransactionManager.class),
+				new MockEnvironment().withProperty("skill-circuits.cache.edition-graphs.expire-after", "0"));
+
+		assertThat(cache.get(1L)).isNotSameAs(cache.get(1L));
+	}
+
+}
@@ -0,0 +1,410 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import nl.tudelft.skills.model.*;
+import nl.tudelft.skills.model.bookmark.HiddenSkillBookmarkList;
+import nl.tudelft.skills.service.ModuleCircuitService;
+import nl.tudelft.skills.service.SkillStateService;
+import nl.tudelft.skills.service.SkillStates;
+
+/**
+ * Compares the indices of compiled edition graphs with the traversals over the entities that they replace, on
+ * random editions.
+ */
+public class EditionGraphTest {
+
+	private static final long EDITION_ID = 1L;
+	private static final long OTHER_EDITION_ID = 2L;
+
+	@Test
+	public void closestCheckpointsMatchRecursiveSearch() {
+		ModuleCircuitService moduleCircuitService = new ModuleCircuitService(null, null, null, null, null);
+		for (long seed = 0; seed < 50; seed++) {
+			RandomEdition edition = new RandomEdition(new Random(seed));
+			EditionGraph graph = EditionGraph.compile(edition.edition);
+
+			for (AbstractSkill skill : edition.skills) {
+				Long expected = moduleCircuitService.findClosestNextCheckpoint(skill, EDITION_ID)
+						.map(Checkpoint::getId).orElse(null);
+				assertThat(graph.closestCheckpointId(graph.indexOfSkill(skill.getId())))
+						.as("Closest checkpoint of skill %d with seed %d", skill.getId(), seed)
+						.isEqualTo(expected);
+			}
+		}
+	}
+
+	@Test
+	public void closestCheckpointSearchStopsAtCheckpointOnCycle() {
+		SCEdition edition = SCEdition.builder().id(EDITION_ID).build();
+		Checkpoint checkpoint = Checkpoint.builder().id(1L).edition(edition).deadline(LocalDateTime.now())
+				.build();
+		Skill skill = Skill.builder().id(2L).checkpoint(checkpoint).build();
+		ExternalSkill externalSkill = ExternalSkill.builder().id(3L).skill(skill).build();
+		externalSkill.getParents().add(skill);
+		skill.getChildren().add(externalSkill);
+
+		EditionGraph graph = new EditionGraph.Compiler().add(skill).add(externalSkill).compile(EDITION_ID);
+
+		assertThat(graph.closestCheckpointId(graph.indexOfSkill(2L))).isEqualTo(1L);
+		assertThat(graph.closestCheckpointId(graph.indexOfSkill(3L))).isEqualTo(1L);
+	}
+
+	@Test
+	public void tasksOnPathsMatchPathsOfTasks() {
+		for (long seed = 0; seed < 50; seed++) {
+			RandomEdition edition = new RandomEdition(new Random(seed));
+			EditionGraph graph = EditionGraph.compile(edition.edition);
+
+			for (Path path : edition.edition.getPaths()) {
+				int index = graph.indexOfPath(path.getId());
+				BitSet tasksOnPath = index < 0 ? new BitSet() : graph.tasksOnPath(index);
+				// Tasks of skills in the other edition are only compiled if an external skill refers to them
+				for (Task task : edition.tasks.stream().filter(task -> graph.indexOfTask(task.getId()) >= 0)
+						.toList()) {
+					assertThat(tasksOnPath.get(graph.indexOfTask(task.getId())))
+							.as("Task %d on path %d with seed %d", task.getId(), path.getId(), seed)
+							.isEqualTo(task.getPaths().contains(path));
+				}
+			}
+			assertThat(graph.indexOfPath(edition.edition.getPaths().getLast().getId())).isEqualTo(-1);
+		}
+	}
+
+	@Test
+	public void evaluationOnPathMatchesEvaluationOnEntities() {
+		SkillStateService skillStateService = new SkillStateService();
+		for (long seed = 0; seed < 50; seed++) {
+			Random random = new Random(seed);
+			RandomEdition edition = new RandomEdition(random);
+			EditionGraph graph = EditionGraph.compile(edition.edition);
+			Set<Long> completed = new HashSet<>();
+			edition.taskInfos.stream().filter(info -> random.nextInt(3) > 0)
+					.forEach(info -> completed.add(info.getId()));
+			Set<Task> tasksAdded = new HashSet<>();
+			Set<Task> tasksRemoved = new HashSet<>();
+			for (Task task : edition.tasks) {
+				switch (random.nextInt(8)) {
+					case 0 -> tasksAdded.add(task);
+					case 1 -> tasksRemoved.add(task);
+					default -> {
+					}
+				}
+			}
+
+			List<Path> paths = new ArrayList<>(edition.edition.getPaths());
+			paths.add(null);
+			for (Path path : paths) {
+				SkillStates expected = skillStateService.evaluate(edition.skills, completed, Set.of(), path,
+						tasksAdded, tasksRemoved);
+				SkillStates states = skillStateService.evaluate(EditionCompletions.of(graph, completed),
+						Set.of(), path == null ? null : path.getId(), ids(tasksAdded, Task::getId),
+						ids(tasksRemoved, Task::getId));
+				for (AbstractSkill skill : edition.skills) {
+					int index = graph.indexOfSkill(skill.getId());
+					assertThat(states.isUnlocked(index))
+							.as("Unlocked state of skill %d on path %s with seed %d", skill.getId(),
+									path == null ? null : path.getId(), seed)
+							.isEqualTo(expected.isUnlocked(skill));
+					assertThat(states.isCompleted(index))
+							.as("Completed state of skill %d on path %s with seed %d", skill.getId(),
+									path == null ? null : path.getId(), seed)
+							.isEqualTo(expected.isCompleted(skill));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void submoduleDependenciesMatchSkillConnections() {
+		for (long seed = 0; seed < 50; seed++) {
+			RandomEdition edition = new RandomEdition(new Random(seed));
+			EditionGraph graph = EditionGraph.compile(edition.edition);
+
+			for (SCModule module : edition.edition.getModules()) {
+				for (Submodule submodule : module.getSubmodules()) {
+					Set<Long> parents = submoduleIds(submodule, AbstractSkill::getParents);
+					Set<Long> children = submoduleIds(submodule, AbstractSkill::getChildren);
+					assertThat(graph.submoduleParentIds(submodule.getId()))
+							.as("Parents of submodule %d with seed %d", submodule.getId(), seed)
+							.doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(parents);
+					assertThat(graph.submoduleChildIds(submodule.getId()))
+							.as("Children of submodule %d with seed %d", submodule.getId(), seed)
+							.doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(children);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Finds the submodules of the skills connected to the skills of a submodule, other than the submodule
+	 * itself, by walking the connections of every skill.
+	 */
+	private static Set<Long> submoduleIds(Submodule submodule,
+			Function<AbstractSkill, Set<AbstractSkill>> connections) {
+		return submodule.getSkills().stream().flatMap(skill -> connections.apply(skill).stream())
+				.map(AbstractSkill::getSubmodule).filter(other -> !Objects.equals(submodule, other))
+				.map(Submodule::getId).collect(Collectors.toSet());
+	}
+
+	@Test
+	public void hiddenSkillIndexMatchesRequirementLists() {
+		for (long seed = 0; seed < 50; seed++) {
+			RandomEdition edition = new RandomEdition(new Random(seed));
+			EditionGraph graph = EditionGraph.compile(edition.edition);
+			List<HiddenSkillBookmarkList> lists = edition.skills.stream()
+					.filter(skill -> skill instanceof Skill regularSkill && regularSkill.isHidden())
+					.map(skill -> ((Skill) skill).getRequirements()).toList();
+
+			for (HiddenSkillBookmarkList list : lists) {
+				EditionGraph.Requirements requirements = graph
+						.requirementsOf(graph.indexOfSkill(list.getSkill().getId()));
+				assertThat(requirements.taskInfoIds()).isEqualTo(ids(list.getTasks(), TaskInfo::getId));
+				assertThat(requirements.choiceTaskIds())
+						.isEqualTo(ids(list.getChoiceTasks(), ChoiceTask::getId));
+				assertThat(requirements.skillIds()).isEqualTo(ids(list.getSkills(), Skill::getId));
+			}
+
+			for (TaskInfo info : edition.taskInfos) {
+				ChoiceTask choiceTask = info.getChoiceTask();
+				Skill skill = choiceTask == null ? info.getTask().getSkill() : choiceTask.getSkill();
+				// The lists that contain the task info, its choice task or the skill of its task
+				List<Long> expected = lists.stream()
+						.filter(list -> list.getTasks().contains(info)
+								|| choiceTask != null && list.getChoiceTasks().contains(choiceTask)
+								|| list.getSkills().contains(skill))
+						.map(list -> list.getSkill().getId()).toList();
+				int[] hiddenSkills = graph.hiddenSkillsRequiring(info.getId(),
+						choiceTask == null ? null : choiceTask.getId(), skill.getId());
+				assertThat(Arrays.stream(hiddenSkills).mapToObj(graph::skillId).toList())
+						.as("Hidden skills requiring task info %d with seed %d", info.getId(), seed)
+						.doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(expected);
+			}
+		}
+	}
+
+	private static <T> Set<Long> ids(Collection<T> entities, Function<T, Long> id) {
+		return entities.stream().map(id).collect(Collectors.toSet());
+	}
+
+	/**
+	 * A random edition with modules, submodules, skills, external skills, hidden skills with requirements,
+	 * regular tasks, choice tasks, checkpoints and paths, one of which has no tasks. External skills refer to
+	 * skills in the edition as well as to skills in another edition, and some skills have a checkpoint of
+	 * the other edition. Parents are always created before their children, so the skills form no cycles.
+	 */
+	private static class RandomEdition {
+
+		private final Random random;
+		private long nextId = 1;
+
+		private final SCEdition edition = SCEdition.builder().id(EDITION_ID).build();
+		private final SCEdition otherEdition = SCEdition.builder().id(OTHER_EDITION_ID).build();
+		private final List<Checkpoint> checkpoints = new ArrayList<>();
+		private final List<Submodule> submodules = new ArrayList<>();
+		private final List<SCModule> modules = new ArrayList<>();
+
+		/** The skills and external skills in the edition. */
+		private final List<AbstractSkill> skills = new ArrayList<>();
+		/** The skills in the edition and in the other edition that external skills can refer to. */
+		private final List<Skill> regularSkills = new ArrayList<>();
+		private final List<Task> tasks = new ArrayList<>();
+		private final List<TaskInfo> taskInfos = new ArrayList<>();
+
+		private RandomEdition(Random random) {
+			this.random = random;
+			for (int i = 0; i < 4; i++) {
+				checkpoints.add(Checkpoint.builder().id(nextId++).edition(i < 3 ? edition : otherEdition)
+						.deadline(LocalDateTime.of(2025, 1, 1, 0, 0).plusDays(random.nextInt(1000) * 4L + i))
+						.build());
+			}
+			for (int i = 0; i < 4; i++) {
+				edition.getPaths().add(Path.builder().id(nextId++).edition(edition).build());
+			}
+
+			Submodule otherSubmodule = submodule(module(otherEdition));
+			List<Skill> otherSkills = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				Skill skill = skill(otherSubmodule, random.nextBoolean() ? checkpoints.get(3) : null, false);
+				connect(skill, randomParents(otherSkills));
+				otherSkills.add(skill);
+				regularSkills.add(skill);
+			}
+
+			for (int i = 0; i < 2; i++) {
+				SCModule module = module(edition);
+				for (int j = 0; j < 2; j++) {
+					submodule(module);
+				}
+			}
+			for (int i = 0; i < 30; i++) {
+				List<AbstractSkill> parents = randomParents(skills);
+				// An external skill never refers to a skill that leads to it, as the recursive search for the
+				// closest checkpoint does not end on such a cycle
+				Set<AbstractSkill> leading = skillsLeadingTo(parents);
+				List<Skill> targets = regularSkills.stream().filter(target -> !leading.contains(target))
+						.toList();
+				AbstractSkill skill;
+				if (random.nextInt(5) == 0 && !targets.isEmpty()) {
+					ExternalSkill externalSkill = ExternalSkill.builder().id(nextId++)
+							.module(modules.get(1 + random.nextInt(modules.size() - 1)))
+							.skill(targets.get(random.nextInt(targets.size()))).build();
+					externalSkill.getModule().getExternalSkills().add(externalSkill);
+					externalSkill.getSkill().getExternalSkills().add(externalSkill);
+					skill = externalSkill;
+				} else {
+					Checkpoint checkpoint = random.nextInt(3) == 0
+							? checkpoints.get(random.nextInt(checkpoints.size()))
+							: null;
+					Skill regularSkill = skill(submodules.get(1 + random.nextInt(submodules.size() - 1)),
+							checkpoint, random.nextInt(4) == 0);
+					regularSkills.add(regularSkill);
+					skill = regularSkill;
+				}
+				connect(skill, parents);
+				skills.add(skill);
+			}
+		}
+
+		private SCModule module(SCEdition moduleEdition) {
+			SCModule module = SCModule.builder().id(nextId++).edition(moduleEdition).build();
+			moduleEdition.getModules().add(module);
+			modules.add(module);
+			return module;
+		}
+
+		private Submodule submodule(SCModule module) {
+			Submodule submodule = Submodule.builder().id(nextId++).module(module).build();
+			module.getSubmodules().add(submodule);
+			submodules.add(submodule);
+			return submodule;
+		}
+
+		private Skill skill(Submodule submodule, Checkpoint checkpoint, boolean hidden) {
+			Skill skill = Skill.builder().id(nextId++).submodule(submodule).checkpoint(checkpoint)
+					.column(random.nextInt(10) == 0 ? null : 1).essential(random.nextInt(3) > 0)
+					.hidden(hidden).build();
+			if (hidden) {
+				skill.setRequirements(requirements(skill));
+			}
+			submodule.getSkills().add(skill);
+			int taskCount = random.nextInt(4);
+			for (int i = 0; i < taskCount; i++) {
+				Task task;
+				if (random.nextInt(3) == 0) {
+					ChoiceTask choiceTask = ChoiceTask.builder().id(nextId++).skill(skill)
+							.minTasks(1 + random.nextInt(2)).build();
+					for (int j = 0; j < 3; j++) {
+						TaskInfo info = TaskInfo.builder().id(nextId++).choiceTask(choiceTask).build();
+						choiceTask.getTasks().add(info);
+						taskInfos.add(info);
+					}
+					task = choiceTask;
+				} else {
+					TaskInfo info = TaskInfo.builder().id(nextId++).build();
+					RegularTask regularTask = RegularTask.builder().id(nextId++).skill(skill).taskInfo(info)
+							.build();
+					info.setTask(regularTask);
+					taskInfos.add(info);
+					task = regularTask;
+				}
+				// The last path never gets any tasks
+				for (Path path : edition.getPaths().subList(0, edition.getPaths().size() - 1)) {
+					if (random.nextBoolean()) {
+						task.getPaths().add(path);
+						path.getTasks().add(task);
+					}
+				}
+				skill.getTasks().add(task);
+				tasks.add(task);
+			}
+			return skill;
+		}
+
+		private List<AbstractSkill> randomParents(List<? extends AbstractSkill> candidates) {
+			int parentCount = candidates.isEmpty() ? 0 : random.nextInt(Math.min(candidates.size(), 3) + 1);
+			List<AbstractSkill> parents = new ArrayList<>();
+			for (int i = 0; i < parentCount; i++) {
+				parents.add(candidates.get(random.nextInt(candidates.size())));
+			}
+			return parents;
+		}
+
+		private void connect(AbstractSkill skill, List<AbstractSkill> parents) {
+			for (AbstractSkill parent : parents) {
+				skill.getParents().add(parent);
+				parent.getChildren().add(skill);
+			}
+		}
+
+		/**
+		 * Finds the skills from which the given skills are reached through children and the skills that
+		 * external skills refer to.
+		 */
+		private static Set<AbstractSkill> skillsLeadingTo(List<AbstractSkill> skills) {
+			Set<AbstractSkill> leading = Collections.newSetFromMap(new IdentityHashMap<>());
+			Deque<AbstractSkill> queue = new ArrayDeque<>(skills);
+			while (!queue.isEmpty()) {
+				AbstractSkill skill = queue.poll();
+				if (leading.add(skill)) {
+					queue.addAll(skill.getParents());
+					if (skill instanceof Skill regularSkill) {
+						queue.addAll(regularSkill.getExternalSkills());
+					}
+				}
+			}
+			return leading;
+		}
+
+		/**
+		 * Creates random requirements for a hidden skill, out of the task infos, choice tasks and skills that
+		 * were created before it.
+		 */
+		private HiddenSkillBookmarkList requirements(Skill skill) {
+			HiddenSkillBookmarkList requirements = HiddenSkillBookmarkList.builder().id(nextId++).skill(skill)
+					.build();
+			for (TaskInfo info : taskInfos) {
+				if (random.nextInt(15) == 0) {
+					requirements.getTasks().add(info);
+				}
+			}
+			for (Task task : tasks) {
+				if (task instanceof ChoiceTask choiceTask && random.nextInt(6) == 0) {
+					requirements.getChoiceTasks().add(choiceTask);
+				}
+			}
+			for (AbstractSkill other : skills) {
+				if (other instanceof Skill otherSkill && random.nextInt(10) == 0) {
+					requirements.getSkills().add(otherSkill);
+				}
+			}
+			return requirements;
+		}
+
+	}
+
+}
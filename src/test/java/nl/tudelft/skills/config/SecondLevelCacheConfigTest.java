@@ -0,0 +1,82 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+
+import nl.tudelft.skills.cache.CacheRegions;
+
+public class SecondLevelCacheConfigTest {
+
+	private final SecondLevelCacheConfig config = new SecondLevelCacheConfig();
+
+	@Test
+	public void everyRegionHasConfiguredSize() {
+		MockEnvironment env = new MockEnvironment()
+				.withProperty("skill-circuits.cache.regions.skill-tasks", "5");
+		try (CacheManager cacheManager = config.secondLevelCacheManager(env)) {
+			for (String region : CacheRegions.ALL) {
+				assertThat(maximumSize(cacheManager, region)).as("Maximum size of %s", region)
+						.isEqualTo(region.equals(CacheRegions.SKILL_TASKS) ? 5L : 10_000L);
+			}
+		}
+	}
+
+	@Test
+	public void statisticsAreDisabledByDefault() {
+		Map<String, Object> properties = customize(new MockEnvironment());
+
+		assertThat(properties).containsEntry(AvailableSettings.USE_SECOND_LEVEL_CACHE, true)
+				.doesNotContainKey(AvailableSettings.GENERATE_STATISTICS);
+	}
+
+	@Test
+	public void statisticsCanBeEnabled() {
+		Map<String, Object> properties = customize(
+				new MockEnvironment().withProperty("skill-circuits.cache.statistics", "true"));
+
+		assertThat(properties).containsEntry(AvailableSettings.GENERATE_STATISTICS, true);
+	}
+
+	private Map<String, Object> customize(MockEnvironment env) {
+		Map<String, Object> properties = new HashMap<>();
+		try (CacheManager cacheManager = config.secondLevelCacheManager(env)) {
+			config.secondLevelCacheCustomizer(cacheManager, env).customize(properties);
+		}
+		return properties;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static long maximumSize(CacheManager cacheManager, String region) {
+		Cache<Object, Object> cache = cacheManager.getCache(region).unwrap(Cache.class);
+		return cache.policy().eviction().map(Policy.Eviction::getMaximum).orElse(-1L);
+	}
+
+}
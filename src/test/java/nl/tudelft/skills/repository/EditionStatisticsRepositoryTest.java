@@ -0,0 +1,344 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import nl.tudelft.skills.enums.ViewMode;
+import nl.tudelft.skills.model.*;
+
+@Transactional
+@SpringBootTest
+public class EditionStatisticsRepositoryTest {
+
+	private static final LocalDateTime TIME = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+	private final PersonRepository personRepository;
+	private final EditionRepository editionRepository;
+	private final ModuleRepository moduleRepository;
+	private final SubmoduleRepository submoduleRepository;
+	private final SkillRepository skillRepository;
+	private final CheckpointRepository checkpointRepository;
+	private final RegularTaskRepository regularTaskRepository;
+	private final ChoiceTaskRepository choiceTaskRepository;
+	private final PathRepository pathRepository;
+	private final PathPreferenceRepository pathPreferenceRepository;
+	private final TaskCompletionRepository taskCompletionRepository;
+	private final ClickedLinkRepository clickedLinkRepository;
+	private final ArchivedTaskCompletionRepository archivedTaskCompletionRepository;
+	private final ArchivedClickedLinkRepository archivedClickedLinkRepository;
+
+	private SCEdition edition;
+	private SCEdition other;
+	private SCPerson student1;
+	private SCPerson student2;
+	private SCPerson student3;
+	private SCPerson teacher;
+	private Skill skill;
+	private RegularTask regularTask;
+	private ChoiceTask choiceTask;
+	private TaskInfo firstSubtask;
+	private TaskInfo secondSubtask;
+	private RegularTask otherTask;
+	private long archivedIds = 0;
+
+	@Autowired
+	public EditionStatisticsRepositoryTest(PersonRepository personRepository,
+			EditionRepository editionRepository, ModuleRepository moduleRepository,
+			SubmoduleRepository submoduleRepository, SkillRepository skillRepository,
+			CheckpointRepository checkpointRepository, RegularTaskRepository regularTaskRepository,
+			ChoiceTaskRepository choiceTaskRepository,
+			PathRepository pathRepository, PathPreferenceRepository pathPreferenceRepository,
+			TaskCompletionRepository taskCompletionRepository, ClickedLinkRepository clickedLinkRepository,
+			ArchivedTaskCompletionRepository archivedTaskCompletionRepository,
+			ArchivedClickedLinkRepository archivedClickedLinkRepository) {
+		this.personRepository = personRepository;
+		this.editionRepository = editionRepository;
+		this.moduleRepository = moduleRepository;
+		this.submoduleRepository = submoduleRepository;
+		this.skillRepository = skillRepository;
+		this.checkpointRepository = checkpointRepository;
+		this.regularTaskRepository = regularTaskRepository;
+		this.choiceTaskRepository = choiceTaskRepository;
+		this.pathRepository = pathRepository;
+		this.pathPreferenceRepository = pathPreferenceRepository;
+		this.taskCompletionRepository = taskCompletionRepository;
+		this.clickedLinkRepository = clickedLinkRepository;
+		this.archivedTaskCompletionRepository = archivedTaskCompletionRepository;
+		this.archivedClickedLinkRepository = archivedClickedLinkRepository;
+	}
+
+	@BeforeEach
+	public void setUp() {
+		edition = editionRepository.save(SCEdition.builder().id(1L).build());
+		other = editionRepository.save(SCEdition.builder().id(2L).build());
+		student1 = person(1L);
+		student2 = person(2L);
+		student3 = person(3L);
+		teacher = person(4L);
+
+		skill = skill(edition);
+		regularTask = regularTask(skill, "Regular task");
+		choiceTask = choiceTask(skill, "First subtask", "Second subtask");
+		firstSubtask = choiceTask.getTasks().get(0);
+		secondSubtask = choiceTask.getTasks().get(1);
+		otherTask = regularTask(skill(other), "Other task");
+	}
+
+	@Test
+	public void countStudentsPerTaskInEdition() {
+		complete(student1, regularTask.getTaskInfo());
+		complete(student2, regularTask.getTaskInfo());
+		complete(teacher, regularTask.getTaskInfo());
+		complete(student1, firstSubtask);
+		complete(student1, otherTask.getTaskInfo());
+		archiveCompletion(edition, student1, regularTask.getTaskInfo());
+		archiveCompletion(edition, student3, regularTask.getTaskInfo());
+		archiveCompletion(edition, teacher, firstSubtask);
+		archiveCompletion(other, student2, firstSubtask);
+		taskCompletionRepository.flush();
+
+		assertThat(taskCompletionRepository.countStudentsPerTaskInEdition(edition, students()))
+				.extracting(IdCount::getId, IdCount::getCount)
+				.containsExactlyInAnyOrder(
+						tuple(regularTask.getTaskInfo().getId(), 3L),
+						tuple(firstSubtask.getId(), 1L));
+	}
+
+	@Test
+	public void countStudentsThatClickedPerTaskInEdition() {
+		complete(student1, regularTask.getTaskInfo());
+		archiveCompletion(edition, student1, regularTask.getTaskInfo());
+		click(student1, regularTask.getTaskInfo());
+		click(student1, regularTask.getTaskInfo());
+		complete(student2, regularTask.getTaskInfo());
+		archiveCompletion(edition, student3, regularTask.getTaskInfo());
+		archiveClick(edition, student3, regularTask.getTaskInfo());
+		complete(teacher, regularTask.getTaskInfo());
+		click(teacher, regularTask.getTaskInfo());
+		complete(student1, firstSubtask);
+		click(student2, firstSubtask);
+		complete(student2, secondSubtask);
+		click(student2, secondSubtask);
+		taskCompletionRepository.flush();
+
+		assertThat(taskCompletionRepository.countStudentsThatClickedPerTaskInEdition(edition, students()))
+				.extracting(IdCount::getId, IdCount::getCount)
+				.containsExactlyInAnyOrder(
+						tuple(regularTask.getTaskInfo().getId(), 2L),
+						tuple(secondSubtask.getId(), 1L));
+	}
+
+	@Test
+	public void countStudentClicksPerTaskInEdition() {
+		click(student1, regularTask.getTaskInfo());
+		click(student1, regularTask.getTaskInfo());
+		archiveClick(edition, student1, regularTask.getTaskInfo());
+		archiveClick(edition, student3, regularTask.getTaskInfo());
+		click(teacher, regularTask.getTaskInfo());
+		archiveClick(edition, teacher, regularTask.getTaskInfo());
+		click(student2, secondSubtask);
+		click(student2, otherTask.getTaskInfo());
+		archiveClick(other, student2, secondSubtask);
+		clickedLinkRepository.flush();
+
+		assertThat(clickedLinkRepository.countStudentClicksPerTaskInEdition(edition, students()))
+				.extracting(LinkClickCount::getId, LinkClickCount::getClicks, LinkClickCount::getPeople)
+				.containsExactlyInAnyOrder(
+						tuple(regularTask.getTaskInfo().getId(), 4L, 2L),
+						tuple(secondSubtask.getId(), 1L, 1L));
+	}
+
+	@Test
+	public void countStudentsWithTaskOnPathInEdition() {
+		Path path = path(edition, "Path", regularTask, choiceTask);
+		Path emptyPath = path(edition, "Empty path");
+		Path otherPath = path(other, "Other path", otherTask);
+		prefer(student1, edition, path);
+		prefer(student2, edition, path);
+		prefer(student3, edition, emptyPath);
+		prefer(teacher, edition, path);
+		prefer(student3, other, otherPath);
+		pathPreferenceRepository.flush();
+
+		assertThat(pathPreferenceRepository.countStudentsWithTaskOnPathInEdition(edition, students()))
+				.extracting(IdCount::getId, IdCount::getCount)
+				.containsExactlyInAnyOrder(
+						tuple(regularTask.getId(), 2L),
+						tuple(choiceTask.getId(), 2L));
+	}
+
+	@Test
+	public void progressOfStudentWithoutCompletions() {
+		prefer(student1, edition, path(edition, "Path", regularTask));
+		complete(student1, otherTask.getTaskInfo());
+		archiveCompletion(other, student1, otherTask.getTaskInfo());
+		personRepository.flush();
+
+		assertThat(progress(student1)).extracting(StudentProgress::getPersonId,
+				StudentProgress::getChosenPath, StudentProgress::getCompletedTasks,
+				StudentProgress::getLastCompletedTimestamp, StudentProgress::getLastCompletedTask,
+				StudentProgress::getFurthestCheckpoint)
+				.containsExactly(student1.getId(), "Path", 0L, null, null, null);
+	}
+
+	@Test
+	public void progressOfStudentWithoutPath() {
+		Skill early = skill(edition, checkpoint("Early", TIME.plusDays(7)));
+		Skill late = skill(edition, checkpoint("Late", TIME.plusDays(14)));
+		RegularTask earlyTask = regularTask(early, "Early task");
+		RegularTask lateTask = regularTask(late, "Late task");
+		prefer(student1, other, path(other, "Other path", otherTask));
+		prefer(student2, edition, path(edition, "Path", regularTask));
+		complete(student1, lateTask.getTaskInfo(), TIME);
+		archiveCompletion(edition, student1, firstSubtask, TIME.plusHours(1));
+		complete(student1, earlyTask.getTaskInfo(), TIME.plusHours(2));
+		complete(student1, otherTask.getTaskInfo(), TIME.plusHours(3));
+		complete(student2, regularTask.getTaskInfo(), TIME.plusHours(4));
+		personRepository.flush();
+
+		assertThat(progress(student1)).extracting(StudentProgress::getPersonId,
+				StudentProgress::getChosenPath, StudentProgress::getCompletedTasks,
+				StudentProgress::getLastCompletedTimestamp, StudentProgress::getLastCompletedTask,
+				StudentProgress::getFurthestCheckpoint)
+				.containsExactly(student1.getId(), null, 3L, TIME.plusHours(2), "Early task", "Late");
+	}
+
+	@Test
+	public void progressWithTiedLatestCompletions() {
+		complete(student1, firstSubtask, TIME);
+		complete(student1, regularTask.getTaskInfo(), TIME.plusHours(1));
+		complete(student1, secondSubtask, TIME.plusHours(1));
+		complete(student2, secondSubtask, TIME.plusHours(1));
+		archiveCompletion(edition, student2, regularTask.getTaskInfo(), TIME.plusHours(1));
+		personRepository.flush();
+
+		try (Stream<StudentProgress> progress = personRepository.streamProgressOfStudentsInEdition(edition,
+				students())) {
+			assertThat(progress).extracting(StudentProgress::getPersonId, StudentProgress::getCompletedTasks,
+					StudentProgress::getLastCompletedTimestamp, StudentProgress::getLastCompletedTask)
+					.containsExactly(
+							tuple(student1.getId(), 3L, TIME.plusHours(1), "Second subtask"),
+							tuple(student2.getId(), 2L, TIME.plusHours(1), "Second subtask"),
+							tuple(student3.getId(), 0L, null, null));
+		}
+	}
+
+	private StudentProgress progress(SCPerson student) {
+		try (Stream<StudentProgress> progress = personRepository.streamProgressOfStudentsInEdition(edition,
+				Set.of(student.getId()))) {
+			return progress.findFirst().orElseThrow();
+		}
+	}
+
+	private Set<Long> students() {
+		return Set.of(student1.getId(), student2.getId(), student3.getId());
+	}
+
+	private SCPerson person(Long id) {
+		return personRepository.save(SCPerson.builder().id(id).viewMode(ViewMode.VIEWER)
+				.preferences(PersonalPreferences.builder().build()).build());
+	}
+
+	private Skill skill(SCEdition edition) {
+		return skill(edition, null);
+	}
+
+	private Skill skill(SCEdition edition, Checkpoint checkpoint) {
+		SCModule module = moduleRepository.save(SCModule.builder().name("Module").edition(edition).build());
+		Submodule submodule = submoduleRepository.save(Submodule.builder().name("Submodule").module(module)
+				.build());
+		return skillRepository.save(Skill.builder().name("Skill").submodule(submodule).checkpoint(checkpoint)
+				.build());
+	}
+
+	private Checkpoint checkpoint(String name, LocalDateTime deadline) {
+		return checkpointRepository.save(Checkpoint.builder().name(name).deadline(deadline).edition(edition)
+				.build());
+	}
+
+	private RegularTask regularTask(Skill skill, String name) {
+		TaskInfo taskInfo = TaskInfo.builder().name(name).build();
+		RegularTask task = RegularTask.builder().skill(skill).taskInfo(taskInfo).build();
+		taskInfo.setTask(task);
+		return regularTaskRepository.save(task);
+	}
+
+	private ChoiceTask choiceTask(Skill skill, String... names) {
+		ChoiceTask task = ChoiceTask.builder().skill(skill).build();
+		for (String name : names) {
+			task.getTasks().add(TaskInfo.builder().name(name).choiceTask(task).build());
+		}
+		return choiceTaskRepository.save(task);
+	}
+
+	private Path path(SCEdition edition, String name, Task... tasks) {
+		Path path = pathRepository.save(Path.builder().name(name).description("").edition(edition).build());
+		for (Task task : tasks) {
+			task.getPaths().add(path);
+		}
+		return path;
+	}
+
+	private void prefer(SCPerson person, SCEdition edition, Path path) {
+		pathPreferenceRepository.save(PathPreference.builder().person(person).edition(edition).path(path)
+				.build());
+	}
+
+	private void complete(SCPerson person, TaskInfo task) {
+		complete(person, task, TIME);
+	}
+
+	private void complete(SCPerson person, TaskInfo task, LocalDateTime timestamp) {
+		taskCompletionRepository.save(TaskCompletion.builder().person(person).task(task).timestamp(timestamp)
+				.build());
+	}
+
+	private void click(SCPerson person, TaskInfo task) {
+		clickedLinkRepository.save(ClickedLink.builder().person(person).task(task).timestamp(TIME).build());
+	}
+
+	private void archiveCompletion(SCEdition edition, SCPerson person, TaskInfo task) {
+		archiveCompletion(edition, person, task, TIME);
+	}
+
+	private void archiveCompletion(SCEdition edition, SCPerson person, TaskInfo task,
+			LocalDateTime timestamp) {
+		archivedTaskCompletionRepository.save(ArchivedTaskCompletion.builder().id(++archivedIds)
+				.editionId(edition.getId()).personId(person.getId()).taskId(task.getId()).timestamp(timestamp)
+				.build());
+	}
+
+	private void archiveClick(SCEdition edition, SCPerson person, TaskInfo task) {
+		archivedClickedLinkRepository.save(ArchivedClickedLink.builder().id(++archivedIds)
+				.editionId(edition.getId()).personId(person.getId()).taskId(task.getId()).timestamp(TIME)
+				.build());
+	}
+}
@@ -0,0 +1,349 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.repository;
+
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.IntConsumer;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import nl.tudelft.skills.enums.ViewMode;
+import nl.tudelft.skills.model.*;
+
+/**
+ * Measures the queries that filter completions, clicks, path preferences and added or removed tasks with
+ * and without the composite indexes of the composite-query-indexes changeset. The queries are run against a
+ * synthetic dataset of several editions, so that the edition filters have rows to skip.
+ *
+ * This is not part of the regular tests. Run it with {@code ./gradlew benchmark}, which uses the in-memory
+ * H2 database of the tests. To run it against another database, such as a local PostgreSQL server, pass the
+ * datasource, for instance {@code ./gradlew benchmark -Dspring.datasource.url=jdbc:postgresql://localhost/
+ * skills_benchmark -Dspring.datasource.username=... -Dspring.datasource.password=...}. The dataset is not
+ * removed afterwards, so use an empty database.
+ */
+@Tag("benchmark")
+@SpringBootTest()
+public class QueryIndexBenchmark {
+
+	private static final Logger logger = LoggerFactory.getLogger(QueryIndexBenchmark.class);
+
+	private static final int EDITIONS = 3;
+	private static final int SKILLS_PER_EDITION = 50;
+	private static final int STUDENTS = 300;
+	private static final int SAMPLED_STUDENTS = 50;
+	private static final int WARMUP_RUNS = 2;
+	private static final int MEASURED_RUNS = 5;
+
+	private static final List<Index> INDEXES = List.of(
+			new Index("IX_task_completion_person_timestamp", "task_completion", "person_id, timestamp"),
+			new Index("IX_task_completion_task_person", "task_completion", "task_id, person_id"),
+			new Index("IX_clicked_link_task_person", "clicked_link", "task_id, person_id"),
+			new Index("IX_path_preference_person_edition", "path_preference",
+					"person_id, edition_id, path_id"),
+			new Index("IX_path_preference_edition_person", "path_preference",
+					"edition_id, person_id, path_id"),
+			new Index("IX_path_preference_path_person", "path_preference", "path_id, person_id"),
+			new Index("IX_scperson_tasks_added_task_person", "scperson_tasks_added",
+					"tasks_added_id, persons_that_added_task_id"),
+			new Index("IX_scperson_tasks_removed_task_person", "scperson_tasks_removed",
+					"tasks_removed_id, persons_that_removed_task_id"),
+			new Index("IX_scperson_skills_revealed_skill_person", "scperson_skills_revealed",
+					"skills_revealed_id, person_revealed_skill_id"));
+
+	private final TaskCompletionRepository taskCompletionRepository;
+	private final PathPreferenceRepository pathPreferenceRepository;
+	private final PersonRepository personRepository;
+	private final ClickedLinkRepository clickedLinkRepository;
+	private final EditionRepository editionRepository;
+	private final ModuleRepository moduleRepository;
+	private final SubmoduleRepository submoduleRepository;
+	private final SkillRepository skillRepository;
+	private final RegularTaskRepository regularTaskRepository;
+	private final ChoiceTaskRepository choiceTaskRepository;
+	private final TaskInfoRepository taskInfoRepository;
+	private final PathRepository pathRepository;
+
+	private final DataSource dataSource;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	private final Random random = new Random(42);
+
+	@Autowired
+	public QueryIndexBenchmark(TaskCompletionRepository taskCompletionRepository,
+			PathPreferenceRepository pathPreferenceRepository, PersonRepository personRepository,
+			ClickedLinkRepository clickedLinkRepository, EditionRepository editionRepository,
+			ModuleRepository moduleRepository, SubmoduleRepository submoduleRepository,
+			SkillRepository skillRepository, RegularTaskRepository regularTaskRepository,
+			ChoiceTaskRepository choiceTaskRepository, TaskInfoRepository taskInfoRepository,
+			PathRepository pathRepository, DataSource dataSource,
+			PlatformTransactionManager transactionManager) {
+		this.taskCompletionRepository = taskCompletionRepository;
+		this.pathPreferenceRepository = pathPreferenceRepository;
+		this.personRepository = personRepository;
+		this.clickedLinkRepository = clickedLinkRepository;
+		this.editionRepository = editionRepository;
+		this.moduleRepository = moduleRepository;
+		this.submoduleRepository = submoduleRepository;
+		this.skillRepository = skillRepository;
+		this.regularTaskRepository = regularTaskRepository;
+		this.choiceTaskRepository = choiceTaskRepository;
+		this.taskInfoRepository = taskInfoRepository;
+		this.pathRepository = pathRepository;
+		this.dataSource = dataSource;
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+	}
+
+	@Test
+	public void benchmarkQueries() throws Exception {
+		List<Long> studentIds = createStudents();
+		List<Dataset> editions = new ArrayList<>();
+		for (long id = 1; id <= EDITIONS; id++) {
+			editions.add(createEdition(id, studentIds));
+		}
+		analyze();
+
+		Dataset dataset = editions.getFirst();
+		SCEdition edition = dataset.edition();
+		List<Long> editionIds = List.of(edition.getId());
+		List<SCPerson> sample = studentIds.stream().limit(SAMPLED_STUDENTS)
+				.map(id -> SCPerson.builder().id(id).build()).toList();
+		Map<String, IntConsumer> queries = new LinkedHashMap<>();
+		queries.put("TaskCompletion.findLastTaskCompletedFor",
+				run -> sample.forEach(taskCompletionRepository::findLastTaskCompletedFor));
+		queries.put("TaskCompletion.findAllCompletedTaskIdsForPersonInEditions",
+				run -> sample.forEach(person -> taskCompletionRepository
+						.findAllCompletedTaskIdsForPersonInEditions(person, editionIds)));
+		queries.put("TaskCompletion.findAllByPersonAndEdition", run -> sample
+				.forEach(person -> taskCompletionRepository.findAllByPersonAndEdition(person, edition)));
+		queries.put("TaskCompletion.countStudentsPerTaskInEdition",
+				run -> taskCompletionRepository.countStudentsPerTaskInEdition(edition, studentIds));
+		queries.put("TaskCompletion.countStudentsThatClickedPerTaskInEdition", run -> taskCompletionRepository
+				.countStudentsThatClickedPerTaskInEdition(edition, studentIds));
+		queries.put("PathPreference.findByPersonAndEdition", run -> sample
+				.forEach(person -> pathPreferenceRepository.findByPersonAndEdition(person, edition)));
+		queries.put("PathPreference.findAllPathIdsByEdition",
+				run -> pathPreferenceRepository.findAllPathIdsByEdition(edition));
+		queries.put("PathPreference.findAllByPathId",
+				run -> pathPreferenceRepository.findAllByPathId(dataset.pathId()));
+		queries.put("PathPreference.countStudentsWithTaskOnPathInEdition",
+				run -> pathPreferenceRepository.countStudentsWithTaskOnPathInEdition(edition, studentIds));
+		queries.put("Person.findAllTaskIdsAddedForPersonAndEdition", run -> sample
+				.forEach(person -> personRepository.findAllTaskIdsAddedForPersonAndEdition(person, edition)));
+		queries.put("Person.findAllTaskIdsRemovedForPersonAndEdition", run -> sample.forEach(
+				person -> personRepository.findAllTaskIdsRemovedForPersonAndEdition(person, edition)));
+		queries.put("Person.findAllTaskIdsAddedForPeopleInEditions",
+				run -> personRepository.findAllTaskIdsAddedForPeopleInEditions(studentIds, editionIds));
+		queries.put("ClickedLink.countStudentClicksPerTaskInEdition",
+				run -> clickedLinkRepository.countStudentClicksPerTaskInEdition(edition, studentIds));
+		queries.put("ClickedLink.getByTask", run -> clickedLinkRepository
+				.getByTask(TaskInfo.builder().id(dataset.taskInfoIds().get(run % 10)).build()));
+
+		// Warm up the connection pool, the JIT compiler and the query plan caches for both measurements
+		measure(queries);
+		INDEXES.forEach(this::drop);
+		analyze();
+		Map<String, Double> withoutIndexes = measure(queries);
+		INDEXES.forEach(this::create);
+		analyze();
+		Map<String, Double> withIndexes = measure(queries);
+
+		StringBuilder report = new StringBuilder(String.format("%n%-60s %12s %12s%n", "Query",
+				"Before (ms)", "After (ms)"));
+		queries.keySet().forEach(query -> report.append(String.format("%-60s %12.2f %12.2f%n", query,
+				withoutIndexes.get(query), withIndexes.get(query))));
+		logger.info("Median query times on {}:{}", productName(), report);
+	}
+
+	/**
+	 * Runs every query a number of times and takes the median time of the measured runs.
+	 *
+	 * @param  queries The queries to run, by name.
+	 * @return         The median time of every query in milliseconds, by name.
+	 */
+	private Map<String, Double> measure(Map<String, IntConsumer> queries) {
+		Map<String, Double> medians = new LinkedHashMap<>();
+		queries.forEach((name, query) -> {
+			double[] times = new double[MEASURED_RUNS];
+			for (int run = 0; run < WARMUP_RUNS + MEASURED_RUNS; run++) {
+				int current = run;
+				long start = System.nanoTime();
+				transactionTemplate.executeWithoutResult(status -> query.accept(current));
+				if (run >= WARMUP_RUNS) {
+					times[run - WARMUP_RUNS] = (System.nanoTime() - start) / 1_000_000.0;
+				}
+			}
+			Arrays.sort(times);
+			medians.put(name, times[MEASURED_RUNS / 2]);
+		});
+		return medians;
+	}
+
+	private List<Long> createStudents() {
+		List<SCPerson> students = new ArrayList<>();
+		for (long id = 1; id <= STUDENTS; id++) {
+			students.add(SCPerson.builder().id(id).viewMode(ViewMode.VIEWER)
+					.preferences(PersonalPreferences.builder().build()).build());
+		}
+		return personRepository.saveAll(students).stream().map(SCPerson::getId).toList();
+	}
+
+	/**
+	 * Creates an edition with a path, a module and skills that each have a regular task and a choice task
+	 * with two subtasks. Every student completes about half of the tasks, clicks the links of about a third
+	 * of them, chooses the path and adds and removes a few tasks.
+	 *
+	 * @param  editionId  The id of the edition.
+	 * @param  studentIds The ids of the students.
+	 * @return            The edition and its path and task info ids.
+	 */
+	private Dataset createEdition(Long editionId, List<Long> studentIds) {
+		List<Long> taskIds = new ArrayList<>();
+		List<Long> taskInfoIds = new ArrayList<>();
+		SCEdition edition = editionRepository.save(SCEdition.builder().id(editionId).build());
+		Path path = pathRepository.save(Path.builder().name("Path").description("").edition(edition).build());
+		SCModule module = moduleRepository.save(SCModule.builder().name("Module").edition(edition).build());
+		Submodule submodule = null;
+		for (int i = 0; i < SKILLS_PER_EDITION; i++) {
+			if (i % 10 == 0) {
+				submodule = submoduleRepository.save(Submodule.builder().name("Submodule " + i)
+						.module(module).column(i / 10).build());
+			}
+			Skill skill = skillRepository.save(Skill.builder().name("Skill " + i).submodule(submodule)
+					.column(i % 10).build());
+
+			TaskInfo info = TaskInfo.builder().name("Task " + i).build();
+			RegularTask task = RegularTask.builder().skill(skill).taskInfo(info).build();
+			info.setTask(task);
+			task.getPaths().add(path);
+			taskIds.add(regularTaskRepository.save(task).getId());
+			taskInfoIds.add(taskInfoRepository.save(info).getId());
+
+			ChoiceTask choiceTask = choiceTaskRepository.save(ChoiceTask.builder().skill(skill).idx(1)
+					.build());
+			taskIds.add(choiceTask.getId());
+			for (int j = 0; j < 2; j++) {
+				taskInfoIds.add(taskInfoRepository.save(TaskInfo.builder().name("Choice " + j)
+						.choiceTask(choiceTask).build()).getId());
+			}
+		}
+
+		List<Object[]> completions = new ArrayList<>();
+		List<Object[]> clicks = new ArrayList<>();
+		List<Object[]> preferences = new ArrayList<>();
+		List<Object[]> added = new ArrayList<>();
+		List<Object[]> removed = new ArrayList<>();
+		LocalDateTime now = LocalDateTime.now();
+		for (Long studentId : studentIds) {
+			for (Long taskInfoId : taskInfoIds) {
+				if (random.nextInt(2) == 0) {
+					completions.add(new Object[] { studentId, taskInfoId,
+							now.minusMinutes(random.nextInt(10_000)) });
+				}
+				if (random.nextInt(3) == 0) {
+					clicks.add(new Object[] { studentId, taskInfoId, now });
+				}
+			}
+			preferences.add(new Object[] { studentId, editionId, path.getId() });
+			Set<Long> changed = new HashSet<>();
+			for (int i = 0; i < 10; i++) {
+				changed.add(taskIds.get(random.nextInt(taskIds.size())));
+			}
+			changed.stream().limit(5).forEach(taskId -> added.add(new Object[] { studentId, taskId }));
+			changed.stream().skip(5).forEach(taskId -> removed.add(new Object[] { studentId, taskId }));
+		}
+		jdbcTemplate.batchUpdate("""
+				insert into task_completion (person_id, task_id, timestamp) values (?, ?, ?)
+				""", completions);
+		jdbcTemplate.batchUpdate("""
+				insert into clicked_link (person_id, task_id, timestamp) values (?, ?, ?)
+				""", clicks);
+		jdbcTemplate.batchUpdate("""
+				insert into path_preference (person_id, edition_id, path_id) values (?, ?, ?)
+				""", preferences);
+		jdbcTemplate.batchUpdate("""
+				insert into scperson_tasks_added (persons_that_added_task_id, tasks_added_id) values (?, ?)
+				""", added);
+		jdbcTemplate.batchUpdate("""
+				insert into scperson_tasks_removed (persons_that_removed_task_id, tasks_removed_id)
+				values (?, ?)
+				""", removed);
+
+		return new Dataset(edition, path.getId(), taskInfoIds);
+	}
+
+	private void drop(Index index) {
+		if (isMySql()) {
+			jdbcTemplate.execute("drop index " + index.name() + " on " + index.table());
+		} else {
+			jdbcTemplate.execute("drop index " + index.name());
+		}
+	}
+
+	private void create(Index index) {
+		jdbcTemplate.execute("create index " + index.name() + " on " + index.table() + " (" + index.columns()
+				+ ")");
+	}
+
+	/**
+	 * Updates the statistics of the database, so that the query planner knows about the dataset and the
+	 * indexes that were dropped or created.
+	 */
+	private void analyze() {
+		if (isMySql()) {
+			INDEXES.stream().map(Index::table).distinct()
+					.forEach(table -> jdbcTemplate.execute("analyze table " + table));
+		} else {
+			jdbcTemplate.execute("analyze");
+		}
+	}
+
+	private boolean isMySql() {
+		String productName = productName();
+		return productName.equals("MySQL") || productName.equals("MariaDB");
+	}
+
+	private String productName() {
+		try (Connection connection = dataSource.getConnection()) {
+			return connection.getMetaData().getDatabaseProductName();
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private record Index(String name, String table, String columns) {
+	}
+
+	private record Dataset(SCEdition edition, Long pathId, List<Long> taskInfoIds) {
+	}
+
+}
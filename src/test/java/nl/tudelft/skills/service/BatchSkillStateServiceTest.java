@@ -0,0 +1,221 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import nl.tudelft.skills.cache.EditionGraph;
+import nl.tudelft.skills.cache.EditionGraphCache;
+import nl.tudelft.skills.model.*;
+import nl.tudelft.skills.repository.*;
+
+public class BatchSkillStateServiceTest {
+
+	private final TaskCompletionRepository taskCompletionRepository = mock(TaskCompletionRepository.class);
+	private final PersonRepository personRepository = mock(PersonRepository.class);
+	private final PathPreferenceRepository pathPreferenceRepository = mock(PathPreferenceRepository.class);
+	private final EditionGraphCache editionGraphCache = mock(EditionGraphCache.class);
+	private final SkillStateService skillStateService = new SkillStateService();
+	private final BatchSkillStateService batchSkillStateService = new BatchSkillStateService(
+			taskCompletionRepository, personRepository, pathPreferenceRepository, editionGraphCache,
+			skillStateService, new ForkJoinPool(2));
+
+	private final SCEdition edition = SCEdition.builder().id(1L).build();
+	private final Path path = Path.builder().id(1L).edition(edition).build();
+	private final List<AbstractSkill> skills = new ArrayList<>();
+	private final Map<Long, Task> tasks = new HashMap<>();
+
+	private final Map<Long, Set<Long>> completedTaskIds = new HashMap<>();
+	private final Map<Long, Set<Long>> revealedSkillIds = new HashMap<>();
+	private final Map<Long, Set<Long>> tasksAddedIds = new HashMap<>();
+	private final Map<Long, Set<Long>> tasksRemovedIds = new HashMap<>();
+	private final Map<Long, Long> activePathIds = new HashMap<>();
+
+	@BeforeEach
+	public void setUp() {
+		SCModule module = SCModule.builder().id(1L).edition(edition).build();
+		Submodule submodule = Submodule.builder().id(1L).module(module).build();
+		edition.getModules().add(module);
+		module.getSubmodules().add(submodule);
+
+		Skill basics = skill(submodule, 10L, false, regularTask(100L, 1000L, true),
+				regularTask(101L, 1001L, false));
+		Skill choice = skill(submodule, 11L, false, choiceTask(110L, 2, 1100L, 1101L, 1102L));
+		Skill hidden = skill(submodule, 12L, true, regularTask(120L, 1200L, false));
+		Skill advanced = skill(submodule, 13L, false, regularTask(130L, 1300L, true));
+		Skill optional = skill(submodule, 14L, false, regularTask(140L, 1400L, true));
+		optional.setEssential(false);
+		choice.getParents().add(basics);
+		hidden.getParents().add(basics);
+		advanced.getParents().addAll(List.of(choice, hidden, optional));
+
+		// Without a path
+		completed(2L, 1000L, 1001L);
+		// On a path, with a choice task completed and a hidden skill revealed
+		completed(3L, 1000L, 1100L, 1101L, 1200L, 1400L);
+		revealed(3L, 12L);
+		activePathIds.put(3L, path.getId());
+		// On a path, with a task added and a task removed
+		completed(4L, 1000L, 1100L, 1200L, 1300L);
+		tasksAddedIds.put(4L, Set.of(120L));
+		tasksRemovedIds.put(4L, Set.of(110L));
+		activePathIds.put(4L, path.getId());
+		// Not evaluated
+		completed(5L, 1000L, 1001L, 1100L, 1101L, 1200L, 1300L, 1400L);
+
+		when(editionGraphCache.get(edition)).thenReturn(EditionGraph.compile(edition));
+		when(taskCompletionRepository.findAllCompletedTaskIdsForPeopleInEditions(any(), eq(Set.of(1L))))
+				.thenAnswer(invocation -> personEntityIds(completedTaskIds, invocation.getArgument(0)));
+		when(personRepository.findAllSkillIdsRevealedForPeopleInEditions(any(), eq(Set.of(1L))))
+				.thenAnswer(invocation -> personEntityIds(revealedSkillIds, invocation.getArgument(0)));
+		when(personRepository.findAllTaskIdsAddedForPeopleInEditions(any(), eq(Set.of(1L))))
+				.thenAnswer(invocation -> personEntityIds(tasksAddedIds, invocation.getArgument(0)));
+		when(personRepository.findAllTaskIdsRemovedForPeopleInEditions(any(), eq(Set.of(1L))))
+				.thenAnswer(invocation -> personEntityIds(tasksRemovedIds, invocation.getArgument(0)));
+		when(pathPreferenceRepository.findAllPathIdsByEdition(edition)).thenReturn(personEntityIds(
+				activePathIds.entrySet().stream()
+						.collect(Collectors.toMap(Map.Entry::getKey, entry -> Set.of(entry.getValue()))),
+				activePathIds.keySet()));
+	}
+
+	@Test
+	public void evaluateMatchesEvaluatingEveryPersonSeparately() {
+		List<Long> personIds = List.of(1L, 2L, 3L, 4L);
+
+		Map<Long, SkillStates> states = batchSkillStateService.evaluate(edition, personIds);
+
+		assertThat(states).containsOnlyKeys(personIds);
+		verify(taskCompletionRepository).findAllCompletedTaskIdsForPeopleInEditions(Set.copyOf(personIds),
+				Set.of(1L));
+		for (Long personId : personIds) {
+			SkillStates expected = skillStateService.evaluate(skills,
+					completedTaskIds.getOrDefault(personId, Set.of()),
+					revealedSkillIds.getOrDefault(personId, Set.of()),
+					activePathIds.containsKey(personId) ? path : null,
+					tasks(tasksAddedIds.getOrDefault(personId, Set.of())),
+					tasks(tasksRemovedIds.getOrDefault(personId, Set.of())));
+			for (AbstractSkill skill : skills) {
+				assertThat(states.get(personId).isUnlocked(skill))
+						.as("Unlocked state of skill %d for person %d", skill.getId(), personId)
+						.isEqualTo(expected.isUnlocked(skill));
+				assertThat(states.get(personId).isCompleted(skill))
+						.as("Completed state of skill %d for person %d", skill.getId(), personId)
+						.isEqualTo(expected.isCompleted(skill));
+			}
+		}
+	}
+
+	@Test
+	public void countsMatchStatesOfEveryPerson() {
+		Collection<SkillStates> states = batchSkillStateService.evaluate(edition, List.of(1L, 2L, 3L, 4L, 5L))
+				.values();
+
+		SkillStateCounts counts = SkillStateCounts.of(states);
+
+		for (AbstractSkill skill : skills) {
+			assertThat(counts.unlocked(skill)).as("Unlocked count of skill %d", skill.getId())
+					.isEqualTo(states.stream().filter(state -> state.isUnlocked(skill)).count());
+			assertThat(counts.completed(skill)).as("Completed count of skill %d", skill.getId())
+					.isEqualTo(states.stream().filter(state -> state.isCompleted(skill)).count());
+		}
+	}
+
+	private Skill skill(Submodule submodule, Long id, boolean hidden, Task... skillTasks) {
+		Skill skill = Skill.builder().id(id).submodule(submodule).column(1).hidden(hidden)
+				.tasks(new ArrayList<>(List.of(skillTasks))).build();
+		for (Task task : skillTasks) {
+			task.setSkill(skill);
+		}
+		submodule.getSkills().add(skill);
+		skills.add(skill);
+		return skill;
+	}
+
+	private RegularTask regularTask(Long id, Long taskInfoId, boolean onPath) {
+		RegularTask task = RegularTask.builder().id(id).taskInfo(TaskInfo.builder().id(taskInfoId).build())
+				.build();
+		task.getTaskInfo().setTask(task);
+		return addTask(task, onPath);
+	}
+
+	private ChoiceTask choiceTask(Long id, int minTasks, Long... taskInfoIds) {
+		ChoiceTask task = ChoiceTask.builder().id(id).minTasks(minTasks).build();
+		for (Long taskInfoId : taskInfoIds) {
+			task.getTasks().add(TaskInfo.builder().id(taskInfoId).choiceTask(task).build());
+		}
+		return addTask(task, true);
+	}
+
+	private <T extends Task> T addTask(T task, boolean onPath) {
+		if (onPath) {
+			task.getPaths().add(path);
+		}
+		tasks.put(task.getId(), task);
+		return task;
+	}
+
+	private Set<Task> tasks(Set<Long> ids) {
+		return ids.stream().map(tasks::get).collect(Collectors.toSet());
+	}
+
+	private void completed(Long personId, Long... taskInfoIds) {
+		completedTaskIds.put(personId, Set.of(taskInfoIds));
+	}
+
+	private void revealed(Long personId, Long... skillIds) {
+		revealedSkillIds.put(personId, Set.of(skillIds));
+	}
+
+	private static List<PersonEntityId> personEntityIds(Map<Long, Set<Long>> ids,
+			Collection<Long> personIds) {
+		List<PersonEntityId> personEntityIds = new ArrayList<>();
+		ids.forEach((personId, entityIds) -> {
+			if (personIds.contains(personId)) {
+				entityIds.forEach(id -> personEntityIds.add(personEntityId(personId, id)));
+			}
+		});
+		return personEntityIds;
+	}
+
+	private static PersonEntityId personEntityId(Long personId, Long id) {
+		return new PersonEntityId() {
+			@Override
+			public Long getPersonId() {
+				return personId;
+			}
+
+			@Override
+			public Long getId() {
+				return id;
+			}
+		};
+	}
+
+}
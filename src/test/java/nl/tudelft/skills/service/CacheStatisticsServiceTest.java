@@ -0,0 +1,113 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import nl.tudelft.skills.cache.CacheRegions;
+import nl.tudelft.skills.dto.stats.CacheRegionStatsDTO;
+import nl.tudelft.skills.model.SCEdition;
+import nl.tudelft.skills.model.SCModule;
+import nl.tudelft.skills.model.Skill;
+import nl.tudelft.skills.model.Submodule;
+import nl.tudelft.skills.repository.EditionRepository;
+import nl.tudelft.skills.repository.ModuleRepository;
+import nl.tudelft.skills.repository.SkillRepository;
+import nl.tudelft.skills.repository.SubmoduleRepository;
+
+@Transactional
+@SpringBootTest
+public class CacheStatisticsServiceTest {
+
+	private final CacheStatisticsService cacheStatisticsService;
+	private final EditionRepository editionRepository;
+	private final ModuleRepository moduleRepository;
+	private final SubmoduleRepository submoduleRepository;
+	private final SkillRepository skillRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	@Autowired
+	public CacheStatisticsServiceTest(CacheStatisticsService cacheStatisticsService,
+			EditionRepository editionRepository, ModuleRepository moduleRepository,
+			SubmoduleRepository submoduleRepository, SkillRepository skillRepository,
+			PlatformTransactionManager transactionManager) {
+		this.cacheStatisticsService = cacheStatisticsService;
+		this.editionRepository = editionRepository;
+		this.moduleRepository = moduleRepository;
+		this.submoduleRepository = submoduleRepository;
+		this.skillRepository = skillRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		skillRepository.deleteAll();
+		submoduleRepository.deleteAll();
+		moduleRepository.deleteAll();
+		editionRepository.deleteAllById(List.of(1L));
+	}
+
+	@Test
+	public void everyRegionIsReported() {
+		List<CacheRegionStatsDTO> statistics = cacheStatisticsService.getRegionStatistics();
+
+		assertThat(statistics).extracting(CacheRegionStatsDTO::getRegion)
+				.containsExactlyElementsOf(CacheRegions.ALL);
+		assertThat(statistics).extracting(CacheRegionStatsDTO::getMaximumSize).containsOnly(10_000L);
+	}
+
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void loadsOfCachedSkillAreCounted() {
+		Long skillId = transactionTemplate.execute(status -> {
+			SCEdition edition = editionRepository.save(SCEdition.builder().id(1L).build());
+			SCModule module = moduleRepository
+					.save(SCModule.builder().name("Module").edition(edition).build());
+			Submodule submodule = submoduleRepository
+					.save(Submodule.builder().name("Submodule").module(module).build());
+			return skillRepository.save(Skill.builder().name("Skill").submodule(submodule).build()).getId();
+		});
+		CacheRegionStatsDTO before = skillRegion();
+
+		// Inserted skills are cached on commit, so both loads are served from the cache
+		transactionTemplate.executeWithoutResult(status -> skillRepository.findByIdOrThrow(skillId));
+		transactionTemplate.executeWithoutResult(status -> skillRepository.findByIdOrThrow(skillId));
+
+		CacheRegionStatsDTO after = skillRegion();
+		assertThat(after.getHitCount() - before.getHitCount()).isEqualTo(2);
+		assertThat(after.getMissCount()).isEqualTo(before.getMissCount());
+		assertThat(after.getSize()).isPositive();
+	}
+
+	private CacheRegionStatsDTO skillRegion() {
+		return cacheStatisticsService.getRegionStatistics().stream()
+				.filter(region -> region.getRegion().equals(CacheRegions.SKILL)).findFirst().orElseThrow();
+	}
+
+}
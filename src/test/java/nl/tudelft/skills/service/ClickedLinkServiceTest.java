@@ -0,0 +1,130 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import nl.tudelft.skills.dto.stats.ClickedLinkBufferStatsDTO;
+import nl.tudelft.skills.enums.ViewMode;
+import nl.tudelft.skills.model.PersonalPreferences;
+import nl.tudelft.skills.model.SCPerson;
+import nl.tudelft.skills.model.TaskInfo;
+import nl.tudelft.skills.repository.ClickedLinkRepository;
+import nl.tudelft.skills.repository.PersonRepository;
+import nl.tudelft.skills.repository.TaskInfoRepository;
+
+@Transactional
+@SpringBootTest(properties = { "skill-circuits.clicked-links.buffer-size=3",
+		"skill-circuits.clicked-links.batch-size=10", "skill-circuits.clicked-links.flush-interval=3600000" })
+public class ClickedLinkServiceTest {
+
+	private final ClickedLinkService clickedLinkService;
+	private final ClickedLinkRepository clickedLinkRepository;
+	private final PersonRepository personRepository;
+	private final TaskInfoRepository taskInfoRepository;
+
+	@Autowired
+	public ClickedLinkServiceTest(ClickedLinkService clickedLinkService,
+			ClickedLinkRepository clickedLinkRepository, PersonRepository personRepository,
+			TaskInfoRepository taskInfoRepository) {
+		this.clickedLinkService = clickedLinkService;
+		this.clickedLinkRepository = clickedLinkRepository;
+		this.personRepository = personRepository;
+		this.taskInfoRepository = taskInfoRepository;
+	}
+
+	@Test
+	public void clicksAreWrittenWhenFlushed() {
+		SCPerson person = personRepository.save(SCPerson.builder().id(1L).viewMode(ViewMode.VIEWER)
+				.preferences(PersonalPreferences.builder().build()).build());
+		TaskInfo task = taskInfoRepository.save(TaskInfo.builder().name("Task").build());
+		long written = clickedLinkService.getBufferStatistics().getWritten();
+
+		clickedLinkService.reportClickedLink(person, task);
+		assertThat(clickedLinkRepository.count()).isZero();
+
+		clickedLinkService.flush();
+
+		assertThat(clickedLinkRepository.findAll()).singleElement()
+				.satisfies(click -> assertThat(click.getPerson()).isEqualTo(person))
+				.satisfies(click -> assertThat(click.getTask()).isEqualTo(task));
+		assertThat(clickedLinkService.getBufferStatistics().getWritten()).isEqualTo(written + 1);
+	}
+
+	@Test
+	public void clicksAreDroppedWhenBufferIsFull() {
+		SCPerson person = personRepository.save(SCPerson.builder().id(1L).viewMode(ViewMode.VIEWER)
+				.preferences(PersonalPreferences.builder().build()).build());
+		TaskInfo task = taskInfoRepository.save(TaskInfo.builder().name("Task").build());
+		long dropped = clickedLinkService.getBufferStatistics().getDropped();
+
+		for (int i = 0; i < 5; i++) {
+			clickedLinkService.reportClickedLink(person, task);
+		}
+
+		ClickedLinkBufferStatsDTO statistics = clickedLinkService.getBufferStatistics();
+		assertThat(statistics.getQueueDepth()).isEqualTo(3);
+		assertThat(statistics.getDropped()).isEqualTo(dropped + 2);
+
+		clickedLinkService.flush();
+
+		assertThat(clickedLinkRepository.count()).isEqualTo(3);
+	}
+
+	@Test
+	public void clicksOnDeletedTasksAreDropped() {
+		SCPerson person = personRepository.save(SCPerson.builder().id(1L).viewMode(ViewMode.VIEWER)
+				.preferences(PersonalPreferences.builder().build()).build());
+		TaskInfo task = taskInfoRepository.save(TaskInfo.builder().name("Task").build());
+		TaskInfo deleted = TaskInfo.builder().id(task.getId() + 1).name("Deleted").build();
+		ClickedLinkBufferStatsDTO before = clickedLinkService.getBufferStatistics();
+
+		clickedLinkService.reportClickedLink(person, task);
+		clickedLinkService.reportClickedLink(person, deleted);
+		clickedLinkService.flush();
+
+		assertThat(clickedLinkRepository.findAll()).singleElement()
+				.satisfies(click -> assertThat(click.getTask()).isEqualTo(task));
+		ClickedLinkBufferStatsDTO after = clickedLinkService.getBufferStatistics();
+		assertThat(after.getWritten()).isEqualTo(before.getWritten() + 1);
+		assertThat(after.getDropped()).isEqualTo(before.getDropped() + 1);
+	}
+
+	@Test
+	public void clicksStayBufferedWhenExecutorRejectsFlush() {
+		ClickedLinkService service = new ClickedLinkService(mock(ClickedLinkRepository.class),
+				mock(PersonRepository.class), mock(TaskInfoRepository.class),
+				mock(PlatformTransactionManager.class), command -> {
+					throw new TaskRejectedException("Executor is full");
+				}, new MockEnvironment().withProperty("skill-circuits.clicked-links.batch-size", "1"));
+
+		service.reportClickedLink(SCPerson.builder().id(1L).build(), TaskInfo.builder().id(2L).build());
+
+		assertThat(service.getBufferStatistics().getQueueDepth()).isEqualTo(1);
+	}
+
+}
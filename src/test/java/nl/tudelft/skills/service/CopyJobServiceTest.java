@@ -0,0 +1,194 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import nl.tudelft.skills.dto.view.CopyJobView;
+import nl.tudelft.skills.enums.CopyJobStatus;
+import nl.tudelft.skills.enums.CopyPhase;
+import nl.tudelft.skills.model.CopyJob;
+import nl.tudelft.skills.model.SCEdition;
+import nl.tudelft.skills.repository.CopyJobRepository;
+import nl.tudelft.skills.repository.EditionRepository;
+
+@Transactional
+@SpringBootTest()
+public class CopyJobServiceTest {
+
+	private final CopyJobService copyJobService;
+	private final CopyJobRepository copyJobRepository;
+	private final EditionRepository editionRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final TransactionTemplate newTransactionTemplate;
+
+	private final CopyService copyService;
+	private final CopyJobService runningCopyJobService;
+
+	@Autowired
+	public CopyJobServiceTest(CopyJobService copyJobService, CopyJobRepository copyJobRepository,
+			EditionRepository editionRepository, PlatformTransactionManager transactionManager,
+			Environment env) {
+		this.copyJobService = copyJobService;
+		this.copyJobRepository = copyJobRepository;
+		this.editionRepository = editionRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		// Not a Spring bean, so runJob runs synchronously on the test thread
+		this.copyService = mock(CopyService.class);
+		this.runningCopyJobService = new CopyJobService(copyJobRepository, editionRepository, copyService,
+				env);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		copyJobRepository.deleteAll();
+		editionRepository.deleteAllById(List.of(1L, 2L, 3L));
+	}
+
+	@Test
+	public void createJobIsQueued() {
+		SCEdition original = editionRepository.save(SCEdition.builder().id(1L).build());
+		SCEdition copy = editionRepository.save(SCEdition.builder().id(2L).build());
+
+		CopyJob job = copyJobService.createJob(original, copy);
+
+		assertThat(copyJobService.getLatestJob(copy)).get()
+				.extracting(CopyJobView::id, CopyJobView::originalId, CopyJobView::status)
+				.containsExactly(job.getId(), 1L, CopyJobStatus.QUEUED);
+	}
+
+	@Test
+	public void createJobRejectsConcurrentCopiesIntoSameEdition() {
+		SCEdition original = editionRepository.save(SCEdition.builder().id(1L).build());
+		SCEdition other = editionRepository.save(SCEdition.builder().id(3L).build());
+		SCEdition copy = editionRepository.save(SCEdition.builder().id(2L).build());
+		copyJobService.createJob(original, copy);
+
+		assertThatThrownBy(() -> copyJobService.createJob(other, copy))
+				.isInstanceOfSatisfying(ResponseStatusException.class,
+						e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+	}
+
+	@Test
+	public void createJobAllowsCopiesIntoOtherEditions() {
+		SCEdition original = editionRepository.save(SCEdition.builder().id(1L).build());
+		SCEdition copy = editionRepository.save(SCEdition.builder().id(2L).build());
+		SCEdition other = editionRepository.save(SCEdition.builder().id(3L).build());
+		copyJobService.createJob(original, copy);
+
+		copyJobService.createJob(original, other);
+
+		assertThat(copyJobService.getLatestJob(other)).isPresent();
+	}
+
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void runJobWritesProgressBeforeCopyIsCommitted() {
+		CopyJob job = createCommittedJob();
+		List<CopyJobView> progress = new ArrayList<>();
+		doAnswer(invocation -> {
+			CopyProgressListener listener = invocation.getArgument(2);
+			transactionTemplate.executeWithoutResult(status -> {
+				listener.onProgress(CopyPhase.MODULES, 100, 250);
+				progress.add(committedJob(job.getId()));
+			});
+			assertThatThrownBy(() -> copyJobService.createJob(edition(3L), edition(2L)))
+					.isInstanceOfSatisfying(ResponseStatusException.class,
+							e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+			return null;
+		}).when(copyService).copyEdition(eq(1L), eq(2L), any());
+
+		runningCopyJobService.runJob(job.getId());
+
+		assertThat(progress)
+				.extracting(CopyJobView::status, CopyJobView::phase, CopyJobView::copied, CopyJobView::total)
+				.containsExactly(tuple(CopyJobStatus.RUNNING, CopyPhase.MODULES, 100, 250));
+		assertThat(committedJob(job.getId()).status()).isEqualTo(CopyJobStatus.COMPLETED);
+	}
+
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void runJobFailsJobWhenCopyThrows() {
+		CopyJob job = createCommittedJob();
+		doThrow(new IllegalStateException("Copy failed")).when(copyService)
+				.copyEdition(eq(1L), eq(2L), any());
+
+		assertThatThrownBy(() -> runningCopyJobService.runJob(job.getId()))
+				.isInstanceOf(IllegalStateException.class);
+
+		CopyJobView failed = committedJob(job.getId());
+		assertThat(failed.status()).isEqualTo(CopyJobStatus.FAILED);
+		assertThat(failed.finished()).isNotNull();
+		assertThat(copyJobService.createJob(edition(1L), edition(2L))).isNotNull();
+	}
+
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void failStaleJobsOnlyFailsJobsWithoutRecentHeartbeat() {
+		CopyJob stale = createCommittedJob();
+		CopyJob alive = copyJobService.createJob(edition(1L), edition(3L));
+		copyJobRepository.beat(Set.of(stale.getId()), LocalDateTime.now().minusDays(1));
+
+		copyJobService.failStaleJobs();
+
+		assertThat(committedJob(stale.getId()).status()).isEqualTo(CopyJobStatus.FAILED);
+		assertThat(committedJob(alive.getId()).status()).isEqualTo(CopyJobStatus.QUEUED);
+	}
+
+	private CopyJob createCommittedJob() {
+		return transactionTemplate
+				.execute(status -> runningCopyJobService.createJob(edition(1L), edition(2L)));
+	}
+
+	private SCEdition edition(Long id) {
+		return editionRepository.findById(id)
+				.orElseGet(() -> editionRepository.save(SCEdition.builder().id(id).build()));
+	}
+
+	private CopyJobView committedJob(Long id) {
+		return newTransactionTemplate
+				.execute(status -> copyJobService.toView(copyJobRepository.findByIdOrThrow(id)));
+	}
+
+}
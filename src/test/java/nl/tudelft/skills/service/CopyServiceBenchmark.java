@@ -0,0 +1,207 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import nl.tudelft.skills.model.*;
+import nl.tudelft.skills.repository.*;
+
+/**
+ * Measures the time it takes to copy a large edition with and without JDBC batching. Without batching, every
+ * copied entity is inserted with its own statement, as before the ids of copies were allocated in blocks.
+ * Every copy is rolled back, so the database is left empty.
+ *
+ * This is not part of the regular tests. Run it with {@code ./gradlew benchmark}, which uses the in-memory
+ * H2 database of the tests. See {@code QueryIndexBenchmark} for how to run it against another database.
+ */
+@Tag("benchmark")
+@SpringBootTest()
+public class CopyServiceBenchmark {
+
+	private static final Logger logger = LoggerFactory.getLogger(CopyServiceBenchmark.class);
+
+	private static final int SKILLS = 500;
+	private static final int WARMUP_RUNS = 1;
+	private static final int MEASURED_RUNS = 3;
+
+	private final CopyService copyService;
+	private final EditionRepository editionRepository;
+	private final CheckpointRepository checkpointRepository;
+	private final PathRepository pathRepository;
+	private final ModuleRepository moduleRepository;
+	private final SubmoduleRepository submoduleRepository;
+	private final SkillRepository skillRepository;
+	private final RegularTaskRepository regularTaskRepository;
+	private final ChoiceTaskRepository choiceTaskRepository;
+	private final TaskInfoRepository taskInfoRepository;
+
+	private final EntityManager entityManager;
+	private final Statistics statistics;
+	private final TransactionTemplate transactionTemplate;
+	private final int batchSize;
+
+	@Autowired
+	public CopyServiceBenchmark(CopyService copyService, EditionRepository editionRepository,
+			CheckpointRepository checkpointRepository, PathRepository pathRepository,
+			ModuleRepository moduleRepository, SubmoduleRepository submoduleRepository,
+			SkillRepository skillRepository, RegularTaskRepository regularTaskRepository,
+			ChoiceTaskRepository choiceTaskRepository, TaskInfoRepository taskInfoRepository,
+			EntityManager entityManager, EntityManagerFactory entityManagerFactory,
+			PlatformTransactionManager transactionManager) {
+		this.copyService = copyService;
+		this.editionRepository = editionRepository;
+		this.checkpointRepository = checkpointRepository;
+		this.pathRepository = pathRepository;
+		this.moduleRepository = moduleRepository;
+		this.submoduleRepository = submoduleRepository;
+		this.skillRepository = skillRepository;
+		this.regularTaskRepository = regularTaskRepository;
+		this.choiceTaskRepository = choiceTaskRepository;
+		this.taskInfoRepository = taskInfoRepository;
+		this.entityManager = entityManager;
+		SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+		this.statistics = sessionFactory.getStatistics();
+		this.batchSize = sessionFactory.getSessionFactoryOptions().getJdbcBatchSize();
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	@Test
+	public void benchmarkCopyEdition() {
+		Map<String, Result> results = new LinkedHashMap<>();
+		results.put("Without batching", measure(1));
+		results.put("Batches of " + batchSize, measure(batchSize));
+
+		StringBuilder report = new StringBuilder(String.format("%n%-20s %12s %12s %12s%n", "Mode",
+				"Time (ms)", "Inserts", "Statements"));
+		results.forEach((mode, result) -> report.append(String.format("%-20s %12.0f %12d %12d%n", mode,
+				result.millis(), result.inserts(), result.statements())));
+		logger.info("Median time to copy an edition of {} skills:{}", SKILLS, report);
+	}
+
+	/**
+	 * Copies an edition a number of times with the given JDBC batch size and takes the median time of the
+	 * measured runs.
+	 *
+	 * @param  batchSize The JDBC batch size of the session that copies the edition, 1 to disable batching.
+	 * @return           The median time and the number of inserts and statements of the last run.
+	 */
+	private Result measure(int batchSize) {
+		double[] times = new double[MEASURED_RUNS];
+		Result last = null;
+		for (int run = 0; run < WARMUP_RUNS + MEASURED_RUNS; run++) {
+			last = transactionTemplate.execute(status -> {
+				status.setRollbackOnly();
+				return copy(batchSize);
+			});
+			if (run >= WARMUP_RUNS) {
+				times[run - WARMUP_RUNS] = last.millis();
+			}
+		}
+		Arrays.sort(times);
+		return new Result(times[MEASURED_RUNS / 2], last.inserts(), last.statements());
+	}
+
+	/**
+	 * Creates an edition and copies it into another edition, flushing the copy to the database.
+	 */
+	private Result copy(int batchSize) {
+		createEdition(1L);
+		editionRepository.save(SCEdition.builder().id(2L).build());
+		entityManager.flush();
+		entityManager.clear();
+		entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+		statistics.clear();
+
+		long start = System.nanoTime();
+		copyService.copyEdition(editionRepository.findByIdOrThrow(1L), editionRepository.findByIdOrThrow(2L));
+		entityManager.flush();
+		double millis = (System.nanoTime() - start) / 1_000_000.0;
+
+		return new Result(millis, statistics.getEntityInsertCount(), statistics.getPrepareStatementCount());
+	}
+
+	/**
+	 * Creates an edition with a single module, spread over submodules of ten skills. Every skill depends on
+	 * the previous skill and has a regular task on a path and a choice task with two choices. The skills are
+	 * divided over two checkpoints.
+	 */
+	private void createEdition(Long editionId) {
+		SCEdition edition = editionRepository.save(SCEdition.builder().id(editionId).build());
+		Checkpoint first = checkpointRepository.save(Checkpoint.builder().name("Checkpoint 1")
+				.deadline(LocalDateTime.now()).edition(edition).build());
+		Checkpoint second = checkpointRepository.save(Checkpoint.builder().name("Checkpoint 2")
+				.deadline(LocalDateTime.now().plusWeeks(1)).edition(edition).build());
+		Path path = pathRepository.save(Path.builder().name("Path").description("").edition(edition).build());
+		SCModule module = moduleRepository.save(SCModule.builder().name("Module").edition(edition).build());
+
+		Submodule submodule = null;
+		Skill previous = null;
+		for (int i = 0; i < SKILLS; i++) {
+			if (i % 10 == 0) {
+				submodule = submoduleRepository.save(Submodule.builder().name("Submodule " + i)
+						.module(module).column(i / 10).build());
+			}
+			Skill skill = skillRepository.save(Skill.builder().name("Skill " + i).submodule(submodule)
+					.checkpoint(i < SKILLS / 2 ? first : second).column(i % 10).build());
+			if (previous != null) {
+				skill.getParents().add(previous);
+				previous.getChildren().add(skill);
+			}
+			previous = skill;
+
+			TaskInfo info = TaskInfo.builder().name("Task " + i).build();
+			RegularTask task = RegularTask.builder().skill(skill).taskInfo(info).build();
+			info.setTask(task);
+			task = regularTaskRepository.save(task);
+			taskInfoRepository.save(info);
+			path.getTasks().add(task);
+			task.getPaths().add(path);
+			skill.getTasks().add(task);
+
+			ChoiceTask choiceTask = choiceTaskRepository.save(ChoiceTask.builder().skill(skill).idx(1)
+					.build());
+			skill.getTasks().add(choiceTask);
+			for (int j = 0; j < 2; j++) {
+				choiceTask.getTasks().add(taskInfoRepository.save(TaskInfo.builder().name("Choice " + j)
+						.choiceTask(choiceTask).build()));
+			}
+		}
+	}
+
+	private record Result(double millis, long inserts, long statements) {
+	}
+
+}
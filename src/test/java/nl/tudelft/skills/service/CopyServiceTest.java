@@ -0,0 +1,174 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import nl.tudelft.skills.model.*;
+import nl.tudelft.skills.repository.*;
+
+@Transactional
+@SpringBootTest()
+public class CopyServiceTest {
+
+	private final CopyService copyService;
+	private final EditionRepository editionRepository;
+	private final CheckpointRepository checkpointRepository;
+	private final PathRepository pathRepository;
+	private final ModuleRepository moduleRepository;
+	private final SubmoduleRepository submoduleRepository;
+	private final SkillRepository skillRepository;
+	private final RegularTaskRepository regularTaskRepository;
+	private final ChoiceTaskRepository choiceTaskRepository;
+	private final TaskInfoRepository taskInfoRepository;
+
+	private final EntityManager entityManager;
+	private final Statistics statistics;
+
+	@Autowired
+	public CopyServiceTest(CopyService copyService, EditionRepository editionRepository,
+			CheckpointRepository checkpointRepository, PathRepository pathRepository,
+			ModuleRepository moduleRepository, SubmoduleRepository submoduleRepository,
+			SkillRepository skillRepository, RegularTaskRepository regularTaskRepository,
+			ChoiceTaskRepository choiceTaskRepository, TaskInfoRepository taskInfoRepository,
+			EntityManager entityManager, EntityManagerFactory entityManagerFactory) {
+		this.copyService = copyService;
+		this.editionRepository = editionRepository;
+		this.checkpointRepository = checkpointRepository;
+		this.pathRepository = pathRepository;
+		this.moduleRepository = moduleRepository;
+		this.submoduleRepository = submoduleRepository;
+		this.skillRepository = skillRepository;
+		this.regularTaskRepository = regularTaskRepository;
+		this.choiceTaskRepository = choiceTaskRepository;
+		this.taskInfoRepository = taskInfoRepository;
+		this.entityManager = entityManager;
+		this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	public void copyEditionCopiesEverything() {
+		createEdition(1L, 20);
+		editionRepository.save(SCEdition.builder().id(2L).build());
+
+		copy(1L, 2L);
+
+		SCEdition copy = editionRepository.findById(2L).orElseThrow();
+		assertThat(copy.getCheckpoints()).hasSize(2);
+		assertThat(copy.getPaths()).hasSize(1);
+		assertThat(copy.getModules()).hasSize(1);
+		assertThat(copy.getModules()).flatMap(SCModule::getSubmodules).hasSize(2)
+				.flatMap(Submodule::getSkills).hasSize(20)
+				.allSatisfy(skill -> {
+					assertThat(skill.getPreviousEditionSkill().getName()).isEqualTo(skill.getName());
+					assertThat(skill.getCheckpoint().getEdition()).isEqualTo(copy);
+					assertThat(skill.getTasks()).hasSize(2);
+					assertThat(skill.getTasks().get(0).getPaths()).containsExactlyElementsOf(copy.getPaths());
+					assertThat(skill.getParents()).allSatisfy(parent -> assertThat(parent.getSubmodule()
+							.getModule().getEdition()).isEqualTo(copy));
+				});
+	}
+
+	@Test
+	public void copyEditionInsertsInBatches() {
+		createEdition(1L, 100);
+		editionRepository.save(SCEdition.builder().id(2L).build());
+
+		copy(1L, 2L);
+
+		// Every skill has two tasks with three task infos, a path entry, and a parent
+		long inserts = statistics.getEntityInsertCount();
+		assertThat(inserts).isGreaterThan(600);
+		assertThat(statistics.getPrepareStatementCount()).as("statements to copy %d entities", inserts)
+				.isLessThan(inserts / 10);
+	}
+
+	/**
+	 * Copies an edition into another edition and flushes the copy to the database.
+	 */
+	private void copy(Long originalId, Long copyId) {
+		entityManager.flush();
+		entityManager.clear();
+		statistics.clear();
+
+		copyService.copyEdition(editionRepository.findById(originalId).orElseThrow(),
+				editionRepository.findById(copyId).orElseThrow());
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	/**
+	 * Creates an edition with the given number of skills in a single module, spread over submodules of ten
+	 * skills. Every skill depends on the previous skill and has a regular task on a path and a choice task
+	 * with two choices. The skills are divided over two checkpoints.
+	 */
+	private void createEdition(Long editionId, int skills) {
+		SCEdition edition = editionRepository.save(SCEdition.builder().id(editionId).build());
+		Checkpoint first = checkpointRepository.save(Checkpoint.builder().name("Checkpoint 1")
+				.deadline(LocalDateTime.now()).edition(edition).build());
+		Checkpoint second = checkpointRepository.save(Checkpoint.builder().name("Checkpoint 2")
+				.deadline(LocalDateTime.now().plusWeeks(1)).edition(edition).build());
+		Path path = pathRepository.save(Path.builder().name("Path").description("").edition(edition).build());
+		SCModule module = moduleRepository.save(SCModule.builder().name("Module").edition(edition).build());
+
+		Submodule submodule = null;
+		Skill previous = null;
+		for (int i = 0; i < skills; i++) {
+			if (i % 10 == 0) {
+				submodule = submoduleRepository.save(Submodule.builder().name("Submodule " + i)
+						.module(module).column(i / 10).build());
+			}
+			Skill skill = skillRepository.save(Skill.builder().name("Skill " + i).submodule(submodule)
+					.checkpoint(i < skills / 2 ? first : second).column(i % 10).build());
+			if (previous != null) {
+				skill.getParents().add(previous);
+				previous.getChildren().add(skill);
+			}
+			previous = skill;
+
+			TaskInfo info = TaskInfo.builder().name("Task " + i).build();
+			RegularTask task = RegularTask.builder().skill(skill).taskInfo(info).build();
+			info.setTask(task);
+			task = regularTaskRepository.save(task);
+			taskInfoRepository.save(info);
+			path.getTasks().add(task);
+			task.getPaths().add(path);
+			skill.getTasks().add(task);
+
+			ChoiceTask choiceTask = choiceTaskRepository.save(ChoiceTask.builder().skill(skill).idx(1)
+					.build());
+			skill.getTasks().add(choiceTask);
+			for (int j = 0; j < 2; j++) {
+				choiceTask.getTasks().add(taskInfoRepository.save(TaskInfo.builder().name("Choice " + j)
+						.choiceTask(choiceTask).build()));
+			}
+		}
+	}
+
+}
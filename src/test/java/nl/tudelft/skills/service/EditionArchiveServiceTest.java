@@ -0,0 +1,199 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import nl.tudelft.labracore.api.EditionControllerApi;
+import nl.tudelft.labracore.api.dto.EditionDetailsDTO;
+import nl.tudelft.skills.dto.stats.EditionArchiveStatsDTO;
+import nl.tudelft.skills.enums.ViewMode;
+import nl.tudelft.skills.model.*;
+import nl.tudelft.skills.repository.*;
+import reactor.core.publisher.Flux;
+
+@Transactional
+@SpringBootTest(properties = { "skill-circuits.archive.retention-days=30",
+		"skill-circuits.archive.dry-run=false" })
+public class EditionArchiveServiceTest {
+
+	private final EditionArchiveService editionArchiveService;
+	private final EditionControllerApi editionApi;
+	private final EditionRepository editionRepository;
+	private final ModuleRepository moduleRepository;
+	private final SubmoduleRepository submoduleRepository;
+	private final SkillRepository skillRepository;
+	private final RegularTaskRepository regularTaskRepository;
+	private final PersonRepository personRepository;
+	private final TaskCompletionRepository taskCompletionRepository;
+	private final ArchivedTaskCompletionRepository archivedTaskCompletionRepository;
+	private final ClickedLinkRepository clickedLinkRepository;
+	private final ArchivedClickedLinkRepository archivedClickedLinkRepository;
+
+	private SCPerson person;
+	private SCEdition finished;
+	private SCEdition running;
+	private TaskInfo finishedTask;
+
+	@Autowired
+	public EditionArchiveServiceTest(EditionRepository editionRepository, ModuleRepository moduleRepository,
+			SubmoduleRepository submoduleRepository, SkillRepository skillRepository,
+			RegularTaskRepository regularTaskRepository, PersonRepository personRepository,
+			TaskCompletionRepository taskCompletionRepository,
+			ArchivedTaskCompletionRepository archivedTaskCompletionRepository,
+			ClickedLinkRepository clickedLinkRepository,
+			ArchivedClickedLinkRepository archivedClickedLinkRepository,
+			PlatformTransactionManager transactionManager, Environment env) {
+		this.editionRepository = editionRepository;
+		this.moduleRepository = moduleRepository;
+		this.submoduleRepository = submoduleRepository;
+		this.skillRepository = skillRepository;
+		this.regularTaskRepository = regularTaskRepository;
+		this.personRepository = personRepository;
+		this.taskCompletionRepository = taskCompletionRepository;
+		this.archivedTaskCompletionRepository = archivedTaskCompletionRepository;
+		this.clickedLinkRepository = clickedLinkRepository;
+		this.archivedClickedLinkRepository = archivedClickedLinkRepository;
+		this.editionApi = mock(EditionControllerApi.class);
+
+		editionArchiveService = new EditionArchiveService(editionRepository, editionApi,
+				taskCompletionRepository, archivedTaskCompletionRepository, clickedLinkRepository,
+				archivedClickedLinkRepository, transactionManager, env);
+	}
+
+	@BeforeEach
+	public void setUp() {
+		person = personRepository.save(SCPerson.builder().id(1L).viewMode(ViewMode.VIEWER)
+				.preferences(PersonalPreferences.builder().build()).build());
+		finished = editionRepository.save(SCEdition.builder().id(1L).build());
+		running = editionRepository.save(SCEdition.builder().id(2L).build());
+		finishedTask = addProgress(finished);
+		addProgress(running);
+
+		when(editionApi.getEditionsById(anyList())).thenReturn(Flux.just(
+				new EditionDetailsDTO().id(finished.getId()).isArchived(true)
+						.endDate(LocalDateTime.now().minusDays(1)),
+				new EditionDetailsDTO().id(running.getId()).isArchived(false)
+						.endDate(LocalDateTime.now().plusDays(1))));
+	}
+
+	@Test
+	public void dryRunReportDoesNotArchive() {
+		assertThat(editionArchiveService.getDryRunReport()).containsExactly(EditionArchiveStatsDTO.builder()
+				.editionId(finished.getId()).completions(1L).clickedLinks(2L).archived(false).build());
+
+		assertThat(taskCompletionRepository.count()).isEqualTo(2L);
+		assertThat(clickedLinkRepository.count()).isEqualTo(4L);
+		assertThat(archivedTaskCompletionRepository.count()).isZero();
+		assertThat(archivedClickedLinkRepository.count()).isZero();
+	}
+
+	@Test
+	public void archiveMovesRowsOfFinishedEditions() {
+		editionArchiveService.archiveFinishedEditions();
+
+		assertThat(taskCompletionRepository.countAllInEdition(finished.getId())).isZero();
+		assertThat(clickedLinkRepository.countAllInEdition(finished.getId())).isZero();
+		assertThat(taskCompletionRepository.countAllInEdition(running.getId())).isEqualTo(1L);
+		assertThat(clickedLinkRepository.countAllInEdition(running.getId())).isEqualTo(2L);
+		assertThat(archivedTaskCompletionRepository.findAll()).singleElement()
+				.satisfies(archived -> assertThat(archived.getEditionId()).isEqualTo(finished.getId()))
+				.satisfies(archived -> assertThat(archived.getTaskId()).isEqualTo(finishedTask.getId()));
+		assertThat(archivedClickedLinkRepository.findAll()).hasSize(2)
+				.allSatisfy(archived -> assertThat(archived.getEditionId()).isEqualTo(finished.getId()));
+
+		assertThat(editionArchiveService.getDryRunReport()).isEmpty();
+	}
+
+	@Test
+	public void archiveEditionsThatEndedBeforeRetention() {
+		when(editionApi.getEditionsById(anyList())).thenReturn(Flux.just(
+				new EditionDetailsDTO().id(finished.getId()).isArchived(false)
+						.endDate(LocalDateTime.now().minusDays(31)),
+				new EditionDetailsDTO().id(running.getId()).isArchived(false)
+						.endDate(LocalDateTime.now().minusDays(29))));
+
+		editionArchiveService.archiveFinishedEditions();
+
+		assertThat(archivedTaskCompletionRepository.findAll())
+				.extracting(ArchivedTaskCompletion::getEditionId).containsExactly(finished.getId());
+		assertThat(taskCompletionRepository.countAllInEdition(running.getId())).isEqualTo(1L);
+	}
+
+	@Test
+	public void archivedRowsAreStillRead() {
+		editionArchiveService.archiveFinishedEditions();
+		Set<Long> students = Set.of(person.getId());
+
+		assertThat(taskCompletionRepository.findAllCompletedTaskIdsForPersonInEditions(person,
+				List.of(finished.getId()))).containsExactly(finishedTask.getId());
+		assertThat(taskCompletionRepository.findAllCompletedTaskIdsForPeopleInEditions(students,
+				List.of(finished.getId()))).extracting(PersonEntityId::getId)
+				.containsExactly(finishedTask.getId());
+		assertThat(taskCompletionRepository.countStudentsPerTaskInEdition(finished, students))
+				.singleElement().satisfies(count -> assertThat(count.getCount()).isEqualTo(1L));
+		assertThat(taskCompletionRepository.countStudentsThatClickedPerTaskInEdition(finished, students))
+				.singleElement().satisfies(count -> assertThat(count.getCount()).isEqualTo(1L));
+		assertThat(clickedLinkRepository.countStudentClicksPerTaskInEdition(finished, students))
+				.singleElement().satisfies(count -> assertThat(count.getClicks()).isEqualTo(2L))
+				.satisfies(count -> assertThat(count.getPeople()).isEqualTo(1L));
+		assertThat(taskCompletionRepository.countStudentsThatClickedPerTaskInEdition(running, students))
+				.singleElement().satisfies(count -> assertThat(count.getCount()).isEqualTo(1L));
+		assertThat(clickedLinkRepository.countStudentClicksPerTaskInEdition(running, students))
+				.singleElement().satisfies(count -> assertThat(count.getClicks()).isEqualTo(2L));
+		try (Stream<StudentProgress> progress = personRepository.streamProgressOfStudentsInEdition(finished,
+				students)) {
+			assertThat(progress.toList()).singleElement()
+					.satisfies(student -> assertThat(student.getCompletedTasks()).isEqualTo(1L))
+					.satisfies(student -> assertThat(student.getLastCompletedTask()).isEqualTo("Task"));
+		}
+	}
+
+	private TaskInfo addProgress(SCEdition edition) {
+		SCModule module = moduleRepository.save(SCModule.builder().name("Module").edition(edition).build());
+		Submodule submodule = submoduleRepository.save(Submodule.builder().name("Submodule").module(module)
+				.build());
+		Skill skill = skillRepository.save(Skill.builder().name("Skill").submodule(submodule).build());
+		TaskInfo taskInfo = TaskInfo.builder().name("Task").build();
+		RegularTask task = RegularTask.builder().skill(skill).taskInfo(taskInfo).build();
+		taskInfo.setTask(task);
+		regularTaskRepository.save(task);
+
+		taskCompletionRepository.save(TaskCompletion.builder().person(person).task(taskInfo).build());
+		clickedLinkRepository.saveAllAndFlush(List.of(
+				ClickedLink.builder().person(person).task(taskInfo).build(),
+				ClickedLink.builder().person(person).task(taskInfo).build()));
+		return taskInfo;
+	}
+}
@@ -25,6 +25,7 @@ import static org.mockito.Mockito.*;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -64,7 +65,7 @@ public class EditionStatisticsServiceTest {
 		editionStatisticsService = new EditionStatisticsService(
 				this.taskRepository, this.clickedLinkRepository, this.pathPreferenceRepository,
 				this.taskCompletionRepository,
-				this.personRepository, this.personControllerApi);
+				this.personRepository, this.personControllerApi, mock(BatchSkillStateService.class));
 	}
 
 	@Test
@@ -99,6 +100,39 @@ public class EditionStatisticsServiceTest {
 		return skill;
 	}
 
+	private IdCount idCount(Long id, Long count) {
+		return new IdCount() {
+			@Override
+			public Long getId() {
+				return id;
+			}
+
+			@Override
+			public Long getCount() {
+				return count;
+			}
+		};
+	}
+
+	private LinkClickCount linkClickCount(Long id, Long clicks, Long people) {
+		return new LinkClickCount() {
+			@Override
+			public Long getId() {
+				return id;
+			}
+
+			@Override
+			public Long getClicks() {
+				return clicks;
+			}
+
+			@Override
+			public Long getPeople() {
+				return people;
+			}
+		};
+	}
+
 	@Test
 	public void noActivityTaskStats() {
 		TaskInfo read12Info = TaskInfo.builder().id(1L).name("Read chapter 1.2")
@@ -110,7 +144,6 @@ public class EditionStatisticsServiceTest {
 		read12Info.setTask(taskRead12);
 		when(taskRepository.findAllByEdition(any()))
 				.thenReturn(Set.of(taskRead12));
-		when(clickedLinkRepository.getByTask(any())).thenReturn(List.of());
 		when(personControllerApi.getPeopleByEditionAndRoleType(1L, "STUDENT")).thenReturn(Flux.empty());
 
 		List<TaskStatsDTO> taskStats = editionStatisticsService.teacherStatsTaskLevel(edition);
@@ -128,8 +161,6 @@ public class EditionStatisticsServiceTest {
 				.build();
 		when(taskRepository.findAllByEdition(any()))
 				.thenReturn(Set.of(taskRead12));
-		when(clickedLinkRepository.getByTask(any())).thenReturn(
-				List.of());
 		when(personControllerApi.getPeopleByEditionAndRoleType(1L, "STUDENT")).thenReturn(Flux.empty());
 
 		List<TaskStatsDTO> taskStats = editionStatisticsService.teacherStatsTaskLevel(edition);
@@ -158,8 +189,6 @@ public class EditionStatisticsServiceTest {
 
 		when(taskRepository.findAllByEdition(any()))
 				.thenReturn(Set.of(taskRead12, choiceTask));
-		when(clickedLinkRepository.getByTask(any())).thenReturn(
-				List.of());
 		when(personControllerApi.getPeopleByEditionAndRoleType(1L, "STUDENT")).thenReturn(Flux.empty());
 
 		List<TaskStatsDTO> taskStats = editionStatisticsService.teacherStatsTaskLevel(edition);
@@ -178,12 +207,7 @@ public class EditionStatisticsServiceTest {
 	@Test
 	public void completionTaskStats() {
 		TaskInfo read12Info = TaskInfo.builder().id(1L).name("Read chapter 1.2")
-				.time(7).type(TaskType.READING)
-				.completedBy(
-						Set.of(TaskCompletion.builder().person(SCPerson.builder().id(1L).build()).build(),
-								TaskCompletion.builder().person(SCPerson.builder().id(2L).build()).build(),
-								TaskCompletion.builder().person(SCPerson.builder().id(3L).build()).build()))
-				.build();
+				.time(7).type(TaskType.READING).build();
 		RegularTask taskRead12 = RegularTask.builder().skill(skillBuilder()).taskInfo(read12Info)
 				.build();
 		read12Info.setTask(taskRead12);
@@ -195,8 +219,8 @@ public class EditionStatisticsServiceTest {
 
 		when(taskRepository.findAllByEdition(any()))
 				.thenReturn(Set.of(taskRead12));
-		when(clickedLinkRepository.getByTask(any())).thenReturn(
-				List.of());
+		when(taskCompletionRepository.countStudentsPerTaskInEdition(edition, Set.of(2L, 3L)))
+				.thenReturn(List.of(idCount(1L, 2L)));
 		when(personControllerApi.getPeopleByEditionAndRoleType(1L, "STUDENT"))
 				.thenReturn(Flux.just(personSummary1, personSummary2));
 
@@ -212,21 +236,11 @@ public class EditionStatisticsServiceTest {
 		Path pathFinderPath = Path.builder().id(1L).build();
 		TaskInfo read12Info = TaskInfo.builder().id(1L).name("Read chapter 1.2")
 				.time(7).type(TaskType.READING).build();
-		RegularTask taskRead12 = RegularTask.builder().skill(skillBuilder()).taskInfo(read12Info)
+		RegularTask taskRead12 = RegularTask.builder().id(5L).skill(skillBuilder()).taskInfo(read12Info)
 				.paths(Set.of(pathFinderPath))
 				.build();
 		read12Info.setTask(taskRead12);
 
-		PathPreference pathPreference1 = PathPreference.builder().path(pathFinderPath)
-				.person(SCPerson.builder().id(1L).build())
-				.build();
-		PathPreference pathPreference2 = PathPreference.builder().path(pathFinderPath)
-				.person(SCPerson.builder().id(2L).build())
-				.build();
-		PathPreference pathPreference3 = PathPreference.builder().path(pathFinderPath)
-				.person(SCPerson.builder().id(3L).build())
-				.build();
-
 		PersonSummaryDTO personSummary1 = new PersonSummaryDTO();
 		personSummary1.setId(2L);
 		PersonSummaryDTO personSummary2 = new PersonSummaryDTO();
@@ -236,10 +250,8 @@ public class EditionStatisticsServiceTest {
 				.thenReturn(Set.of(taskRead12));
 		when(personControllerApi.getPeopleByEditionAndRoleType(1L, "STUDENT"))
 				.thenReturn(Flux.just(personSummary1, personSummary2));
-		when(pathPreferenceRepository.findAllByPathId(1L))
-				.thenReturn(List.of(pathPreference1, pathPreference2, pathPreference3));
-		when(clickedLinkRepository.getByTask(any())).thenReturn(
-				List.of());
+		when(pathPreferenceRepository.countStudentsWithTaskOnPathInEdition(edition, Set.of(2L, 3L)))
+				.thenReturn(List.of(idCount(5L, 2L)));
 
 		List<TaskStatsDTO> taskStats = editionStatisticsService.teacherStatsTaskLevel(edition);
 
@@ -256,15 +268,6 @@ public class EditionStatisticsServiceTest {
 				.build();
 		read12Info.setTask(taskRead12);
 
-		ClickedLink clickedLink1person1 = ClickedLink.builder().person(SCPerson.builder().id(1L).build())
-				.build();
-		ClickedLink clickedLink2person1 = ClickedLink.builder().person(SCPerson.builder().id(1L).build())
-				.build();
-		ClickedLink clickedLink3person2 = ClickedLink.builder().person(SCPerson.builder().id(2L).build())
-				.build();
-		ClickedLink clickedLink4person3 = ClickedLink.builder().person(SCPerson.builder().id(3L).build())
-				.build();
-
 		PersonSummaryDTO personSummary1 = new PersonSummaryDTO();
 		personSummary1.setId(1L);
 		PersonSummaryDTO personSummary2 = new PersonSummaryDTO();
@@ -272,8 +275,8 @@ public class EditionStatisticsServiceTest {
 
 		when(taskRepository.findAllByEdition(any()))
 				.thenReturn(Set.of(taskRead12));
-		when(clickedLinkRepository.getByTask(any())).thenReturn(
-				List.of(clickedLink1person1, clickedLink2person1, clickedLink3person2, clickedLink4person3));
+		when(clickedLinkRepository.countStudentClicksPerTaskInEdition(edition, Set.of(1L, 2L)))
+				.thenReturn(List.of(linkClickCount(1L, 3L, 2L)));
 		when(personControllerApi.getPeopleByEditionAndRoleType(1L, "STUDENT"))
 				.thenReturn(Flux.just(personSummary1, personSummary2));
 
@@ -287,24 +290,11 @@ public class EditionStatisticsServiceTest {
 	@Test
 	public void clickedLinkCompletedTaskStats() {
 		TaskInfo read12Info = TaskInfo.builder().id(1L).name("Read chapter 1.2")
-				.time(7).type(TaskType.READING).completedBy(Set.of(
-						TaskCompletion.builder().person(SCPerson.builder().id(1L).build()).build(),
-						TaskCompletion.builder().person(SCPerson.builder().id(3L).build()).build(),
-						TaskCompletion.builder().person(SCPerson.builder().id(4L).build()).build()))
-				.build();
+				.time(7).type(TaskType.READING).build();
 		RegularTask taskRead12 = RegularTask.builder().skill(skillBuilder()).taskInfo(read12Info)
 				.build();
 		read12Info.setTask(taskRead12);
 
-		ClickedLink clickedLink1person1 = ClickedLink.builder().person(SCPerson.builder().id(1L).build())
-				.build();
-		ClickedLink clickedLink2person1 = ClickedLink.builder().person(SCPerson.builder().id(1L).build())
-				.build();
-		ClickedLink clickedLink3person2 = ClickedLink.builder().person(SCPerson.builder().id(2L).build())
-				.build();
-		ClickedLink clickedLink4person3 = ClickedLink.builder().person(SCPerson.builder().id(3L).build())
-				.build();
-
 		PersonSummaryDTO personSummary1 = new PersonSummaryDTO();
 		personSummary1.setId(1L);
 		PersonSummaryDTO personSummary2 = new PersonSummaryDTO();
@@ -314,8 +304,12 @@ public class EditionStatisticsServiceTest {
 
 		when(taskRepository.findAllByEdition(any()))
 				.thenReturn(Set.of(taskRead12));
-		when(clickedLinkRepository.getByTask(any())).thenReturn(
-				List.of(clickedLink1person1, clickedLink2person1, clickedLink3person2, clickedLink4person3));
+		when(taskCompletionRepository.countStudentsPerTaskInEdition(edition, Set.of(1L, 2L, 4L)))
+				.thenReturn(List.of(idCount(1L, 2L)));
+		when(clickedLinkRepository.countStudentClicksPerTaskInEdition(edition, Set.of(1L, 2L, 4L)))
+				.thenReturn(List.of(linkClickCount(1L, 3L, 2L)));
+		when(taskCompletionRepository.countStudentsThatClickedPerTaskInEdition(edition, Set.of(1L, 2L, 4L)))
+				.thenReturn(List.of(idCount(1L, 1L)));
 		when(personControllerApi.getPeopleByEditionAndRoleType(1L, "STUDENT"))
 				.thenReturn(Flux.just(personSummary1, personSummary2, personSummary3));
 
@@ -336,15 +330,14 @@ public class EditionStatisticsServiceTest {
 
 	@Test
 	public void noCompletionStudentStats() {
-		SCPerson student = SCPerson.builder().id(1L).build();
 		PersonSummaryDTO personSummary = new PersonSummaryDTO();
 		personSummary.setUsername("student");
 		personSummary.setId(1L);
 
 		when(personControllerApi.getPeopleByEditionAndRoleType(1L, "STUDENT"))
 				.thenReturn(Flux.just(personSummary));
-		when(personRepository.findAllById(List.of(1L))).thenReturn(List.of(student));
-		when(taskCompletionRepository.findAllByPersonAndEdition(any(), any())).thenReturn(Set.of());
+		when(personRepository.streamProgressOfStudentsInEdition(edition, Set.of(1L)))
+				.thenReturn(Stream.of(studentProgress(1L, null, 0L, null, null, null)));
 
 		List<StudentStatsDTO> studentStats = editionStatisticsService.teacherStatsStudentLevel(edition);
 
@@ -355,26 +348,14 @@ public class EditionStatisticsServiceTest {
 
 	@Test
 	public void pathChosenStudentStats() {
-		Path path1 = Path.builder().id(1L).name("Path 1").build();
-		Path path2 = Path.builder().id(2L).name("Path 2").build();
-
-		PathPreference pathPreference1 = PathPreference.builder().id(1L).path(path1)
-				.edition(SCEdition.builder().id(1L).build())
-				.build();
-		PathPreference pathPreference2 = PathPreference.builder().id(2L).path(path2)
-				.edition(SCEdition.builder().id(2L).build())
-				.build();
-		SCPerson student = SCPerson.builder().id(2L).pathPreferences(Set.of(pathPreference2, pathPreference1))
-				.build();
-
 		PersonSummaryDTO personSummary = new PersonSummaryDTO();
 		personSummary.setUsername("student");
 		personSummary.setId(2L);
 
 		when(personControllerApi.getPeopleByEditionAndRoleType(1L, "STUDENT"))
 				.thenReturn(Flux.just(personSummary));
-		when(personRepository.findAllById(List.of(2L))).thenReturn(List.of(student));
-		when(taskCompletionRepository.findAllByPersonAndEdition(any(), any())).thenReturn(Set.of());
+		when(personRepository.streamProgressOfStudentsInEdition(edition, Set.of(2L)))
+				.thenReturn(Stream.of(studentProgress(2L, "Path 1", 0L, null, null, null)));
 
 		List<StudentStatsDTO> studentStats = editionStatisticsService.teacherStatsStudentLevel(edition);
 
@@ -385,54 +366,15 @@ public class EditionStatisticsServiceTest {
 
 	@Test
 	public void multipleCompletionStudentStats() {
-		SCPerson student = SCPerson.builder().id(1L).build();
-
-		TaskCompletion taskCompletion1 = TaskCompletion.builder().person(student)
-				.timestamp(LocalDateTime.of(2024, 11, 1, 10, 10)).build();
-		TaskInfo taskInfo1 = TaskInfo.builder().id(1L).name("Task 1")
-				.time(7).type(TaskType.READING).completedBy(Set.of(
-						taskCompletion1))
-				.build();
-		RegularTask task1 = RegularTask.builder()
-				.skill(skillWithCheckpointBuilder("Checkpoint 1", LocalDateTime.of(2025, 1, 1, 10, 10)))
-				.taskInfo(taskInfo1)
-				.build();
-		taskInfo1.setTask(task1);
-		taskCompletion1.setTask(taskInfo1);
-
-		TaskCompletion taskCompletion2 = TaskCompletion.builder().person(student)
-				.timestamp(LocalDateTime.of(2024, 8, 1, 10, 10)).build();
-		TaskInfo taskInfo2 = TaskInfo.builder().id(2L).name("Task 2")
-				.time(7).type(TaskType.READING).completedBy(Set.of(
-						taskCompletion2))
-				.build();
-		ChoiceTask task2 = ChoiceTask.builder()
-				.skill(skillWithCheckpointBuilder("Checkpoint 2", LocalDateTime.of(2024, 1, 1, 10, 10)))
-				.tasks(List.of(taskInfo2))
-				.build();
-		taskInfo2.setChoiceTask(task2);
-		taskCompletion2.setTask(taskInfo2);
-
-		TaskCompletion taskCompletion3 = TaskCompletion.builder().person(student)
-				.timestamp(LocalDateTime.of(2025, 2, 1, 10, 10)).build();
-		TaskInfo taskInfo3 = TaskInfo.builder().id(3L).name("Task 3")
-				.time(7).type(TaskType.READING).completedBy(Set.of(
-						taskCompletion3))
-				.build();
-		ChoiceTask task3 = ChoiceTask.builder().skill(skillBuilder()).tasks(List.of(taskInfo3))
-				.build();
-		taskInfo3.setChoiceTask(task3);
-		taskCompletion3.setTask(taskInfo3);
-
 		PersonSummaryDTO personSummary = new PersonSummaryDTO();
 		personSummary.setUsername("student");
 		personSummary.setId(1L);
 
 		when(personControllerApi.getPeopleByEditionAndRoleType(1L, "STUDENT"))
 				.thenReturn(Flux.just(personSummary));
-		when(personRepository.findAllById(List.of(1L))).thenReturn(List.of(student));
-		when(taskCompletionRepository.findAllByPersonAndEdition(any(), any()))
-				.thenReturn(Set.of(taskCompletion1, taskCompletion2, taskCompletion3));
+		when(personRepository.streamProgressOfStudentsInEdition(edition, Set.of(1L)))
+				.thenReturn(Stream.of(studentProgress(1L, null, 3L, LocalDateTime.of(2025, 2, 1, 10, 10),
+						"Task 3", "Checkpoint 1")));
 
 		List<StudentStatsDTO> studentStats = editionStatisticsService.teacherStatsStudentLevel(edition);
 
@@ -442,50 +384,6 @@ public class EditionStatisticsServiceTest {
 
 	@Test
 	public void multipleStudentsStudentStats() {
-		SCPerson student1 = SCPerson.builder().id(1L).build();
-		SCPerson student2 = SCPerson.builder().id(2L).build();
-
-		TaskCompletion taskCompletion1 = TaskCompletion.builder().person(student1)
-				.timestamp(LocalDateTime.of(2024, 11, 1, 10, 10)).build();
-		TaskInfo taskInfo1 = TaskInfo.builder().id(1L).name("Task 1")
-				.time(7).type(TaskType.READING).completedBy(Set.of(
-						taskCompletion1))
-				.build();
-		RegularTask task1 = RegularTask.builder()
-				.skill(skillWithCheckpointBuilder("Checkpoint 1", LocalDateTime.of(2025, 1, 1, 10, 10)))
-				.taskInfo(taskInfo1)
-				.build();
-		taskInfo1.setTask(task1);
-		taskCompletion1.setTask(taskInfo1);
-
-		TaskCompletion taskCompletion2 = TaskCompletion.builder().person(student1)
-				.timestamp(LocalDateTime.of(2025, 8, 1, 10, 10)).build();
-		TaskInfo taskInfo2 = TaskInfo.builder().id(2L).name("Task 2")
-				.time(7).type(TaskType.READING).completedBy(Set.of(
-						taskCompletion2))
-				.build();
-		ChoiceTask task2 = ChoiceTask.builder()
-				.skill(skillWithCheckpointBuilder("Checkpoint 2", LocalDateTime.of(2024, 1, 1, 10, 10)))
-				.tasks(List.of(taskInfo2))
-				.build();
-		taskInfo2.setChoiceTask(task2);
-		taskCompletion2.setTask(taskInfo2);
-
-		TaskCompletion taskCompletion3 = TaskCompletion.builder().person(student1)
-				.timestamp(LocalDateTime.of(2025, 2, 1, 10, 10)).build();
-		TaskCompletion taskCompletion4 = TaskCompletion.builder().person(student2)
-				.timestamp(LocalDateTime.of(2024, 4, 1, 10, 10)).build();
-
-		TaskInfo taskInfo3 = TaskInfo.builder().id(3L).name("Task 3")
-				.time(7).type(TaskType.READING).completedBy(Set.of(
-						taskCompletion3, taskCompletion4))
-				.build();
-		ChoiceTask task3 = ChoiceTask.builder().skill(skillBuilder()).tasks(List.of(taskInfo3))
-				.build();
-		taskInfo3.setChoiceTask(task3);
-		taskCompletion3.setTask(taskInfo3);
-		taskCompletion4.setTask(taskInfo3);
-
 		PersonSummaryDTO personSummary1 = new PersonSummaryDTO();
 		personSummary1.setUsername("student1");
 		personSummary1.setId(1L);
@@ -495,11 +393,11 @@ public class EditionStatisticsServiceTest {
 
 		when(personControllerApi.getPeopleByEditionAndRoleType(1L, "STUDENT"))
 				.thenReturn(Flux.just(personSummary1, personSummary2));
-		when(personRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(student1, student2));
-		when(taskCompletionRepository.findAllByPersonAndEdition(eq(student1), any()))
-				.thenReturn(Set.of(taskCompletion1, taskCompletion2, taskCompletion3));
-		when(taskCompletionRepository.findAllByPersonAndEdition(eq(student2), any()))
-				.thenReturn(Set.of(taskCompletion4));
+		when(personRepository.streamProgressOfStudentsInEdition(edition, Set.of(1L, 2L)))
+				.thenReturn(Stream.of(
+						studentProgress(1L, null, 3L, LocalDateTime.of(2025, 8, 1, 10, 10), "Task 2",
+								"Checkpoint 1"),
+						studentProgress(2L, null, 1L, LocalDateTime.of(2024, 4, 1, 10, 10), "Task 3", null)));
 
 		List<StudentStatsDTO> studentStats = editionStatisticsService.teacherStatsStudentLevel(edition);
 
@@ -510,4 +408,39 @@ public class EditionStatisticsServiceTest {
 						"No checkpoint started")));
 	}
 
+	private StudentProgress studentProgress(Long personId, String chosenPath, Long completedTasks,
+			LocalDateTime lastCompletedTimestamp, String lastCompletedTask, String furthestCheckpoint) {
+		return new StudentProgress() {
+			@Override
+			public Long getPersonId() {
+				return personId;
+			}
+
+			@Override
+			public String getChosenPath() {
+				return chosenPath;
+			}
+
+			@Override
+			public Long getCompletedTasks() {
+				return completedTasks;
+			}
+
+			@Override
+			public LocalDateTime getLastCompletedTimestamp() {
+				return lastCompletedTimestamp;
+			}
+
+			@Override
+			public String getLastCompletedTask() {
+				return lastCompletedTask;
+			}
+
+			@Override
+			public String getFurthestCheckpoint() {
+				return furthestCheckpoint;
+			}
+		};
+	}
+
 }
@@ -0,0 +1,151 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import nl.tudelft.skills.model.*;
+import nl.tudelft.skills.repository.*;
+
+@Transactional
+@SpringBootTest()
+public class ModuleCircuitServiceTest {
+
+	private final ModuleCircuitService moduleCircuitService;
+	private final EditionRepository editionRepository;
+	private final ModuleRepository moduleRepository;
+	private final SubmoduleRepository submoduleRepository;
+	private final SkillRepository skillRepository;
+	private final ExternalSkillRepository externalSkillRepository;
+	private final RegularTaskRepository regularTaskRepository;
+	private final ChoiceTaskRepository choiceTaskRepository;
+	private final TaskInfoRepository taskInfoRepository;
+	private final PathRepository pathRepository;
+
+	private final EntityManager entityManager;
+	private final Statistics statistics;
+
+	@Autowired
+	public ModuleCircuitServiceTest(ModuleCircuitService moduleCircuitService,
+			EditionRepository editionRepository, ModuleRepository moduleRepository,
+			SubmoduleRepository submoduleRepository, SkillRepository skillRepository,
+			ExternalSkillRepository externalSkillRepository, RegularTaskRepository regularTaskRepository,
+			ChoiceTaskRepository choiceTaskRepository, TaskInfoRepository taskInfoRepository,
+			PathRepository pathRepository, EntityManager entityManager,
+			EntityManagerFactory entityManagerFactory) {
+		this.moduleCircuitService = moduleCircuitService;
+		this.editionRepository = editionRepository;
+		this.moduleRepository = moduleRepository;
+		this.submoduleRepository = submoduleRepository;
+		this.skillRepository = skillRepository;
+		this.externalSkillRepository = externalSkillRepository;
+		this.regularTaskRepository = regularTaskRepository;
+		this.choiceTaskRepository = choiceTaskRepository;
+		this.taskInfoRepository = taskInfoRepository;
+		this.pathRepository = pathRepository;
+		this.entityManager = entityManager;
+		this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	@Test
+	public void loadModulesUsesConstantNumberOfQueries() {
+		long small = countQueriesToShow(createModule(1L, 10));
+		long large = countQueriesToShow(createModule(2L, 200));
+
+		assertThat(large).isEqualTo(small);
+	}
+
+	/**
+	 * Counts the queries needed to load a module and visit everything that is shown in its circuit.
+	 */
+	private long countQueriesToShow(Long moduleId) {
+		entityManager.flush();
+		entityManager.clear();
+		statistics.clear();
+
+		SCModule module = moduleRepository.findByIdOrThrow(moduleId);
+		moduleCircuitService.loadModules(List.of(module));
+		module.getSubmodules().forEach(submodule -> submodule.getSkills().forEach(this::visit));
+		module.getExternalSkills().forEach(externalSkill -> visit(externalSkill.getSkill()));
+
+		return statistics.getPrepareStatementCount();
+	}
+
+	private void visit(Skill skill) {
+		for (Task task : skill.getTasks()) {
+			task.getPaths().forEach(Path::getName);
+			if (task instanceof RegularTask regularTask) {
+				regularTask.getTaskInfo().getName();
+			} else if (task instanceof ChoiceTask choiceTask) {
+				choiceTask.getTasks().forEach(TaskInfo::getName);
+			}
+		}
+	}
+
+	/**
+	 * Creates a module with the given number of skills, spread over submodules of ten skills. Every skill has
+	 * a regular task on a path and a choice task with two choices, and the module shows one of its skills as
+	 * an external skill.
+	 */
+	private Long createModule(Long editionId, int skills) {
+		SCEdition edition = editionRepository.save(SCEdition.builder().id(editionId).build());
+		Path path = pathRepository.save(Path.builder().name("Path").description("").edition(edition).build());
+		SCModule module = moduleRepository.save(SCModule.builder().name("Module").edition(edition).build());
+
+		Submodule submodule = null;
+		Skill skill = null;
+		for (int i = 0; i < skills; i++) {
+			if (i % 10 == 0) {
+				submodule = submoduleRepository.save(Submodule.builder().name("Submodule " + i)
+						.module(module).column(i / 10).build());
+			}
+			skill = skillRepository.save(Skill.builder().name("Skill " + i).submodule(submodule)
+					.column(i % 10).build());
+
+			TaskInfo info = TaskInfo.builder().name("Task " + i).build();
+			RegularTask task = RegularTask.builder().skill(skill).taskInfo(info).build();
+			info.setTask(task);
+			task = regularTaskRepository.save(task);
+			taskInfoRepository.save(info);
+			path.getTasks().add(task);
+			task.getPaths().add(path);
+
+			ChoiceTask choiceTask = choiceTaskRepository.save(ChoiceTask.builder().skill(skill).idx(1)
+					.build());
+			for (int j = 0; j < 2; j++) {
+				choiceTask.getTasks().add(taskInfoRepository.save(TaskInfo.builder().name("Choice " + j)
+						.choiceTask(choiceTask).build()));
+			}
+		}
+		externalSkillRepository.save(ExternalSkill.builder().module(module).skill(skill).column(0).build());
+
+		return module.getId();
+	}
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityKey;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import nl.tudelft.skills.dto.create.PathCreate;
+import nl.tudelft.skills.dto.id.SCEditionId;
+import nl.tudelft.skills.model.*;
+import nl.tudelft.skills.repository.*;
+
+@Transactional
+@SpringBootTest
+public class PathServiceTest {
+
+	private final PathService pathService;
+	private final PathRepository pathRepository;
+	private final TaskRepository taskRepository;
+	private final EditionRepository editionRepository;
+	private final ModuleRepository moduleRepository;
+	private final SubmoduleRepository submoduleRepository;
+	private final SkillRepository skillRepository;
+	private final RegularTaskRepository regularTaskRepository;
+	private final EntityManager entityManager;
+
+	@Autowired
+	public PathServiceTest(PathService pathService, PathRepository pathRepository,
+			TaskRepository taskRepository, EditionRepository editionRepository,
+			ModuleRepository moduleRepository, SubmoduleRepository submoduleRepository,
+			SkillRepository skillRepository, RegularTaskRepository regularTaskRepository,
+			EntityManager entityManager) {
+		this.pathService = pathService;
+		this.pathRepository = pathRepository;
+		this.taskRepository = taskRepository;
+		this.editionRepository = editionRepository;
+		this.moduleRepository = moduleRepository;
+		this.submoduleRepository = submoduleRepository;
+		this.skillRepository = skillRepository;
+		this.regularTaskRepository = regularTaskRepository;
+		this.entityManager = entityManager;
+	}
+
+	@Test
+	public void createPathAddsAllTasksInEdition() {
+		Task first = task(skill(1L), "First");
+		Task second = task(skill(1L), "Second");
+		Task other = task(skill(2L), "Other");
+
+		Path path = pathService.createPath(create(1L));
+
+		assertThat(taskRepository.findByIdOrThrow(first.getId()).getPaths()).extracting(Path::getId)
+				.containsExactly(path.getId());
+		assertThat(taskRepository.findByIdOrThrow(second.getId()).getPaths()).extracting(Path::getId)
+				.containsExactly(path.getId());
+		assertThat(taskRepository.findByIdOrThrow(other.getId()).getPaths()).isEmpty();
+	}
+
+	@Test
+	public void createPathRefreshesLoadedTasks() {
+		Task task = task(skill(1L), "Task");
+
+		Path path = pathService.createPath(create(1L));
+
+		assertThat(task.getPaths()).extracting(Path::getId).containsExactly(path.getId());
+		assertThat(path.getTasks()).extracting(Task::getId).containsExactly(task.getId());
+	}
+
+	@Test
+	public void createPathDoesNotLoadOtherTasks() {
+		Long loadedId = task(skill(1L), "Loaded").getId();
+		task(skill(1L), "Other");
+		entityManager.flush();
+		entityManager.clear();
+		Task loaded = taskRepository.findByIdOrThrow(loadedId);
+		Hibernate.initialize(loaded.getPaths());
+
+		Path path = pathService.createPath(create(1L));
+
+		assertThat(loaded.getPaths()).extracting(Path::getId).containsExactly(path.getId());
+		assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityKeys().stream()
+				.map(EntityKey.class::cast)
+				.filter(key -> key.getPersister().getRootEntityName().equals(Task.class.getName()))
+				.map(EntityKey::getIdentifier)).containsExactly(loadedId);
+	}
+
+	@Test
+	public void deletePathRefreshesLoadedTasks() {
+		Task task = task(skill(1L), "Task");
+		Path path = pathService.createPath(create(1L));
+
+		pathService.deletePath(path);
+
+		assertThat(task.getPaths()).isEmpty();
+	}
+
+	@Test
+	public void deletePathRemovesItFromTasks() {
+		Task task = task(skill(1L), "Task");
+		Path path = pathService.createPath(create(1L));
+
+		pathService.deletePath(pathRepository.findByIdOrThrow(path.getId()));
+
+		assertThat(pathRepository.findById(path.getId())).isEmpty();
+		assertThat(taskRepository.findByIdOrThrow(task.getId()).getPaths()).isEmpty();
+	}
+
+	private PathCreate create(Long editionId) {
+		PathCreate create = new PathCreate();
+		create.setName("Path");
+		create.setDescription("");
+		create.setEdition(new SCEditionId(editionId));
+		return create;
+	}
+
+	private Skill skill(Long editionId) {
+		SCEdition edition = editionRepository.findById(editionId)
+				.orElseGet(() -> editionRepository.save(SCEdition.builder().id(editionId).build()));
+		SCModule module = moduleRepository.save(SCModule.builder().name("Module").edition(edition).build());
+		Submodule submodule = submoduleRepository.save(Submodule.builder().name("Submodule").module(module)
+				.build());
+		return skillRepository.save(Skill.builder().name("Skill").submodule(submodule).build());
+	}
+
+	private Task task(Skill skill, String name) {
+		TaskInfo taskInfo = TaskInfo.builder().name(name).build();
+		RegularTask task = RegularTask.builder().skill(skill).taskInfo(taskInfo).build();
+		taskInfo.setTask(task);
+		return regularTaskRepository.save(task);
+	}
+}
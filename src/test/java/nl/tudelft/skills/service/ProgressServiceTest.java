@@ -0,0 +1,130 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import nl.tudelft.skills.enums.ViewMode;
+import nl.tudelft.skills.model.*;
+import nl.tudelft.skills.repository.*;
+
+@Transactional
+@SpringBootTest
+public class ProgressServiceTest {
+
+	private final ProgressService progressService;
+	private final PersonRepository personRepository;
+	private final TaskCompletionRepository taskCompletionRepository;
+	private final EditionRepository editionRepository;
+	private final ModuleRepository moduleRepository;
+	private final SubmoduleRepository submoduleRepository;
+	private final SkillRepository skillRepository;
+	private final RegularTaskRepository regularTaskRepository;
+
+	private SCPerson person;
+	private SCEdition reset;
+	private SCEdition other;
+
+	@Autowired
+	public ProgressServiceTest(ProgressService progressService, PersonRepository personRepository,
+			TaskCompletionRepository taskCompletionRepository, EditionRepository editionRepository,
+			ModuleRepository moduleRepository, SubmoduleRepository submoduleRepository,
+			SkillRepository skillRepository, RegularTaskRepository regularTaskRepository) {
+		this.progressService = progressService;
+		this.personRepository = personRepository;
+		this.taskCompletionRepository = taskCompletionRepository;
+		this.editionRepository = editionRepository;
+		this.moduleRepository = moduleRepository;
+		this.submoduleRepository = submoduleRepository;
+		this.skillRepository = skillRepository;
+		this.regularTaskRepository = regularTaskRepository;
+	}
+
+	@BeforeEach
+	public void setUp() {
+		person = personRepository.save(SCPerson.builder().id(1L).viewMode(ViewMode.VIEWER)
+				.preferences(PersonalPreferences.builder().build()).build());
+		reset = editionRepository.save(SCEdition.builder().id(1L).build());
+		other = editionRepository.save(SCEdition.builder().id(2L).build());
+		addProgress(reset);
+		addProgress(other);
+		personRepository.saveAndFlush(person);
+	}
+
+	@Test
+	public void resetProgressOnlyDeletesProgressInEdition() {
+		progressService.resetProgress(reset, person);
+
+		assertThat(taskCompletionRepository.findAllByPersonAndEdition(person, reset)).isEmpty();
+		assertThat(personRepository.findAllTaskIdsAddedForPersonAndEdition(person, reset)).isEmpty();
+		assertThat(personRepository.findAllTaskIdsRemovedForPersonAndEdition(person, reset)).isEmpty();
+		assertThat(personRepository.findAllSkillIdsRevealedForPeopleInEditions(List.of(person.getId()),
+				List.of(reset.getId()))).isEmpty();
+
+		assertThat(taskCompletionRepository.findAllByPersonAndEdition(person, other)).hasSize(1);
+		assertThat(personRepository.findAllTaskIdsAddedForPersonAndEdition(person, other)).hasSize(1);
+		assertThat(personRepository.findAllTaskIdsRemovedForPersonAndEdition(person, other)).hasSize(1);
+		assertThat(personRepository.findAllSkillIdsRevealedForPeopleInEditions(List.of(person.getId()),
+				List.of(other.getId()))).hasSize(1);
+	}
+
+	@Test
+	public void resetProgressRefreshesLoadedPerson() {
+		progressService.resetProgress(reset, person);
+
+		assertThat(person.getTasksAdded()).extracting(this::editionId).containsExactly(other.getId());
+		assertThat(person.getTasksRemoved()).extracting(this::editionId).containsExactly(other.getId());
+		assertThat(person.getSkillsRevealed())
+				.extracting(skill -> skill.getSubmodule().getModule().getEdition().getId())
+				.containsExactly(other.getId());
+	}
+
+	private Long editionId(Task task) {
+		return task.getSkill().getSubmodule().getModule().getEdition().getId();
+	}
+
+	private void addProgress(SCEdition edition) {
+		SCModule module = moduleRepository.save(SCModule.builder().name("Module").edition(edition).build());
+		Submodule submodule = submoduleRepository.save(Submodule.builder().name("Submodule").module(module)
+				.build());
+		Skill skill = skillRepository.save(Skill.builder().name("Skill").submodule(submodule).build());
+		RegularTask added = task(skill, "Added");
+		RegularTask removed = task(skill, "Removed");
+
+		taskCompletionRepository.save(TaskCompletion.builder().person(person).task(added.getTaskInfo())
+				.build());
+		person.getTasksAdded().add(added);
+		person.getTasksRemoved().add(removed);
+		person.getSkillsRevealed().add(skill);
+	}
+
+	private RegularTask task(Skill skill, String name) {
+		TaskInfo taskInfo = TaskInfo.builder().name(name).build();
+		RegularTask task = RegularTask.builder().skill(skill).taskInfo(taskInfo).build();
+		taskInfo.setTask(task);
+		return regularTaskRepository.save(task);
+	}
+}
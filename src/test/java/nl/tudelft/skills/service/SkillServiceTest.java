@@ -18,21 +18,31 @@
 package nl.tudelft.skills.service;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.rest.webmvc.ResourceNotFoundException;
+import org.springframework.web.server.ResponseStatusException;
 
 import nl.tudelft.librador.dto.DTOConverter;
+import nl.tudelft.skills.cache.EditionGraphCache;
 import nl.tudelft.skills.dto.id.AbstractSkillId;
 import nl.tudelft.skills.dto.patch.SkillPositionUpdate;
 import nl.tudelft.skills.dto.patch.SkillPositionUpdates;
+import nl.tudelft.skills.cache.EditionGraph;
+import nl.tudelft.skills.model.SCEdition;
+import nl.tudelft.skills.model.SCModule;
 import nl.tudelft.skills.model.Skill;
 import nl.tudelft.skills.model.Submodule;
 import nl.tudelft.skills.repository.AbstractSkillRepository;
+import nl.tudelft.skills.repository.EditionRepository;
 import nl.tudelft.skills.repository.ExternalSkillRepository;
 import nl.tudelft.skills.repository.SkillRepository;
 import nl.tudelft.skills.repository.bookmark.HiddenSkillBookmarkListRepository;
@@ -45,7 +55,9 @@ public class SkillServiceTest {
 	private ExternalSkillRepository externalSkillRepository;
 	private HiddenSkillBookmarkListRepository hiddenSkillBookmarkListRepository;
 	private SkillRepository skillRepository;
+	private EditionRepository editionRepository;
 	private DTOConverter dtoConverter;
+	private EditionGraphCache editionGraphCache;
 
 	@BeforeEach
 	public void setUp() {
@@ -53,14 +65,18 @@ public class SkillServiceTest {
 		externalSkillRepository = mock(ExternalSkillRepository.class);
 		hiddenSkillBookmarkListRepository = mock(HiddenSkillBookmarkListRepository.class);
 		skillRepository = mock(SkillRepository.class);
+		editionRepository = mock(EditionRepository.class);
 		dtoConverter = mock(DTOConverter.class);
+		editionGraphCache = mock(EditionGraphCache.class);
 
 		skillService = new SkillService(
 				abstractSkillRepository,
 				externalSkillRepository,
 				hiddenSkillBookmarkListRepository,
 				skillRepository,
-				dtoConverter);
+				editionRepository,
+				dtoConverter,
+				editionGraphCache);
 	}
 
 	@Test
@@ -68,8 +84,7 @@ public class SkillServiceTest {
 		Skill skillOne = skill(1L, 0);
 		Skill skillTwo = skill(2L, 1);
 
-		when(dtoConverter.apply(new AbstractSkillId(1L))).thenReturn(skillOne);
-		when(dtoConverter.apply(new AbstractSkillId(2L))).thenReturn(skillTwo);
+		when(abstractSkillRepository.findAllByIdIn(Set.of(1L, 2L))).thenReturn(Set.of(skillOne, skillTwo));
 
 		SkillPositionUpdates positions = new SkillPositionUpdates(
 				List.of(new SkillPositionUpdate(new AbstractSkillId(1L), 3),
@@ -80,6 +95,65 @@ public class SkillServiceTest {
 		assertEquals(3, skillOne.getColumn());
 		assertEquals(5, skillTwo.getColumn());
 		verify(abstractSkillRepository, times(1)).saveAll(anyList());
+		verify(abstractSkillRepository, times(1)).findAllByIdIn(any());
+	}
+
+	@Test
+	public void updatePositionsMissingSkill() {
+		when(abstractSkillRepository.findAllByIdIn(Set.of(1L, 2L))).thenReturn(Set.of(skill(1L, 0)));
+
+		SkillPositionUpdates positions = new SkillPositionUpdates(
+				List.of(new SkillPositionUpdate(new AbstractSkillId(1L), 3),
+						new SkillPositionUpdate(new AbstractSkillId(2L), 5)));
+
+		assertThrows(ResourceNotFoundException.class, () -> skillService.updatePositions(positions));
+		verify(abstractSkillRepository, never()).saveAll(any());
+	}
+
+	@Test
+	public void connectRejectsCycle() {
+		Skill first = skill(1L, 0);
+		Skill second = skill(2L, 0);
+		Skill third = skill(3L, 0);
+		second.getParents().add(first);
+		third.getParents().add(second);
+
+		assertThrows(ResponseStatusException.class, () -> skillService.connect(third, first));
+		assertThrows(ResponseStatusException.class, () -> skillService.connect(first, first));
+		assertFalse(first.getParents().contains(third));
+		verify(abstractSkillRepository, never()).save(any());
+	}
+
+	@Test
+	public void connectAcceptsDag() {
+		Skill first = skill(1L, 0);
+		Skill second = skill(2L, 0);
+		Skill third = skill(3L, 0);
+		second.getParents().add(first);
+		third.getParents().add(second);
+
+		skillService.connect(first, third);
+
+		assertTrue(third.getParents().contains(first));
+		verify(abstractSkillRepository, times(1)).save(third);
+	}
+
+	@Test
+	public void connectLocksEditionBeforeCheckingForCycles() {
+		Submodule submodule = Submodule.builder().id(100L).module(SCModule.builder().id(10L)
+				.edition(SCEdition.builder().id(1L).build()).build()).build();
+		Skill first = Skill.builder().id(1L).name("Skill 1").submodule(submodule).build();
+		Skill second = Skill.builder().id(2L).name("Skill 2").submodule(submodule).build();
+		submodule.getSkills().addAll(List.of(first, second));
+		when(editionGraphCache.get(1L)).thenAnswer(invocation -> new EditionGraph.Compiler().add(first)
+				.add(second).compile(1L));
+
+		skillService.connect(first, second);
+
+		InOrder inOrder = inOrder(editionRepository, editionGraphCache);
+		inOrder.verify(editionRepository).findLockedById(1L);
+		inOrder.verify(editionGraphCache).get(1L);
+		verify(editionRepository, times(1)).findLockedById(any());
 	}
 
 	private static Skill skill(Long id, Integer column) {
@@ -0,0 +1,138 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import nl.tudelft.skills.model.*;
+
+/**
+ * The recursive definition of unlocked and completed skills, used as a reference for the evaluation in
+ * {@link SkillStateService}. This takes exponential time in the depth of a circuit, so it is only meant for
+ * small circuits in tests.
+ */
+class SkillStateOracle {
+
+	private final Set<Long> completedTaskIds;
+	private final Set<Long> revealedSkillIds;
+	private final Path activePath;
+	private final Set<Task> tasksAdded;
+	private final Set<Task> tasksRemoved;
+
+	SkillStateOracle(Set<Long> completedTaskIds, Set<Long> revealedSkillIds, Path activePath,
+			Set<Task> tasksAdded, Set<Task> tasksRemoved) {
+		this.completedTaskIds = completedTaskIds;
+		this.revealedSkillIds = revealedSkillIds;
+		this.activePath = activePath;
+		this.tasksAdded = tasksAdded;
+		this.tasksRemoved = tasksRemoved;
+	}
+
+	///
+	/// A skill in unlocked if:
+	///  - Any of its tasks are completed
+	///  - **or**, all its essential parents are completed **and** all its parents are unlocked
+	///
+	/// Note that we use the abstract skill's parents to determine this,
+	/// not the actual parents of an external skill's reference.
+	///
+	boolean isUnlocked(AbstractSkill abstractSkill) {
+		if (abstractSkill.getColumn() == null) {
+			return false;
+		}
+
+		if (getTasksOnPath(abstractSkill).stream().anyMatch(this::isTaskOrAnySubtaskCompleted)) {
+			return true;
+		}
+
+		boolean allEssentialParentsCompleted = abstractSkill.getParents().stream()
+				.filter(AbstractSkill::isEssential)
+				.allMatch(this::isCompleted);
+		if (!allEssentialParentsCompleted) {
+			return false;
+		}
+
+		if (isHiddenAndNotRevealed(abstractSkill)) {
+			return false;
+		}
+
+		// Skip skills that are hidden and not revealed
+		return abstractSkill.getParents().stream()
+				.filter(parent -> !isHiddenAndNotRevealed(parent))
+				.allMatch(this::isUnlocked);
+	}
+
+	///
+	/// A skill is completed if:
+	///  - It has tasks and all its tasks are completed
+	///  - **or**, it has no tasks and it is unlocked
+	///
+	/// External skills are evaluated in the context of the reference.
+	///
+	boolean isCompleted(AbstractSkill abstractSkill) {
+		List<Task> tasks = getTasksOnPath(abstractSkill);
+		if (tasks.isEmpty()) {
+			return isUnlocked(abstractSkill);
+		}
+		return tasks.stream().allMatch(this::isTaskCompleted);
+	}
+
+	private boolean isHiddenAndNotRevealed(AbstractSkill abstractSkill) {
+		return abstractSkill instanceof Skill skill && skill.isHidden()
+				&& !revealedSkillIds.contains(skill.getId());
+	}
+
+	private boolean isTaskOrAnySubtaskCompleted(Task task) {
+		return switch (task) {
+			case RegularTask regularTask -> isTaskCompleted(task);
+			case ChoiceTask choiceTask ->
+				choiceTask.getTasks().stream().anyMatch(info -> completedTaskIds.contains(info.getId()));
+			default -> false;
+		};
+	}
+
+	private boolean isTaskCompleted(Task task) {
+		return switch (task) {
+			case RegularTask regularTask -> completedTaskIds.contains(regularTask.getTaskInfo().getId());
+			case ChoiceTask choiceTask ->
+				choiceTask.getTasks().stream().filter(info -> completedTaskIds.contains(info.getId()))
+						.count() >= choiceTask.getMinTasks();
+			default -> false;
+		};
+	}
+
+	private List<Task> getTasksOnPath(AbstractSkill abstractSkill) {
+		List<Task> tasks = switch (abstractSkill) {
+			case ExternalSkill externalSkill -> externalSkill.getSkill().getTasks();
+			case Skill skill -> skill.getTasks();
+			default -> Collections.emptyList();
+		};
+		return tasks.stream().filter(this::isTaskOnPath).toList();
+	}
+
+	private boolean isTaskOnPath(Task task) {
+		if (activePath == null) {
+			return !tasksRemoved.contains(task);
+		}
+		return !tasksRemoved.contains(task)
+				&& (task.getPaths().contains(activePath) || tasksAdded.contains(task));
+	}
+
+}
@@ -19,12 +19,15 @@ package nl.tudelft.skills.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import nl.tudelft.skills.cache.EditionCompletions;
+import nl.tudelft.skills.cache.EditionGraph;
 import nl.tudelft.skills.model.*;
 
 public class SkillStateServiceTest {
@@ -39,7 +42,7 @@ public class SkillStateServiceTest {
 	@DisplayName("Non-placed skills are locked")
 	public void nonPlacedSkillsAreNotUnlocked() {
 		AbstractSkill skill = Skill.builder().column(null).build();
-		assertThat(skillStateService.isSkillUnlocked(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillUnlocked(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
 				.isFalse();
 	}
 
@@ -49,7 +52,7 @@ public class SkillStateServiceTest {
 		Skill skill = Skill.builder().column(1).build();
 		skill.setTasks(List.of(regularTask(10L), regularTask(20L)));
 		skill.setParents(Set.of(Skill.builder().column(1).tasks(List.of(regularTask(30L))).build()));
-		assertThat(skillStateService.isSkillUnlocked(skill, Set.of(10L), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillUnlocked(skill, Set.of(10L), Set.of(), null, Set.of(), Set.of()))
 				.isTrue();
 	}
 
@@ -59,7 +62,7 @@ public class SkillStateServiceTest {
 		Skill skill = Skill.builder().column(1).build();
 		skill.setTasks(List.of(regularTask(10L), regularTask(20L)));
 		skill.setParents(Set.of(Skill.builder().column(1).tasks(List.of(regularTask(30L))).build()));
-		assertThat(skillStateService.isSkillUnlocked(skill, Set.of(10L), Set.of(), null, Set.of(),
+		assertThat(isSkillUnlocked(skill, Set.of(10L), Set.of(), null, Set.of(),
 				Set.of(regularTask(10L)))).isFalse();
 	}
 
@@ -70,7 +73,7 @@ public class SkillStateServiceTest {
 		skill.setSkill(Skill.builder()
 				.tasks(List.of(regularTask(10L), regularTask(20L)))
 				.build());
-		assertThat(skillStateService.isSkillUnlocked(skill, Set.of(10L), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillUnlocked(skill, Set.of(10L), Set.of(), null, Set.of(), Set.of()))
 				.isTrue();
 	}
 
@@ -81,7 +84,7 @@ public class SkillStateServiceTest {
 		skill.setParents(Set.of(
 				Skill.builder().essential(true).column(1).tasks(List.of(regularTask(10L))).build(),
 				Skill.builder().essential(false).column(1).build()));
-		assertThat(skillStateService.isSkillUnlocked(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillUnlocked(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
 				.isFalse();
 	}
 
@@ -89,7 +92,7 @@ public class SkillStateServiceTest {
 	@DisplayName("Non-revealed hidden skills are locked")
 	public void nonRevealedHiddenSkillsAreNotUnlocked() {
 		Skill skill = Skill.builder().id(10L).hidden(true).column(1).build();
-		assertThat(skillStateService.isSkillUnlocked(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillUnlocked(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
 				.isFalse();
 	}
 
@@ -102,9 +105,9 @@ public class SkillStateServiceTest {
 		Skill skill = Skill.builder().id(30L).column(1).build();
 		skill.setParents(Set.of(unrevealedParent, visibleEmptyParent));
 
-		assertThat(skillStateService.isSkillUnlocked(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillUnlocked(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
 				.isTrue();
-		assertThat(skillStateService.isSkillCompleted(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillCompleted(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
 				.isTrue();
 	}
 
@@ -115,7 +118,7 @@ public class SkillStateServiceTest {
 		skill.setParents(Set.of(
 				Skill.builder().essential(false).column(1).build(),
 				Skill.builder().essential(false).column(null).build()));
-		assertThat(skillStateService.isSkillUnlocked(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillUnlocked(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
 				.isFalse();
 	}
 
@@ -126,7 +129,7 @@ public class SkillStateServiceTest {
 		skill.setParents(Set.of(
 				Skill.builder().id(10L).essential(false).column(1).build(),
 				Skill.builder().id(20L).essential(false).column(1).build()));
-		assertThat(skillStateService.isSkillUnlocked(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillUnlocked(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
 				.isTrue();
 	}
 
@@ -139,9 +142,9 @@ public class SkillStateServiceTest {
 		// Parent is optional and uncompleted
 		// Bottom skill should be completed and unlocked
 		Skill skill = buildSkillDependencies(grandParent, 10L);
-		assertThat(skillStateService.isSkillUnlocked(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillUnlocked(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
 				.isTrue();
-		assertThat(skillStateService.isSkillCompleted(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillCompleted(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
 				.isTrue();
 	}
 
@@ -154,9 +157,9 @@ public class SkillStateServiceTest {
 		// Parent is optional and uncompleted
 		// Bottom skill should be uncompleted and locked
 		Skill skill = buildSkillDependencies(grandParent, 20L);
-		assertThat(skillStateService.isSkillUnlocked(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillUnlocked(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
 				.isFalse();
-		assertThat(skillStateService.isSkillCompleted(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillCompleted(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
 				.isFalse();
 	}
 
@@ -169,9 +172,9 @@ public class SkillStateServiceTest {
 		// Parent is optional and uncompleted
 		// Bottom skill should be completed and unlocked
 		Skill skill = buildSkillDependencies(grandParent, 20L);
-		assertThat(skillStateService.isSkillUnlocked(skill, Set.of(10L), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillUnlocked(skill, Set.of(10L), Set.of(), null, Set.of(), Set.of()))
 				.isTrue();
-		assertThat(skillStateService.isSkillCompleted(skill, Set.of(10L), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillCompleted(skill, Set.of(10L), Set.of(), null, Set.of(), Set.of()))
 				.isTrue();
 	}
 
@@ -185,9 +188,9 @@ public class SkillStateServiceTest {
 		// Parent is optional and uncompleted
 		// Bottom skill should be uncompleted and locked
 		Skill skill = buildSkillDependencies(grandParent, 30L);
-		assertThat(skillStateService.isSkillUnlocked(skill, Set.of(10L), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillUnlocked(skill, Set.of(10L), Set.of(), null, Set.of(), Set.of()))
 				.isFalse();
-		assertThat(skillStateService.isSkillCompleted(skill, Set.of(10L), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillCompleted(skill, Set.of(10L), Set.of(), null, Set.of(), Set.of()))
 				.isFalse();
 	}
 
@@ -204,14 +207,12 @@ public class SkillStateServiceTest {
 		Skill skill = buildSkillDependencies(grandParent, 20L);
 
 		// Check that grandparent is locked
-		assertThat(
-				skillStateService.isSkillUnlocked(grandParent, Set.of(), Set.of(), null, Set.of(), Set.of()))
-				.isFalse();
+		assertThat(isSkillUnlocked(grandParent, Set.of(), Set.of(), null, Set.of(), Set.of())).isFalse();
 
 		// Bottom skill should be uncompleted and locked
-		assertThat(skillStateService.isSkillUnlocked(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillUnlocked(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
 				.isFalse();
-		assertThat(skillStateService.isSkillCompleted(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillCompleted(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
 				.isFalse();
 	}
 
@@ -228,14 +229,12 @@ public class SkillStateServiceTest {
 		Skill skill = buildSkillDependencies(grandParent, 30L);
 
 		// Check that grandparent is locked
-		assertThat(
-				skillStateService.isSkillUnlocked(grandParent, Set.of(), Set.of(), null, Set.of(), Set.of()))
-				.isFalse();
+		assertThat(isSkillUnlocked(grandParent, Set.of(), Set.of(), null, Set.of(), Set.of())).isFalse();
 
 		// Bottom skill should be uncompleted and locked
-		assertThat(skillStateService.isSkillUnlocked(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillUnlocked(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
 				.isFalse();
-		assertThat(skillStateService.isSkillCompleted(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillCompleted(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
 				.isFalse();
 	}
 
@@ -243,7 +242,7 @@ public class SkillStateServiceTest {
 	@DisplayName("Empty unlocked skills are completed")
 	public void emptyUnlockedSkillIsCompleted() {
 		Skill skill = Skill.builder().column(1).build();
-		assertThat(skillStateService.isSkillCompleted(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
+		assertThat(isSkillCompleted(skill, Set.of(), Set.of(), null, Set.of(), Set.of()))
 				.isTrue();
 	}
 
@@ -252,7 +251,7 @@ public class SkillStateServiceTest {
 	public void allTasksCompletedIsCompleted() {
 		Skill skill = Skill.builder().column(1).build();
 		skill.setTasks(List.of(regularTask(10L), regularTask(20L)));
-		assertThat(skillStateService.isSkillCompleted(skill, Set.of(10L, 20L), Set.of(), null, Set.of(),
+		assertThat(isSkillCompleted(skill, Set.of(10L, 20L), Set.of(), null, Set.of(),
 				Set.of())).isTrue();
 	}
 
@@ -262,7 +261,7 @@ public class SkillStateServiceTest {
 		Skill skill = Skill.builder().column(1).build();
 		skill.setTasks(List.of(regularTask(10L), regularTask(20L)));
 		// Remove the uncompleted task from the path
-		assertThat(skillStateService.isSkillCompleted(skill, Set.of(10L), Set.of(), null, Set.of(),
+		assertThat(isSkillCompleted(skill, Set.of(10L), Set.of(), null, Set.of(),
 				Set.of(regularTask(20L)))).isTrue();
 	}
 
@@ -272,7 +271,7 @@ public class SkillStateServiceTest {
 		Skill skill = Skill.builder().column(1).build();
 		skill.setTasks(List.of(regularTask(10L), regularTask(20L)));
 		// Remove the completed task from the path
-		assertThat(skillStateService.isSkillCompleted(skill, Set.of(10L), Set.of(), null, Set.of(),
+		assertThat(isSkillCompleted(skill, Set.of(10L), Set.of(), null, Set.of(),
 				Set.of(regularTask(10L)))).isFalse();
 	}
 
@@ -289,7 +288,7 @@ public class SkillStateServiceTest {
 		Path activePath = Path.builder().tasks(Set.of(taskOnPath)).build();
 		taskOnPath.getPaths().add(activePath);
 
-		assertThat(skillStateService.isSkillCompleted(skill, Set.of(10L), Set.of(), activePath,
+		assertThat(isSkillCompleted(skill, Set.of(10L), Set.of(), activePath,
 				Set.of(),
 				Set.of())).isTrue();
 	}
@@ -378,6 +377,246 @@ public class SkillStateServiceTest {
 		assertThat(skillStateService.isTaskOnPath(task, activePath, Set.of(task), Set.of())).isTrue();
 	}
 
+	@Test
+	@DisplayName("Evaluating all skills at once matches evaluating them one by one recursively")
+	public void evaluateMatchesRecursiveSemantics() {
+		for (long seed = 0; seed < 50; seed++) {
+			Random random = new Random(seed);
+			List<AbstractSkill> skills = randomCircuit(random, 40);
+			Path activePath = random.nextBoolean() ? null : Path.builder().id(1L).build();
+			List<Task> tasks = skills.stream().filter(Skill.class::isInstance)
+					.flatMap(skill -> ((Skill) skill).getTasks().stream()).toList();
+			if (activePath != null) {
+				tasks.stream().filter(task -> random.nextInt(4) > 0)
+						.forEach(task -> task.getPaths().add(activePath));
+			}
+			Set<Task> tasksAdded = randomSubset(random, tasks, 10);
+			Set<Task> tasksRemoved = randomSubset(random, tasks, 10);
+			Set<Long> completedTaskIds = new HashSet<>();
+			tasks.forEach(task -> {
+				switch (task) {
+					case RegularTask regularTask -> {
+						if (random.nextInt(3) > 0) {
+							completedTaskIds.add(regularTask.getTaskInfo().getId());
+						}
+					}
+					case ChoiceTask choiceTask -> choiceTask.getTasks().stream()
+							.filter(info -> random.nextBoolean())
+							.forEach(info -> completedTaskIds.add(info.getId()));
+					default -> {
+					}
+				}
+			});
+			Set<Long> revealedSkillIds = new HashSet<>();
+			skills.stream().filter(skill -> random.nextBoolean())
+					.forEach(skill -> revealedSkillIds.add(skill.getId()));
+
+			SkillStates states = skillStateService.evaluate(skills, completedTaskIds, revealedSkillIds,
+					activePath, tasksAdded, tasksRemoved);
+
+			SkillStateOracle oracle = new SkillStateOracle(completedTaskIds, revealedSkillIds, activePath,
+					tasksAdded, tasksRemoved);
+			for (AbstractSkill skill : skills) {
+				assertThat(states.isUnlocked(skill))
+						.as("Unlocked state of skill %d with seed %d", skill.getId(), seed)
+						.isEqualTo(oracle.isUnlocked(skill));
+				assertThat(states.isCompleted(skill))
+						.as("Completed state of skill %d with seed %d", skill.getId(), seed)
+						.isEqualTo(oracle.isCompleted(skill));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Evaluating a compiled edition graph by id matches evaluating the entities")
+	public void evaluateGraphMatchesEntities() {
+		for (long seed = 0; seed < 50; seed++) {
+			Random random = new Random(seed);
+			List<AbstractSkill> skills = randomCircuit(random, 40);
+			Path activePath = random.nextBoolean() ? null : Path.builder().id(1L).build();
+			List<Task> tasks = skills.stream().filter(Skill.class::isInstance)
+					.flatMap(skill -> ((Skill) skill).getTasks().stream()).toList();
+			if (activePath != null) {
+				tasks.stream().filter(task -> random.nextInt(4) > 0)
+						.forEach(task -> task.getPaths().add(activePath));
+			}
+			Set<Task> tasksAdded = randomSubset(random, tasks, 10);
+			Set<Task> tasksRemoved = randomSubset(random, tasks, 10);
+			Set<Long> completedTaskIds = randomSubset(random, tasks.stream().flatMap(task -> switch (task) {
+				case RegularTask regularTask -> Stream.of(regularTask.getTaskInfo());
+				case ChoiceTask choiceTask -> choiceTask.getTasks().stream();
+				default -> Stream.empty();
+			}).map(TaskInfo::getId).toList(), 60);
+			Set<Long> revealedSkillIds = randomSubset(random,
+					skills.stream().map(AbstractSkill::getId).toList(), 50);
+
+			EditionGraph.Compiler compiler = new EditionGraph.Compiler();
+			skills.forEach(compiler::add);
+			EditionCompletions completions = EditionCompletions.of(compiler.compile(1L), completedTaskIds);
+			SkillStates graphStates = skillStateService.evaluate(completions, revealedSkillIds,
+					activePath == null ? null : activePath.getId(),
+					tasksAdded.stream().map(Task::getId).collect(Collectors.toSet()),
+					tasksRemoved.stream().map(Task::getId).collect(Collectors.toSet()));
+			SkillStates entityStates = skillStateService.evaluate(skills, completedTaskIds, revealedSkillIds,
+					activePath, tasksAdded, tasksRemoved);
+
+			for (AbstractSkill skill : skills) {
+				assertThat(graphStates.isUnlocked(skill))
+						.as("Unlocked state of skill %d with seed %d", skill.getId(), seed)
+						.isEqualTo(entityStates.isUnlocked(skill));
+				assertThat(graphStates.isCompleted(skill))
+						.as("Completed state of skill %d with seed %d", skill.getId(), seed)
+						.isEqualTo(entityStates.isCompleted(skill));
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Propagating a changed completion gives the same states as evaluating again")
+	public void propagateMatchesEvaluate() {
+		for (long seed = 0; seed < 50; seed++) {
+			Random random = new Random(seed);
+			List<AbstractSkill> skills = randomCircuit(random, 40);
+			List<Long> taskInfoIds = skills.stream().filter(Skill.class::isInstance)
+					.flatMap(skill -> ((Skill) skill).getTasks().stream()).flatMap(task -> switch (task) {
+						case RegularTask regularTask -> Stream.of(regularTask.getTaskInfo());
+						case ChoiceTask choiceTask -> choiceTask.getTasks().stream();
+						default -> Stream.empty();
+					}).map(TaskInfo::getId).toList();
+			if (taskInfoIds.isEmpty()) {
+				continue;
+			}
+			Set<Long> completedTaskIds = randomSubset(random, taskInfoIds, 60);
+			Set<Long> revealedSkillIds = randomSubset(random,
+					skills.stream().map(AbstractSkill::getId).toList(), 50);
+
+			EditionGraph.Compiler compiler = new EditionGraph.Compiler();
+			skills.forEach(compiler::add);
+			EditionGraph graph = compiler.compile(1L);
+			EditionCompletions before = EditionCompletions.of(graph, completedTaskIds);
+			Long changedId = taskInfoIds.get(random.nextInt(taskInfoIds.size()));
+			EditionCompletions after = before.with(changedId, !before.isCompleted(changedId));
+
+			SkillStates states = skillStateService.evaluate(before, revealedSkillIds, null, Set.of(), Set.of());
+			SkillStates expected = skillStateService.evaluate(after, revealedSkillIds, null, Set.of(), Set.of());
+			int task = graph.taskOf(graph.indexOfTaskInfo(changedId));
+			int[] seeds = new int[graph.skillEnd(task) - graph.skillStart(task)];
+			for (int i = 0; i < seeds.length; i++) {
+				seeds[i] = graph.skill(graph.skillStart(task) + i);
+			}
+			int[] changed = skillStateService.propagate(states, after, revealedSkillIds, null, Set.of(),
+					Set.of(), seeds);
+
+			Set<Integer> changedSkills = Arrays.stream(changed).boxed().collect(Collectors.toSet());
+			for (int skill = 0; skill < graph.skillCount(); skill++) {
+				assertThat(states.isUnlocked(skill)).as("Unlocked state of skill %d with seed %d", skill, seed)
+						.isEqualTo(expected.isUnlocked(skill));
+				assertThat(states.isCompleted(skill)).as("Completed state of skill %d with seed %d", skill, seed)
+						.isEqualTo(expected.isCompleted(skill));
+			}
+			SkillStates original = skillStateService.evaluate(before, revealedSkillIds, null, Set.of(),
+					Set.of());
+			for (int skill = 0; skill < graph.skillCount(); skill++) {
+				boolean isChanged = original.isUnlocked(skill) != expected.isUnlocked(skill)
+						|| original.isCompleted(skill) != expected.isCompleted(skill);
+				assertThat(changedSkills.contains(skill)).as("Change of skill %d with seed %d", skill, seed)
+						.isEqualTo(isChanged);
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Long chains of empty skills with shared ancestors are evaluated")
+	public void evaluateDeepDiamondChain() {
+		// Every level has two skills that both depend on both skills of the previous level.
+		// Evaluating this recursively takes time exponential in the number of levels.
+		List<AbstractSkill> skills = new ArrayList<>();
+		Skill left = Skill.builder().id(0L).column(1).build();
+		Skill right = Skill.builder().id(1L).column(1).build();
+		skills.add(left);
+		skills.add(right);
+		for (long level = 1; level < 1000; level++) {
+			Skill nextLeft = Skill.builder().id(2 * level).column(1).build();
+			Skill nextRight = Skill.builder().id(2 * level + 1).column(1).build();
+			nextLeft.setParents(Set.of(left, right));
+			nextRight.setParents(Set.of(left, right));
+			skills.add(nextLeft);
+			skills.add(nextRight);
+			left = nextLeft;
+			right = nextRight;
+		}
+
+		SkillStates states = skillStateService.evaluate(List.of(left, right), Set.of(), Set.of(), null,
+				Set.of(), Set.of());
+
+		assertThat(skills).allMatch(states::isUnlocked).allMatch(states::isCompleted);
+	}
+
+	private boolean isSkillUnlocked(AbstractSkill skill, Set<Long> completedTaskIds, Set<Long> revealedSkillIds,
+			Path activePath, Set<Task> tasksAdded, Set<Task> tasksRemoved) {
+		return skillStateService.evaluate(List.of(skill), completedTaskIds, revealedSkillIds, activePath,
+				tasksAdded, tasksRemoved).isUnlocked(skill);
+	}
+
+	private boolean isSkillCompleted(AbstractSkill skill, Set<Long> completedTaskIds, Set<Long> revealedSkillIds,
+			Path activePath, Set<Task> tasksAdded, Set<Task> tasksRemoved) {
+		return skillStateService.evaluate(List.of(skill), completedTaskIds, revealedSkillIds, activePath,
+				tasksAdded, tasksRemoved).isCompleted(skill);
+	}
+
+	/**
+	 * Builds a random circuit of skills and external skills. Skills only have parents that were created
+	 * before them, so the circuit is acyclic.
+	 */
+	private static List<AbstractSkill> randomCircuit(Random random, int size) {
+		List<AbstractSkill> skills = new ArrayList<>();
+		List<Skill> regularSkills = new ArrayList<>();
+		long nextId = 1;
+		for (int i = 0; i < size; i++) {
+			AbstractSkill skill;
+			if (!regularSkills.isEmpty() && random.nextInt(5) == 0) {
+				skill = ExternalSkill.builder().id(nextId++)
+						.skill(regularSkills.get(random.nextInt(regularSkills.size()))).build();
+			} else {
+				List<Task> tasks = new ArrayList<>();
+				int taskCount = random.nextInt(4);
+				for (int j = 0; j < taskCount; j++) {
+					if (random.nextInt(4) == 0) {
+						ChoiceTask choiceTask = ChoiceTask.builder().id(nextId++)
+								.minTasks(1 + random.nextInt(2)).build();
+						for (int k = 0; k < 3; k++) {
+							choiceTask.getTasks()
+									.add(TaskInfo.builder().id(nextId++).choiceTask(choiceTask).build());
+						}
+						tasks.add(choiceTask);
+					} else {
+						RegularTask regularTask = RegularTask.builder().id(nextId++)
+								.taskInfo(TaskInfo.builder().id(nextId++).build()).build();
+						tasks.add(regularTask);
+					}
+				}
+				Skill regularSkill = Skill.builder().id(nextId++).hidden(random.nextInt(6) == 0).tasks(tasks)
+						.build();
+				regularSkills.add(regularSkill);
+				skill = regularSkill;
+			}
+			skill.setColumn(random.nextInt(10) == 0 ? null : 1);
+			skill.setEssential(random.nextInt(3) > 0);
+			int parentCount = skills.isEmpty() ? 0 : random.nextInt(Math.min(skills.size(), 4) + 1);
+			for (int j = 0; j < parentCount; j++) {
+				skill.getParents().add(skills.get(random.nextInt(skills.size())));
+			}
+			skills.add(skill);
+		}
+		return skills;
+	}
+
+	private static <T> Set<T> randomSubset(Random random, List<T> elements, int percentage) {
+		Set<T> subset = new HashSet<>();
+		elements.stream().filter(element -> random.nextInt(100) < percentage).forEach(subset::add);
+		return subset;
+	}
+
 	private static Task regularTask(long taskInfoId) {
 		return RegularTask.builder()
 				.taskInfo(TaskInfo.builder()
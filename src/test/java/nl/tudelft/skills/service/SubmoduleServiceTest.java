@@ -22,11 +22,14 @@ import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.rest.webmvc.ResourceNotFoundException;
 
 import nl.tudelft.librador.dto.DTOConverter;
+import nl.tudelft.skills.cache.EditionGraphCache;
 import nl.tudelft.skills.dto.id.SubmoduleId;
 import nl.tudelft.skills.dto.patch.SubmodulePositionUpdate;
 import nl.tudelft.skills.dto.patch.SubmodulePositionUpdates;
@@ -39,13 +42,15 @@ public class SubmoduleServiceTest {
 
 	private SubmoduleRepository submoduleRepository;
 	private DTOConverter dtoConverter;
+	private EditionGraphCache editionGraphCache;
 
 	@BeforeEach
 	public void setUp() {
 		submoduleRepository = mock(SubmoduleRepository.class);
 		dtoConverter = mock(DTOConverter.class);
+		editionGraphCache = mock(EditionGraphCache.class);
 
-		submoduleService = new SubmoduleService(submoduleRepository, dtoConverter);
+		submoduleService = new SubmoduleService(submoduleRepository, dtoConverter, editionGraphCache);
 	}
 
 	@Test
@@ -53,8 +58,7 @@ public class SubmoduleServiceTest {
 		Submodule submoduleOne = submodule(1L, 0);
 		Submodule submoduleTwo = submodule(2L, 1);
 
-		when(dtoConverter.apply(new SubmoduleId(1L))).thenReturn(submoduleOne);
-		when(dtoConverter.apply(new SubmoduleId(2L))).thenReturn(submoduleTwo);
+		when(submoduleRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(submoduleOne, submoduleTwo));
 
 		SubmodulePositionUpdates positions = new SubmodulePositionUpdates(
 				List.of(new SubmodulePositionUpdate(new SubmoduleId(1L), 2),
@@ -67,6 +71,18 @@ public class SubmoduleServiceTest {
 		verify(submoduleRepository, times(1)).saveAll(anyList());
 	}
 
+	@Test
+	public void updatePositionsMissingSubmodule() {
+		when(submoduleRepository.findAllById(Set.of(1L, 2L))).thenReturn(List.of(submodule(1L, 0)));
+
+		SubmodulePositionUpdates positions = new SubmodulePositionUpdates(
+				List.of(new SubmodulePositionUpdate(new SubmoduleId(1L), 2),
+						new SubmodulePositionUpdate(new SubmoduleId(2L), 4)));
+
+		assertThrows(ResourceNotFoundException.class, () -> submoduleService.updatePositions(positions));
+		verify(submoduleRepository, never()).saveAll(any());
+	}
+
 	private static Submodule submodule(Long id, Integer column) {
 		return Submodule.builder()
 				.id(id)
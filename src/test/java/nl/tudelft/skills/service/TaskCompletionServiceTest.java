@@ -0,0 +1,189 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import nl.tudelft.skills.cache.EditionCompletions;
+import nl.tudelft.skills.cache.EditionGraph;
+import nl.tudelft.skills.dto.AfterTaskCompletionCircuitUpdate;
+import nl.tudelft.skills.enums.ViewMode;
+import nl.tudelft.skills.model.*;
+import nl.tudelft.skills.repository.*;
+
+@Transactional
+@SpringBootTest()
+public class TaskCompletionServiceTest {
+
+	private final TaskCompletionService taskCompletionService;
+	private final TaskCompletionRepository taskCompletionRepository;
+	private final EditionRepository editionRepository;
+	private final ModuleRepository moduleRepository;
+	private final SubmoduleRepository submoduleRepository;
+	private final SkillRepository skillRepository;
+	private final RegularTaskRepository regularTaskRepository;
+	private final ChoiceTaskRepository choiceTaskRepository;
+	private final TaskInfoRepository taskInfoRepository;
+	private final PersonRepository personRepository;
+
+	private final EditionCompletionService editionCompletionService;
+	private final HiddenSkillRevealingService hiddenSkillRevealingService;
+
+	private SCEdition edition;
+	private Skill skill;
+	private SCPerson person;
+	private TaskInfo task;
+	private ChoiceTask choiceTask;
+
+	@Autowired
+	public TaskCompletionServiceTest(TaskCompletionRepository taskCompletionRepository,
+			EditionRepository editionRepository, ModuleRepository moduleRepository,
+			SubmoduleRepository submoduleRepository, SkillRepository skillRepository,
+			RegularTaskRepository regularTaskRepository, ChoiceTaskRepository choiceTaskRepository,
+			TaskInfoRepository taskInfoRepository, PersonRepository personRepository,
+			ArchivedTaskCompletionRepository archivedTaskCompletionRepository) {
+		this.taskCompletionRepository = taskCompletionRepository;
+		this.editionRepository = editionRepository;
+		this.moduleRepository = moduleRepository;
+		this.submoduleRepository = submoduleRepository;
+		this.skillRepository = skillRepository;
+		this.regularTaskRepository = regularTaskRepository;
+		this.choiceTaskRepository = choiceTaskRepository;
+		this.taskInfoRepository = taskInfoRepository;
+		this.personRepository = personRepository;
+		this.editionCompletionService = mock(EditionCompletionService.class);
+
+		this.hiddenSkillRevealingService = mock(HiddenSkillRevealingService.class);
+		when(hiddenSkillRevealingService.revealSkillsAfterTaskCompletion(any(), any(), any(), any()))
+				.thenReturn(Set.of());
+		taskCompletionService = new TaskCompletionService(taskCompletionRepository,
+				archivedTaskCompletionRepository, hiddenSkillRevealingService, editionCompletionService,
+				new SkillStateService(), mock(PathService.class));
+	}
+
+	@BeforeEach
+	public void setUp() {
+		edition = editionRepository.save(SCEdition.builder().id(1L).build());
+		SCModule module = moduleRepository.save(SCModule.builder().name("Module").edition(edition).build());
+		edition.getModules().add(module);
+		Submodule submodule = submoduleRepository.save(Submodule.builder().name("Submodule").module(module)
+				.build());
+		module.getSubmodules().add(submodule);
+		skill = skillRepository.save(Skill.builder().name("Skill").submodule(submodule).build());
+		submodule.getSkills().add(skill);
+
+		task = TaskInfo.builder().name("Task").build();
+		RegularTask regularTask = RegularTask.builder().skill(skill).taskInfo(task).build();
+		task.setTask(regularTask);
+		skill.getTasks().add(regularTaskRepository.save(regularTask));
+		taskInfoRepository.save(task);
+
+		choiceTask = choiceTaskRepository.save(ChoiceTask.builder().skill(skill).idx(1).build());
+		skill.getTasks().add(choiceTask);
+		for (int i = 0; i < 3; i++) {
+			choiceTask.getTasks().add(taskInfoRepository.save(TaskInfo.builder().name("Choice " + i)
+					.choiceTask(choiceTask).build()));
+		}
+
+		person = personRepository.save(SCPerson.builder().id(1L).viewMode(ViewMode.VIEWER)
+				.preferences(PersonalPreferences.builder().build()).build());
+
+		when(editionCompletionService.getCompletions(any(SCPerson.class), any(TaskInfo.class)))
+				.thenReturn(EditionCompletions.of(EditionGraph.compile(edition), List.of()));
+		when(editionCompletionService.getCompletions(any(SCPerson.class), any(Task.class)))
+				.thenReturn(EditionCompletions.of(EditionGraph.compile(edition), List.of()));
+	}
+
+	@Test
+	public void completeTaskTwiceSavesOneCompletion() {
+		taskCompletionService.completeTask(person, task);
+		taskCompletionService.completeTask(person, task);
+
+		assertThat(taskCompletionRepository.findAll()).singleElement()
+				.satisfies(completion -> assertThat(completion.getTask()).isEqualTo(task))
+				.satisfies(completion -> assertThat(completion.getPerson()).isEqualTo(person));
+	}
+
+	@Test
+	public void uncompleteTaskDeletesCompletion() {
+		taskCompletionService.completeTask(person, task);
+
+		taskCompletionService.uncompleteTask(person, task);
+
+		assertThat(taskCompletionRepository.count()).isZero();
+	}
+
+	@Test
+	public void completeTaskReportsSkillsWhoseStateChanged() {
+		skill.setColumn(0);
+		Skill child = skillRepository.save(Skill.builder().name("Child").submodule(skill.getSubmodule())
+				.column(1).build());
+		child.getParents().add(skill);
+		skill.getChildren().add(child);
+		skill.getSubmodule().getSkills().add(child);
+		EditionGraph graph = EditionGraph.compile(edition);
+		when(editionCompletionService.getCompletions(any(SCPerson.class), any(TaskInfo.class)))
+				.thenReturn(EditionCompletions.of(graph, List.of(choiceTask.getTasks().getFirst().getId())));
+
+		AfterTaskCompletionCircuitUpdate update = taskCompletionService.completeTask(person, task);
+
+		assertThat(update.changedSkills()).containsExactly(
+				new AfterTaskCompletionCircuitUpdate.SkillState(skill.getId(), true, false),
+				new AfterTaskCompletionCircuitUpdate.SkillState(child.getId(), true, false));
+		verify(hiddenSkillRevealingService).revealSkillsAfterTaskCompletion(eq(task), eq(person),
+				argThat(completions -> completions.isCompleted(task)),
+				argThat(states -> states.isCompleted(graph.indexOfSkill(skill.getId()))));
+	}
+
+	@Test
+	public void completeSubtasksSavesEachSubtaskOnce() {
+		TaskInfo first = choiceTask.getTasks().get(0);
+		TaskInfo second = choiceTask.getTasks().get(1);
+		taskCompletionService.completeTask(person, first);
+
+		taskCompletionService.completeSubtasks(person, choiceTask, Set.of(first.getId(), second.getId()));
+
+		assertThat(taskCompletionRepository.findAll()).extracting(TaskCompletion::getTask)
+				.containsExactlyInAnyOrder(first, second);
+	}
+
+	@Test
+	public void completeSubtasksRejectsOtherTasks() {
+		assertThatThrownBy(() -> taskCompletionService.completeSubtasks(person, choiceTask,
+				Set.of(choiceTask.getTasks().get(0).getId(), task.getId())))
+				.isInstanceOf(ResponseStatusException.class);
+
+		assertThat(taskCompletionRepository.count()).isZero();
+	}
+
+}
@@ -25,20 +25,21 @@ import java.time.LocalDateTime;
 import org.junit.jupiter.api.Test;
 
 import nl.tudelft.librador.dto.DTOConverter;
+import nl.tudelft.skills.cache.EditionGraphCache;
 import nl.tudelft.skills.model.TaskInfo;
 import nl.tudelft.skills.repository.RegularTaskRepository;
 import nl.tudelft.skills.repository.TaskInfoRepository;
-import nl.tudelft.skills.repository.TaskRepository;
 
 public class TaskInfoServiceTest {
 
 	private final TaskInfoRepository taskInfoRepository = mock(TaskInfoRepository.class);
-	private final TaskRepository taskRepository = mock(TaskRepository.class);
 	private final RegularTaskRepository regularTaskRepository = mock(RegularTaskRepository.class);
+	private final TaskOrderingService taskOrderingService = mock(TaskOrderingService.class);
 	private final DTOConverter dtoConverter = mock(DTOConverter.class);
+	private final EditionGraphCache editionGraphCache = mock(EditionGraphCache.class);
 
-	private final TaskInfoService taskInfoService = new TaskInfoService(taskInfoRepository, taskRepository,
-			regularTaskRepository, dtoConverter);
+	private final TaskInfoService taskInfoService = new TaskInfoService(taskInfoRepository,
+			regularTaskRepository, taskOrderingService, dtoConverter, editionGraphCache);
 
 	@Test
 	public void setTaskDeadlineUpdatesAndSavesDeadline() {
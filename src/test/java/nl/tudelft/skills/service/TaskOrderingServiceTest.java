@@ -0,0 +1,193 @@
+/*
+ * Skill Circuits
+ * Copyright (C) 2025 - Delft University of Technology
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Affero General Public License as
+ * published by the Free Software Foundation, either version 3 of the
+ * License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Affero General Public License for more details.
+ *
+ * You should have received a copy of the GNU Affero General Public License
+ * along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package nl.tudelft.skills.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.hibernate.Cache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import nl.tudelft.skills.model.*;
+import nl.tudelft.skills.repository.*;
+
+@Transactional
+@SpringBootTest(properties = { "skill-circuits.task-ordering.min-gap=32",
+		"skill-circuits.task-ordering.space-out-interval=3600000" })
+public class TaskOrderingServiceTest {
+
+	private final TaskOrderingService taskOrderingService;
+	private final EditionRepository editionRepository;
+	private final ModuleRepository moduleRepository;
+	private final SubmoduleRepository submoduleRepository;
+	private final SkillRepository skillRepository;
+	private final RegularTaskRepository regularTaskRepository;
+	private final TaskRepository taskRepository;
+	private final TaskInfoRepository taskInfoRepository;
+	private final EntityManager entityManager;
+	private final Cache cache;
+	private final TransactionTemplate transactionTemplate;
+	private final TransactionTemplate newTransactionTemplate;
+
+	private Skill skill;
+
+	@Autowired
+	public TaskOrderingServiceTest(TaskOrderingService taskOrderingService,
+			EditionRepository editionRepository, ModuleRepository moduleRepository,
+			SubmoduleRepository submoduleRepository, SkillRepository skillRepository,
+			RegularTaskRepository regularTaskRepository, TaskRepository taskRepository,
+			TaskInfoRepository taskInfoRepository, EntityManager entityManager,
+			EntityManagerFactory entityManagerFactory, PlatformTransactionManager transactionManager) {
+		this.taskOrderingService = taskOrderingService;
+		this.editionRepository = editionRepository;
+		this.moduleRepository = moduleRepository;
+		this.submoduleRepository = submoduleRepository;
+		this.skillRepository = skillRepository;
+		this.regularTaskRepository = regularTaskRepository;
+		this.taskRepository = taskRepository;
+		this.taskInfoRepository = taskInfoRepository;
+		this.entityManager = entityManager;
+		this.cache = entityManagerFactory.getCache().unwrap(Cache.class);
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	@BeforeEach
+	public void setUp() {
+		SCEdition edition = editionRepository.save(SCEdition.builder().id(1L).build());
+		SCModule module = moduleRepository.save(SCModule.builder().name("Module").edition(edition).build());
+		Submodule submodule = submoduleRepository.save(Submodule.builder().name("Submodule").module(module)
+				.build());
+		skill = skillRepository.save(Skill.builder().name("Skill").submodule(submodule).build());
+	}
+
+	@AfterEach
+	public void tearDown() {
+		taskInfoRepository.deleteAllInBatch();
+		taskRepository.deleteAllInBatch();
+		skillRepository.deleteAll();
+		submoduleRepository.deleteAll();
+		moduleRepository.deleteAll();
+		editionRepository.deleteAllById(List.of(1L));
+	}
+
+	@Test
+	public void nextIndexIsAfterLastTask() {
+		assertThat(taskOrderingService.nextIndex(skill)).isEqualTo(0);
+
+		addTasks(0, 1024, 4096);
+
+		assertThat(taskOrderingService.nextIndex(skill)).isEqualTo(4096 + TaskOrderingService.GAP);
+	}
+
+	@Test
+	public void placeOnlyChangesMovedTask() {
+		List<Task> tasks = addTasks(0, 1024, 2048);
+
+		taskOrderingService.place(tasks.get(2), skill, 1);
+		assertThat(tasks).extracting(Task::getIdx).containsExactly(0, 1024, 512);
+
+		taskOrderingService.place(tasks.get(0), skill, 2);
+		assertThat(tasks).extracting(Task::getIdx).containsExactly(2048, 1024, 512);
+
+		taskOrderingService.place(tasks.get(1), skill, 0);
+		assertThat(tasks).extracting(Task::getIdx).containsExactly(2048, 512 - TaskOrderingService.GAP, 512);
+	}
+
+	@Test
+	public void placeSpacesOutTasksWithoutFreeIndex() {
+		List<Task> tasks = addTasks(0, 1, 2);
+		RegularTask task = RegularTask.builder().skill(skill).build();
+
+		taskOrderingService.place(task, skill, 2);
+
+		assertThat(tasks).extracting(Task::getIdx).containsExactly(0, 1024, 2048);
+		assertThat(task.getIdx()).isEqualTo(1536);
+	}
+
+	@Test
+	public void placeSpacesOutCommittedOrderOfTasks() {
+		List<Task> tasks = addTasks(0, 1, 2);
+		// Another request moves the first task to the end after the tasks were loaded
+		entityManager.flush();
+		entityManager.createNativeQuery("update task set idx = 3 where id = :id")
+				.setParameter("id", tasks.get(0).getId()).executeUpdate();
+		RegularTask task = RegularTask.builder().skill(skill).build();
+
+		taskOrderingService.place(task, skill, 1);
+
+		assertThat(tasks).extracting(Task::getIdx).containsExactly(2 * TaskOrderingService.GAP, 0,
+				TaskOrderingService.GAP);
+		assertThat(task.getIdx()).isEqualTo(-TaskOrderingService.GAP);
+	}
+
+	@Test
+	public void spaceOutCrowdedSkills() {
+		List<Task> tasks = addTasks(0, 10, 20, 2048);
+
+		taskOrderingService.spaceOutCrowdedSkills();
+
+		assertThat(tasks).extracting(task -> taskRepository.findByIdOrThrow(task.getId()).getIdx())
+				.containsExactly(0, 1024, 2048, 3072);
+	}
+
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void placeEvictsTaskOrderCachedBeforeCommit() {
+		List<Task> tasks = addTasks(0, 1024);
+		String role = Skill.class.getName() + ".tasks";
+
+		transactionTemplate.executeWithoutResult(status -> {
+			taskOrderingService.place(taskRepository.findByIdOrThrow(tasks.get(1).getId()),
+					skillRepository.findByIdOrThrow(skill.getId()), 0);
+			// A concurrent request caches the order that is still committed
+			newTransactionTemplate.executeWithoutResult(
+					other -> skillRepository.findByIdOrThrow(skill.getId()).getTasks().size());
+			assertThat(cache.containsCollection(role, skill.getId())).isTrue();
+		});
+
+		assertThat(cache.containsCollection(role, skill.getId())).isFalse();
+		transactionTemplate.executeWithoutResult(status -> assertThat(
+				skillRepository.findByIdOrThrow(skill.getId()).getTasks()).extracting(Task::getId)
+				.containsExactly(tasks.get(1).getId(), tasks.get(0).getId()));
+	}
+
+	private List<Task> addTasks(int... indices) {
+		for (int index : indices) {
+			TaskInfo taskInfo = TaskInfo.builder().name("Task " + index).build();
+			RegularTask task = RegularTask.builder().skill(skill).idx(index).taskInfo(taskInfo).build();
+			taskInfo.setTask(task);
+			skill.getTasks().add(regularTaskRepository.save(task));
+		}
+		return List.copyOf(skill.getTasks());
+	}
+}